@@ -0,0 +1,112 @@
+package com.kh.sbilyhour.benchmark_module;
+
+import com.kh.sbilyhour.common_module.domain.utils.ClockService;
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import com.kh.sbilyhour.users_module.application.use_case.CreateUserUseCase;
+import com.kh.sbilyhour.users_module.infrastructure.cache.PhoneNumberIndex;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserCache;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserNameFilter;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserNameSearchIndex;
+import com.kh.sbilyhour.users_module.infrastructure.event.UserRegisteredEvents;
+import com.kh.sbilyhour.users_module.infrastructure.mapper.RegisterUserMapper;
+import com.kh.sbilyhour.users_module.infrastructure.metrics.UserRegistrationMetrics;
+import com.kh.sbilyhour.users_module.infrastructure.service.ReactiveRegisterUserService;
+import com.kh.sbilyhour.users_module.infrastructure.service.RegisterUserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link CreateUserUseCase#execute} against an
+ * {@link InMemoryUserRepository}: duplicate check, mapping and save, without a
+ * database or Spring context. Every invocation registers a new name.
+ * {@link #executeReactive} runs the non-blocking path against the same users,
+ * showing the cost of the reactive plumbing alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateUserUseCaseBenchmark {
+
+    private InMemoryUserRepository userRepository;
+    private UserNameFilter userNameFilter;
+    private PhoneNumberIndex phoneNumberIndex;
+    private UserNameSearchIndex userNameSearchIndex;
+    private CreateUserUseCase createUserUseCase;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        userRepository = new InMemoryUserRepository();
+        userNameFilter = new UserNameFilter(userRepository, new NoOpTransactionManager(), meterRegistry,
+                true, 1_000_000, 0.01);
+        ClockService clockService = new ClockService(Clock.systemDefaultZone());
+        UserCache userCache = new UserCache(meterRegistry, 10_000, Duration.ofMinutes(10), Duration.ofSeconds(5));
+        phoneNumberIndex = new PhoneNumberIndex(userRepository, new NoOpTransactionManager(),
+                meterRegistry, true);
+        userNameSearchIndex = new UserNameSearchIndex(userRepository, new NoOpTransactionManager(),
+                meterRegistry, true, 0.5);
+        RegisterUserService registerUserService = new RegisterUserService(userRepository,
+                Mappers.getMapper(RegisterUserMapper.class), clockService, userNameFilter, userCache, phoneNumberIndex,
+                userNameSearchIndex, new UserRegisteredEvents(null, new NoOpTransactionManager(), List.of(),
+                meterRegistry, false, 1024, 256, Duration.ofSeconds(1), Duration.ofSeconds(30)));
+        ReactiveRegisterUserService reactiveRegisterUserService = new ReactiveRegisterUserService(
+                new ReactiveInMemoryUserRepository(userRepository), Mappers.getMapper(RegisterUserMapper.class),
+                clockService, userNameFilter, userCache, phoneNumberIndex, userNameSearchIndex);
+        createUserUseCase = new CreateUserUseCase(registerUserService, reactiveRegisterUserService,
+                new UserRegistrationMetrics(meterRegistry));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetUsers() {
+        userRepository.clear();
+        userNameFilter.rebuild();
+        phoneNumberIndex.rebuild();
+        userNameSearchIndex.rebuild();
+    }
+
+    @Benchmark
+    public UserDTO execute() {
+        return createUserUseCase.execute(new RegisterUserRequest("John Doe " + counter++, "012345678", "M"));
+    }
+
+    @Benchmark
+    public UserDTO executeReactive() {
+        return createUserUseCase.executeReactive(new RegisterUserRequest("John Doe " + counter++, "012345678", "M")).block();
+    }
+
+    /**
+     * Transaction manager that does nothing, for the filter and index rebuilds.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, org.springframework.transaction.TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.kh.sbilyhour.benchmark_module;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.common_module.domain.model.ResponseWrapper;
+import com.kh.sbilyhour.common_module.domain.utils.JsonPointerExtractor;
+import com.kh.sbilyhour.common_module.infrastructure.metrics.ExceptionMetrics;
+import com.kh.sbilyhour.common_module.infrastructure.exception.ExceptionResponseHandler;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import com.kh.sbilyhour.users_module.domain.exception.UserAlreadyExistsException;
+import com.kh.sbilyhour.users_module.interface_adapter.controller.UsersController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The error path of {@link ExceptionResponseHandler}: creating the exception,
+ * as the application does, and turning it into the error envelope.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private ExceptionResponseHandler handler;
+    private MethodParameter createUserParameter;
+    private RegisterUserRequest invalidRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new ExceptionResponseHandler(new JsonPointerExtractor(new ObjectMapper(), 65536),
+                new ExceptionMetrics(new SimpleMeterRegistry()));
+        createUserParameter = new MethodParameter(
+                UsersController.class.getMethod("createUser", RegisterUserRequest.class), 0);
+        invalidRequest = new RegisterUserRequest("", "12-34", "X");
+    }
+
+    @Benchmark
+    public ResponseEntity<ResponseWrapper<HttpError>> duplicateUser() {
+        return handler.handleConflict(UserAlreadyExistsException.INSTANCE);
+    }
+
+    @Benchmark
+    public ResponseEntity<ResponseWrapper<HttpError>> runtimeException() {
+        RuntimeException exception = new RuntimeException("Something went wrong.");
+        return handler.handleRuntimeException(exception);
+    }
+
+    @Benchmark
+    public ResponseEntity<ResponseWrapper<HttpError>> invalidArguments() {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(invalidRequest, "registerUserRequest");
+        bindingResult.rejectValue("fullName", "NotEmpty", "Full name is require!");
+        bindingResult.rejectValue("phoneNumber", "Pattern", "Phone number must be between 8 and 12 digits");
+        bindingResult.rejectValue("gender", "Pattern", "Gender must be 'M' or 'F'");
+        MethodArgumentNotValidException exception = new MethodArgumentNotValidException(createUserParameter, bindingResult);
+        return handler.handleValidationExceptions(exception);
+    }
+}
@@ -0,0 +1,143 @@
+package com.kh.sbilyhour.benchmark_module;
+
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.projection.UserNormalizedFullName;
+import com.kh.sbilyhour.users_module.domain.projection.UserPhoneNumber;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * {@link UserRepository} kept in a map, so use case benchmarks measure the
+ * application code rather than the database.
+ */
+public class InMemoryUserRepository implements UserRepository {
+
+    private final Map<String, User> usersByNormalizedName = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public Optional<User> findById(Long id) {
+        return usersByNormalizedName.values().stream()
+                .filter(user -> user.getId().equals(id))
+                .findFirst();
+    }
+
+    @Override
+    public Optional<User> findByFullName(String fullName) {
+        return usersByNormalizedName.values().stream()
+                .filter(user -> user.getFullName().equals(fullName))
+                .findFirst();
+    }
+
+    @Override
+    public boolean existsByNormalizedFullName(String normalizedFullName) {
+        return usersByNormalizedName.containsKey(normalizedFullName);
+    }
+
+    @Override
+    public List<String> findExistingNormalizedFullNames(Collection<String> normalizedFullNames) {
+        List<String> existing = new ArrayList<>();
+        for (String normalizedFullName : normalizedFullNames) {
+            if (usersByNormalizedName.containsKey(normalizedFullName)) {
+                existing.add(normalizedFullName);
+            }
+        }
+        return existing;
+    }
+
+    @Override
+    public Stream<String> streamAllNormalizedFullNames() {
+        return usersByNormalizedName.keySet().stream();
+    }
+
+    @Override
+    public Stream<UserNormalizedFullName> streamAllNormalizedFullNamesInIdOrder() {
+        return usersByNormalizedName.values().stream()
+                .sorted(Comparator.comparing(User::getId))
+                .map(user -> new UserNormalizedFullName(user.getId(), user.getNormalizedFullName()));
+    }
+
+    @Override
+    public Optional<User> findFirstByPhoneNumberOrderByIdAsc(String phoneNumber) {
+        return usersByNormalizedName.values().stream()
+                .filter(user -> user.getPhoneNumber().equals(phoneNumber))
+                .min(Comparator.comparing(User::getId));
+    }
+
+    @Override
+    public Stream<UserPhoneNumber> streamAllPhoneNumbers() {
+        return usersByNormalizedName.values().stream()
+                .map(user -> new UserPhoneNumber(user.getId(), user.getPhoneNumber()));
+    }
+
+    @Override
+    public List<UserSummary> findSummariesByIdGreaterThan(long afterId, Limit limit) {
+        try (Stream<UserSummary> summaries = streamSummariesByIdGreaterThan(afterId)) {
+            return summaries.limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE).toList();
+        }
+    }
+
+    @Override
+    public Stream<UserSummary> streamSummariesByIdGreaterThan(long afterId) {
+        return usersByNormalizedName.values().stream()
+                .filter(user -> user.getId() > afterId)
+                .sorted(Comparator.comparing(User::getId))
+                .map(user -> new UserSummary(user.getId(), user.getFullName(), user.getPhoneNumber(), user.getGender()));
+    }
+
+    @Override
+    public List<UserSummary> findSummariesByIdIn(Collection<Long> ids) {
+        return usersByNormalizedName.values().stream()
+                .filter(user -> ids.contains(user.getId()))
+                .map(user -> new UserSummary(user.getId(), user.getFullName(), user.getPhoneNumber(), user.getGender()))
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return usersByNormalizedName.size();
+    }
+
+    @Override
+    public <S extends User> S save(S user) {
+        user.setNormalizedFullName(FullNameNormalizer.normalize(user.getFullName()));
+        if (user.getId() == null) {
+            user.setId(sequence.incrementAndGet());
+        }
+        usersByNormalizedName.put(user.getNormalizedFullName(), user);
+        return user;
+    }
+
+    @Override
+    public <S extends User> S saveAndFlush(S user) {
+        return save(user);
+    }
+
+    @Override
+    public <S extends User> List<S> saveAll(Iterable<S> users) {
+        List<S> saved = new ArrayList<>();
+        for (S user : users) {
+            saved.add(save(user));
+        }
+        return saved;
+    }
+
+    /**
+     * Removes all users.
+     */
+    public void clear() {
+        usersByNormalizedName.clear();
+    }
+}
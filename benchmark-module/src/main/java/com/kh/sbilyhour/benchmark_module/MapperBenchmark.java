@@ -0,0 +1,50 @@
+package com.kh.sbilyhour.benchmark_module;
+
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.infrastructure.mapper.RegisterUserMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The MapStruct {@link RegisterUserMapper} conversions done on every registration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private RegisterUserMapper mapper;
+    private RegisterUserRequest request;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        mapper = Mappers.getMapper(RegisterUserMapper.class);
+        request = new RegisterUserRequest("John Doe", "012345678", "M");
+        user = User.builder()
+                .id(42L)
+                .fullName("John Doe")
+                .normalizedFullName("john doe")
+                .phoneNumber("012345678")
+                .gender("M")
+                .createDate("2024-01-01T00:00:00Z")
+                .build();
+    }
+
+    @Benchmark
+    public User toEntity() {
+        return mapper.toEntity(request);
+    }
+
+    @Benchmark
+    public UserDTO toDTO() {
+        return mapper.toDTO(user);
+    }
+}
@@ -0,0 +1,112 @@
+package com.kh.sbilyhour.benchmark_module;
+
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserNameSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UserNameSearchIndex} searches with misspelled full names and with
+ * name prefixes, and a full rebuild of the index, over {@link #users} users
+ * with two-word names made of generated syllables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class NameSearchIndexBenchmark {
+
+    private static final String[] ONSETS = {"b", "ch", "d", "h", "k", "kh", "l", "m", "n", "ng", "p", "ph", "r", "s",
+            "t", "th", "v", "y"};
+    private static final String[] VOWELS = {"a", "e", "i", "o", "u", "ea", "ou", "ey"};
+    private static final String[] CODAS = {"", "", "n", "ng", "k", "m", "t", "r"};
+
+    @Param({"1000000"})
+    public int users;
+
+    private UserNameSearchIndex userNameSearchIndex;
+    private String[] misspelled;
+    private String[] prefixes;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        Random random = new Random(42);
+        misspelled = new String[1024];
+        prefixes = new String[1024];
+        for (int i = 0; i < users; i++) {
+            String fullName = word(random) + " " + word(random);
+            userRepository.save(User.builder().fullName(fullName).phoneNumber("012345678").gender("M").build());
+            if (i < misspelled.length) {
+                // Drop one letter of the name
+                int dropped = random.nextInt(fullName.length());
+                misspelled[i] = fullName.substring(0, dropped) + fullName.substring(dropped + 1);
+                prefixes[i] = fullName.substring(0, fullName.indexOf(' ') + 3);
+            }
+        }
+        userNameSearchIndex = new UserNameSearchIndex(userRepository, new NoOpTransactionManager(),
+                new SimpleMeterRegistry(), true, 0.5);
+        userNameSearchIndex.rebuild();
+    }
+
+    @Benchmark
+    public long[] searchMisspelled() {
+        return userNameSearchIndex.search(misspelled[counter++ & (misspelled.length - 1)], 10);
+    }
+
+    @Benchmark
+    public long[] searchPrefix() {
+        return userNameSearchIndex.search(prefixes[counter++ & (prefixes.length - 1)], 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public void rebuild() {
+        userNameSearchIndex.rebuild();
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int syllables = 2 + random.nextInt(2); syllables > 0; syllables--) {
+            word.append(ONSETS[random.nextInt(ONSETS.length)])
+                    .append(VOWELS[random.nextInt(VOWELS.length)])
+                    .append(CODAS[random.nextInt(CODAS.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    /**
+     * Transaction manager that does nothing, for the index rebuild.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, org.springframework.transaction.TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.kh.sbilyhour.benchmark_module;
+
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.infrastructure.cache.PhoneNumberIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PhoneNumberIndex} lookups of registered and unknown phone numbers,
+ * and a full rebuild of the index, over {@link #users} users.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhoneNumberIndexBenchmark {
+
+    @Param({"1000000"})
+    public int users;
+
+    private PhoneNumberIndex phoneNumberIndex;
+    private String[] registered;
+    private String[] unknown;
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryUserRepository userRepository = new InMemoryUserRepository();
+        registered = new String[1024];
+        unknown = new String[1024];
+        for (int i = 0; i < users; i++) {
+            String phoneNumber = phoneNumber(i * 2L);
+            userRepository.save(User.builder().fullName("User " + i).phoneNumber(phoneNumber).gender("M").build());
+            if (i < registered.length) {
+                registered[i] = phoneNumber;
+                unknown[i] = phoneNumber(i * 2L + 1);
+            }
+        }
+        phoneNumberIndex = new PhoneNumberIndex(userRepository, new NoOpTransactionManager(), new SimpleMeterRegistry(), true);
+        phoneNumberIndex.rebuild();
+    }
+
+    @Benchmark
+    public OptionalLong findRegistered() {
+        return phoneNumberIndex.find(registered[counter++ & (registered.length - 1)]);
+    }
+
+    @Benchmark
+    public OptionalLong findUnknown() {
+        return phoneNumberIndex.find(unknown[counter++ & (unknown.length - 1)]);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public void rebuild() {
+        phoneNumberIndex.rebuild();
+    }
+
+    private static String phoneNumber(long number) {
+        return String.format("0%08d", number);
+    }
+
+    /**
+     * Transaction manager that does nothing, for the index rebuild.
+     */
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, org.springframework.transaction.TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
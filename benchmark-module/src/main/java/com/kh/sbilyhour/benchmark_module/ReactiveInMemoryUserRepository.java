@@ -0,0 +1,64 @@
+package com.kh.sbilyhour.benchmark_module;
+
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.domain.repository.ReactiveUserRepository;
+import org.springframework.data.domain.Limit;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * {@link ReactiveUserRepository} over an {@link InMemoryUserRepository}, so
+ * the blocking and reactive paths of a use case are benchmarked against the
+ * same users. Every call completes synchronously.
+ */
+public class ReactiveInMemoryUserRepository implements ReactiveUserRepository {
+
+    private final InMemoryUserRepository userRepository;
+
+    public ReactiveInMemoryUserRepository(InMemoryUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return Mono.justOrEmpty(userRepository.findById(id));
+    }
+
+    @Override
+    public Mono<User> findByFullName(String fullName) {
+        return Mono.justOrEmpty(userRepository.findByFullName(fullName));
+    }
+
+    @Override
+    public Mono<User> findFirstByPhoneNumber(String phoneNumber) {
+        return Mono.justOrEmpty(userRepository.findFirstByPhoneNumberOrderByIdAsc(phoneNumber));
+    }
+
+    @Override
+    public Mono<Boolean> existsByNormalizedFullName(String normalizedFullName) {
+        return Mono.just(userRepository.existsByNormalizedFullName(normalizedFullName));
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByIdGreaterThan(long afterId, int limit) {
+        return Flux.fromIterable(userRepository.findSummariesByIdGreaterThan(afterId, Limit.of(limit)));
+    }
+
+    @Override
+    public Flux<UserSummary> streamSummariesByIdGreaterThan(long afterId) {
+        return Flux.fromStream(() -> userRepository.streamSummariesByIdGreaterThan(afterId));
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByIdIn(Collection<Long> ids) {
+        return Flux.fromIterable(userRepository.findSummariesByIdIn(ids));
+    }
+
+    @Override
+    public Mono<User> insert(User user) {
+        return Mono.fromSupplier(() -> userRepository.save(user));
+    }
+}
@@ -0,0 +1,102 @@
+package com.kh.sbilyhour.benchmark_module;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.kh.sbilyhour.common_module.domain.error.Error;
+import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.common_module.domain.model.ResponseWrapper;
+import com.kh.sbilyhour.common_module.domain.status.Status;
+import com.kh.sbilyhour.common_module.infrastructure.json.ResponseEnvelopeSerializers;
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the {@link ResponseWrapper} envelope, for a
+ * successful registration and for an error response.
+ * <p>
+ * {@code envelopeSerializers} switches between the annotation-driven bean
+ * serializers and {@link ResponseEnvelopeSerializers}. The {@code *ToStream}
+ * variants write to a discarding stream, as the HTTP message converter writes
+ * to the response, so that {@code -prof gc} ({@code gc.alloc.rate.norm})
+ * reports the bytes allocated per response by serialization alone.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"false", "true"})
+    public boolean envelopeSerializers;
+
+    private ObjectMapper objectMapper;
+    private final OutputStream responseStream = new DiscardingOutputStream();
+    private ResponseWrapper<RegisterUserResponse> successResponse;
+    private ResponseWrapper<HttpError> errorResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        if (envelopeSerializers) {
+            objectMapper.registerModule(new SimpleModule()
+                    .addSerializer(new ResponseEnvelopeSerializers.ResponseWrapperSerializer())
+                    .addSerializer(new ResponseEnvelopeSerializers.HttpErrorSerializer())
+                    .addSerializer(new ResponseEnvelopeSerializers.StatusSerializer()));
+        }
+        UserDTO user = new UserDTO(42L, "John Doe", "012345678", "M");
+        successResponse = ResponseWrapper.<RegisterUserResponse>builder()
+                .data(RegisterUserResponse.builder().user(user).build())
+                .build();
+        HttpError httpError = HttpError.builder()
+                .code(409)
+                .errors(List.of(new Error("User with the same name already exists.")))
+                .build();
+        errorResponse = ResponseWrapper.<HttpError>builder().status(Status.FAIL).error(httpError).build();
+    }
+
+    @Benchmark
+    public byte[] successEnvelope() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(successResponse);
+    }
+
+    @Benchmark
+    public byte[] errorEnvelope() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public void successEnvelopeToStream() throws IOException {
+        objectMapper.writeValue(responseStream, successResponse);
+    }
+
+    @Benchmark
+    public void errorEnvelopeToStream() throws IOException {
+        objectMapper.writeValue(responseStream, errorResponse);
+    }
+
+    /**
+     * Discards everything and, like the servlet response stream handed to the
+     * message converter, cannot be closed by the generator.
+     */
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
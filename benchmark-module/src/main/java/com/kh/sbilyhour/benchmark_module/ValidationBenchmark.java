@@ -0,0 +1,68 @@
+package com.kh.sbilyhour.benchmark_module;
+
+import com.kh.sbilyhour.common_module.infrastructure.validation.PrecompiledValidator;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.Errors;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of {@link RegisterUserRequest}, including its {@code @Pattern}
+ * regular expressions, for a valid request and for one violating every constraint,
+ * with Hibernate Validator and with the {@link PrecompiledValidator} used for
+ * {@code @Valid} request bodies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private PrecompiledValidator precompiledValidator;
+    private RegisterUserRequest validRequest;
+    private RegisterUserRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        precompiledValidator = new PrecompiledValidator(validator);
+        validRequest = new RegisterUserRequest("John Doe", "012345678", "M");
+        invalidRequest = new RegisterUserRequest("", "12-34", "X");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterUserRequest>> validRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterUserRequest>> invalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+
+    @Benchmark
+    public Errors precompiledValidRequest() {
+        return precompiledValidator.validateObject(validRequest);
+    }
+
+    @Benchmark
+    public Errors precompiledInvalidRequest() {
+        return precompiledValidator.validateObject(invalidRequest);
+    }
+}
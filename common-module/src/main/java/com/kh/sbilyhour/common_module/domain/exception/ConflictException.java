@@ -0,0 +1,14 @@
+package com.kh.sbilyhour.common_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.status.Status;
+
+/**
+ * Signals that a request conflicts with the current state of a resource,
+ * e.g. a unique value that is already taken. Mapped to 409 Conflict.
+ */
+public class ConflictException extends DomainException {
+
+    public ConflictException(String message) {
+        super(message, Status.FAIL, 409);
+    }
+}
@@ -0,0 +1,70 @@
+package com.kh.sbilyhour.common_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.error.Error;
+import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.common_module.domain.model.ResponseWrapper;
+import com.kh.sbilyhour.common_module.domain.status.Status;
+
+import java.util.List;
+
+/**
+ * Base class for expected business outcomes that end a request, such as a
+ * duplicate or a missing resource.
+ * <p>
+ * Domain exceptions are stackless: suppression and stack trace capture are
+ * disabled, so creating one costs no more than a plain object. Subclasses with
+ * a constant message should expose a single preallocated instance instead of
+ * creating a new exception on every throw. The error envelope returned to the
+ * client is built once per instance and then reused.
+ * </p>
+ */
+public abstract class DomainException extends RuntimeException {
+
+    private final Status status;
+    private final int code;
+    private transient volatile ResponseWrapper<HttpError> responseBody;
+
+    /**
+     * @param message the error message returned to the client
+     * @param status  the status of the error envelope
+     * @param code    the HTTP status code of the response
+     */
+    protected DomainException(String message, Status status, int code) {
+        super(message, null, false, false);
+        this.status = status;
+        this.code = code;
+    }
+
+    /**
+     * @return the status of the error envelope
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the HTTP status code of the response
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the error envelope for this exception. It is created on first
+     * use and shared afterwards, so it must not be modified.
+     *
+     * @return the error envelope
+     */
+    public ResponseWrapper<HttpError> getResponseBody() {
+        ResponseWrapper<HttpError> body = responseBody;
+        if (body == null) {
+            HttpError httpError = HttpError.builder()
+                    .code(code)
+                    .errors(List.of(new Error(getMessage())))
+                    .build();
+            body = ResponseWrapper.<HttpError>builder().status(status).error(httpError).build();
+            responseBody = body;
+        }
+        return body;
+    }
+}
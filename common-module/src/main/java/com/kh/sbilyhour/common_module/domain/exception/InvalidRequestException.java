@@ -0,0 +1,14 @@
+package com.kh.sbilyhour.common_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.status.Status;
+
+/**
+ * Signals a request that is well-formed but violates a business rule.
+ * Mapped to 400 Bad Request.
+ */
+public class InvalidRequestException extends DomainException {
+
+    public InvalidRequestException(String message) {
+        super(message, Status.FAIL, 400);
+    }
+}
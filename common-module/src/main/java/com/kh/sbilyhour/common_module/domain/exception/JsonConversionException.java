@@ -0,0 +1,16 @@
+package com.kh.sbilyhour.common_module.domain.exception;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Thrown when a value cannot be read from or written to JSON. Unlike a
+ * {@code null} result, it lets callers tell a parse failure from a JSON
+ * {@code null}.
+ */
+public class JsonConversionException extends UncheckedIOException {
+
+    public JsonConversionException(String message, IOException cause) {
+        super(message, cause);
+    }
+}
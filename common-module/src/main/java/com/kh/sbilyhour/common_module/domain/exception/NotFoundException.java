@@ -0,0 +1,13 @@
+package com.kh.sbilyhour.common_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.status.Status;
+
+/**
+ * Signals that a requested resource does not exist. Mapped to 404 Not Found.
+ */
+public class NotFoundException extends DomainException {
+
+    public NotFoundException(String message) {
+        super(message, Status.FAIL, 404);
+    }
+}
@@ -0,0 +1,15 @@
+package com.kh.sbilyhour.common_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.status.Status;
+
+/**
+ * Signals that a request cannot be accepted right now because the service is
+ * overloaded or shutting down; the client may retry later. Mapped to 503
+ * Service Unavailable.
+ */
+public class ServiceUnavailableException extends DomainException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, Status.FAIL, 503);
+    }
+}
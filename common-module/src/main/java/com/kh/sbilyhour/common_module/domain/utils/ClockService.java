@@ -0,0 +1,93 @@
+package com.kh.sbilyhour.common_module.domain.utils;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Source of the current time for the application.
+ * <p>
+ * Reads the injected {@link Clock}, so tests can control time by providing
+ * a fixed or offset clock. The ISO-8601 form of the current time is cached
+ * for the current millisecond: all calls within the same millisecond, from
+ * any thread, share one format operation and get the same String instance.
+ * Raw epoch values are available for storage and arithmetic.
+ * </p>
+ */
+@Component
+public class ClockService {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private final Clock clock;
+
+    /**
+     * Last formatted timestamp; replaced as a whole so readers never see a torn pair.
+     */
+    private volatile FormattedTimestamp lastFormatted = new FormattedTimestamp(Long.MIN_VALUE, null);
+
+    @Autowired
+    public ClockService(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the current time in milliseconds since the epoch.
+     *
+     * @return the current epoch millisecond
+     */
+    public long currentEpochMilli() {
+        return clock.millis();
+    }
+
+    /**
+     * Returns the current time in seconds since the epoch.
+     *
+     * @return the current epoch second
+     */
+    public long currentEpochSecond() {
+        return Math.floorDiv(clock.millis(), 1000L);
+    }
+
+    /**
+     * Returns the current instant.
+     *
+     * @return the current instant
+     */
+    public Instant now() {
+        return clock.instant();
+    }
+
+    /**
+     * Returns the current date and time formatted as ISO-8601 with offset,
+     * e.g. {@code 2024-09-01T10:15:30.123+07:00}, at millisecond precision.
+     *
+     * @return the formatted current date and time
+     */
+    public String currentFormattedDate() {
+        long epochMilli = clock.millis();
+        FormattedTimestamp cached = lastFormatted;
+        if (cached.epochMilli() == epochMilli) {
+            return cached.formatted();
+        }
+        String formatted = FORMATTER.format(OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), clock.getZone()));
+        lastFormatted = new FormattedTimestamp(epochMilli, formatted);
+        return formatted;
+    }
+
+    /**
+     * Returns the clock this service reads.
+     *
+     * @return the underlying clock
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    private record FormattedTimestamp(long epochMilli, String formatted) {
+    }
+}
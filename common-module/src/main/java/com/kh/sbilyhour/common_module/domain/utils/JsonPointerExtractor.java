@@ -0,0 +1,159 @@
+package com.kh.sbilyhour.common_module.domain.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.sbilyhour.common_module.domain.exception.JsonConversionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Extracts single values from JSON documents by JSON Pointer (RFC 6901),
+ * e.g. {@code /error/message}, without building a tree.
+ * <p>
+ * The document is read token by token and parsing stops at the first value
+ * matching the pointer. At most {@code maxBytes} bytes are read; a value that
+ * only appears after that limit is reported as absent. Only scalar values
+ * (strings, numbers, booleans) are extracted.
+ * </p>
+ */
+@Component
+public class JsonPointerExtractor {
+
+    private final JsonFactory jsonFactory;
+    private final int maxBytes;
+
+    @Autowired
+    public JsonPointerExtractor(ObjectMapper objectMapper,
+                                @Value("${core.json.pointer-extractor.max-bytes:65536}") int maxBytes) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Extracts the scalar value at the given pointer.
+     *
+     * @param json    the JSON document
+     * @param pointer the pointer to the value
+     * @return the value as text, or empty if it is missing, not a scalar or beyond the byte limit
+     * @throws JsonConversionException if the document is not valid JSON
+     */
+    public Optional<String> extractText(byte[] json, JsonPointer pointer) {
+        if (json == null || json.length == 0) {
+            return Optional.empty();
+        }
+        int length = Math.min(json.length, maxBytes);
+        try (JsonParser parser = jsonFactory.createParser(json, 0, length)) {
+            return extract(parser, pointer);
+        } catch (IOException e) {
+            if (length < json.length) {
+                return Optional.empty();
+            }
+            throw new JsonConversionException("Error extracting " + pointer + " from JSON", e);
+        }
+    }
+
+    /**
+     * Extracts the scalar value at the given pointer from a stream. The stream
+     * is read up to the first match or the byte limit, and is not closed.
+     *
+     * @param json    the JSON stream
+     * @param pointer the pointer to the value
+     * @return the value as text, or empty if it is missing, not a scalar or beyond the byte limit
+     * @throws JsonConversionException if the document is not valid JSON or cannot be read
+     */
+    public Optional<String> extractText(InputStream json, JsonPointer pointer) {
+        LimitedInputStream limited = new LimitedInputStream(json, maxBytes);
+        try (JsonParser parser = jsonFactory.createParser(limited)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return extract(parser, pointer);
+        } catch (IOException e) {
+            if (limited.isLimitReached()) {
+                return Optional.empty();
+            }
+            throw new JsonConversionException("Error extracting " + pointer + " from JSON", e);
+        }
+    }
+
+    /**
+     * Extracts the scalar value at the given pointer expression.
+     *
+     * @param json    the JSON document
+     * @param pointer the pointer expression, e.g. {@code /error/message}
+     * @return the value as text, or empty if it is missing, not a scalar or beyond the byte limit
+     * @throws JsonConversionException if the document is not valid JSON
+     */
+    public Optional<String> extractText(byte[] json, String pointer) {
+        return extractText(json, JsonPointer.compile(pointer));
+    }
+
+    private Optional<String> extract(JsonParser parser, JsonPointer pointer) throws IOException {
+        JsonParser filtered = new FilteringParserDelegate(parser, new JsonPointerBasedFilter(pointer),
+                TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false);
+        JsonToken token = filtered.nextToken();
+        if (token == null || !token.isScalarValue() || token == JsonToken.VALUE_NULL) {
+            return Optional.empty();
+        }
+        return Optional.of(filtered.getText());
+    }
+
+    /**
+     * Input stream that reports end of input after a fixed number of bytes.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private int remaining;
+        private boolean limitReached;
+
+        LimitedInputStream(InputStream in, int limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                limitReached = true;
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                limitReached = true;
+                return -1;
+            }
+            int read = super.read(buffer, offset, Math.min(length, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // The caller owns the underlying stream
+        }
+
+        boolean isLimitReached() {
+            return limitReached;
+        }
+    }
+}
@@ -1,22 +1,295 @@
 package com.kh.sbilyhour.common_module.domain.utils;
 
-import com.google.gson.Gson;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kh.sbilyhour.common_module.domain.exception.JsonConversionException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Shared, thread-safe JSON facade.
+ * <p>
+ * Uses the {@link ObjectMapper} configured by Spring Boot for the web layer,
+ * so reading and writing here follows the same rules as request and response
+ * bodies. An {@link ObjectReader} is resolved once per target type and reused
+ * afterwards. Input can be given as {@link InputStream}, {@code byte[]} or
+ * {@link Reader} without building a String first, and large JSON arrays can
+ * be iterated element by element with {@link #readValues}. Streams and
+ * readers passed in are never closed.
+ * </p>
+ * Failures are reported as {@link JsonConversionException}, never as {@code null}.
+ */
 @Component
 public class JsonUtils {
 
-    private static final Logger logger = LoggerFactory.getLogger(JsonUtils.class);
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter streamWriter;
+    private final ConcurrentMap<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public JsonUtils(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.streamWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Reads a value from a JSON string.
+     *
+     * @param json the JSON text
+     * @param type the target type
+     * @return the value, or null if the JSON is {@code null}
+     * @throws JsonConversionException if the JSON cannot be parsed or mapped
+     */
+    public <T> T fromJson(String json, Class<T> type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw failure(type, e);
+        }
+    }
+
+    /**
+     * Reads a value from UTF-8 (or auto-detected) JSON bytes.
+     *
+     * @param json the JSON bytes
+     * @param type the target type
+     * @return the value, or null if the JSON is {@code null}
+     * @throws JsonConversionException if the JSON cannot be parsed or mapped
+     */
+    public <T> T fromJson(byte[] json, Class<T> type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw failure(type, e);
+        }
+    }
+
+    /**
+     * Reads a value from a JSON stream. The stream is not closed.
+     *
+     * @param json the JSON stream
+     * @param type the target type
+     * @return the value, or null if the JSON is {@code null}
+     * @throws JsonConversionException if the JSON cannot be read, parsed or mapped
+     */
+    public <T> T fromJson(InputStream json, Class<T> type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw failure(type, e);
+        }
+    }
+
+    /**
+     * Reads a value from a character stream. The reader is not closed.
+     *
+     * @param json the JSON reader
+     * @param type the target type
+     * @return the value, or null if the JSON is {@code null}
+     * @throws JsonConversionException if the JSON cannot be read, parsed or mapped
+     */
+    public <T> T fromJson(Reader json, Class<T> type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw failure(type, e);
+        }
+    }
+
+    /**
+     * Reads a generic value, e.g. {@code new TypeReference<List<UserDTO>>() {}}, from a JSON string.
+     *
+     * @param json the JSON text
+     * @param type the target type
+     * @return the value, or null if the JSON is {@code null}
+     * @throws JsonConversionException if the JSON cannot be parsed or mapped
+     */
+    public <T> T fromJson(String json, TypeReference<T> type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw failure(type.getType(), e);
+        }
+    }
+
+    /**
+     * Reads a generic value from JSON bytes.
+     *
+     * @param json the JSON bytes
+     * @param type the target type
+     * @return the value, or null if the JSON is {@code null}
+     * @throws JsonConversionException if the JSON cannot be parsed or mapped
+     */
+    public <T> T fromJson(byte[] json, TypeReference<T> type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw failure(type.getType(), e);
+        }
+    }
+
+    /**
+     * Reads a generic value from a JSON stream. The stream is not closed.
+     *
+     * @param json the JSON stream
+     * @param type the target type
+     * @return the value, or null if the JSON is {@code null}
+     * @throws JsonConversionException if the JSON cannot be read, parsed or mapped
+     */
+    public <T> T fromJson(InputStream json, TypeReference<T> type) {
+        try {
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw failure(type.getType(), e);
+        }
+    }
 
-    public static <T> T jsonStringToObject(String jsonString, Class<T> clazz) {
+    /**
+     * Reads a generic value from a character stream. The reader is not closed.
+     *
+     * @param json the JSON reader
+     * @param type the target type
+     * @return the value, or null if the JSON is {@code null}
+     * @throws JsonConversionException if the JSON cannot be read, parsed or mapped
+     */
+    public <T> T fromJson(Reader json, TypeReference<T> type) {
         try {
-            Gson gson = new Gson();
-            return gson.fromJson(jsonString, clazz);
-        } catch (Exception e) {
-            logger.error("Error converting JSON string to object", e);
-            return null;
+            return readerFor(type).readValue(json);
+        } catch (IOException e) {
+            throw failure(type.getType(), e);
         }
     }
+
+    /**
+     * Iterates over the elements of a JSON array, or over a sequence of
+     * root-level values, binding one element at a time. Only the current
+     * element is held in memory. The iterator should be closed when done; the
+     * stream itself is left open for the caller.
+     *
+     * @param json the JSON stream
+     * @param type the element type
+     * @return an iterator over the elements
+     * @throws JsonConversionException if the stream cannot be opened
+     */
+    public <T> MappingIterator<T> readValues(InputStream json, Class<T> type) {
+        try {
+            return readerFor(type).readValues(json);
+        } catch (IOException e) {
+            throw failure(type, e);
+        }
+    }
+
+    /**
+     * Iterates over the elements of a JSON array read from a character stream.
+     *
+     * @param json the JSON reader
+     * @param type the element type
+     * @return an iterator over the elements
+     * @throws JsonConversionException if the reader cannot be opened
+     * @see #readValues(InputStream, Class)
+     */
+    public <T> MappingIterator<T> readValues(Reader json, Class<T> type) {
+        try {
+            return readerFor(type).readValues(json);
+        } catch (IOException e) {
+            throw failure(type, e);
+        }
+    }
+
+    /**
+     * Writes a value as a JSON string.
+     *
+     * @param value the value to write
+     * @return the JSON text
+     * @throws JsonConversionException if the value cannot be serialized
+     */
+    public String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw failure(value == null ? Object.class : value.getClass(), e);
+        }
+    }
+
+    /**
+     * Writes a value as UTF-8 JSON bytes.
+     *
+     * @param value the value to write
+     * @return the JSON bytes
+     * @throws JsonConversionException if the value cannot be serialized
+     */
+    public byte[] toJsonBytes(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw failure(value == null ? Object.class : value.getClass(), e);
+        }
+    }
+
+    /**
+     * Writes a value as UTF-8 JSON to a stream. The stream is not closed.
+     *
+     * @param out   the target stream
+     * @param value the value to write
+     * @throws JsonConversionException if the value cannot be serialized or written
+     */
+    public void writeJson(OutputStream out, Object value) {
+        try {
+            streamWriter.writeValue(out, value);
+        } catch (IOException e) {
+            throw failure(value == null ? Object.class : value.getClass(), e);
+        }
+    }
+
+    /**
+     * Opens a writer of newline-delimited JSON (NDJSON): every value written
+     * goes on its own line. Output is buffered and only flushed on
+     * {@link SequenceWriter#flush()} and {@link SequenceWriter#close()}, which
+     * leaves the stream open.
+     *
+     * @param out the target stream
+     * @return the sequence writer, to be closed when done
+     * @throws JsonConversionException if the writer cannot be opened
+     */
+    public SequenceWriter writeValues(OutputStream out) {
+        try {
+            return streamWriter.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                    .withRootValueSeparator("\n")
+                    .writeValues(out);
+        } catch (IOException e) {
+            throw failure(Object.class, e);
+        }
+    }
+
+    private ObjectReader readerFor(Class<?> type) {
+        return readerFor(objectMapper.constructType(type));
+    }
+
+    private ObjectReader readerFor(TypeReference<?> type) {
+        return readerFor(objectMapper.constructType(type));
+    }
+
+    private ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, key -> objectMapper.readerFor(key).without(JsonParser.Feature.AUTO_CLOSE_SOURCE));
+    }
+
+    private JsonConversionException failure(Type type, IOException cause) {
+        return new JsonConversionException("Error converting JSON to or from " + type.getTypeName(), cause);
+    }
 }
@@ -1,24 +1,26 @@
 package com.kh.sbilyhour.common_module.infrastructure.config;
 
+import com.kh.sbilyhour.common_module.domain.utils.ClockService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Clock;
 
 @Configuration
 public class DateTimeConfig {
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
-
     /**
-     * Provides the current date and time formatted as a string.
+     * Provides the clock behind {@link ClockService}, in the system time zone.
+     * <p>
+     * Tests can replace it with a {@code @Primary} {@link Clock#fixed fixed}
+     * or {@link Clock#offset offset} clock.
+     * </p>
      *
-     * @return the formatted current date and time
+     * @return the system clock
      */
     @Bean
-    public String currentFormattedDate() {
-        return OffsetDateTime.now().format(FORMATTER);
+    public Clock clock() {
+        return Clock.systemDefaultZone();
     }
 
 }
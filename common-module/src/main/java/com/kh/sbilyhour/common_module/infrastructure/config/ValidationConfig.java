@@ -0,0 +1,62 @@
+package com.kh.sbilyhour.common_module.infrastructure.config;
+
+import com.kh.sbilyhour.common_module.infrastructure.validation.PrecompiledValidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Validates {@code @Valid} controller arguments with the
+ * {@link PrecompiledValidator} instead of Spring's Bean Validation adapter, on
+ * the servlet and on the reactive stack alike.
+ * <p>
+ * Set {@code core.validation.precompiled} to false to go back to the standard
+ * validator. Programmatic validation through the
+ * {@link jakarta.validation.Validator} bean is not affected.
+ * </p>
+ * <p>
+ * The validator is not a bean of its own: it becomes the {@code mvcValidator}
+ * or {@code webFluxValidator} bean, which would otherwise be proxied, and
+ * timed, a second time.
+ * </p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class ValidationConfig {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(name = "core.validation.precompiled", havingValue = "true", matchIfMissing = true)
+    static class ServletValidationConfig implements WebMvcConfigurer {
+
+        private final PrecompiledValidator precompiledValidator;
+
+        ServletValidationConfig(jakarta.validation.Validator validator) {
+            this.precompiledValidator = new PrecompiledValidator(validator);
+        }
+
+        @Override
+        public Validator getValidator() {
+            return precompiledValidator;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnProperty(name = "core.validation.precompiled", havingValue = "true", matchIfMissing = true)
+    static class ReactiveValidationConfig implements WebFluxConfigurer {
+
+        private final PrecompiledValidator precompiledValidator;
+
+        ReactiveValidationConfig(jakarta.validation.Validator validator) {
+            this.precompiledValidator = new PrecompiledValidator(validator);
+        }
+
+        @Override
+        public Validator getValidator() {
+            return precompiledValidator;
+        }
+    }
+}
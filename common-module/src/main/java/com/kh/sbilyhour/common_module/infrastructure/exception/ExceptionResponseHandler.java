@@ -1,21 +1,31 @@
 package com.kh.sbilyhour.common_module.infrastructure.exception;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.kh.sbilyhour.common_module.domain.exception.ConflictException;
+import com.kh.sbilyhour.common_module.domain.exception.DomainException;
+import com.kh.sbilyhour.common_module.domain.exception.InvalidRequestException;
+import com.kh.sbilyhour.common_module.domain.exception.JsonConversionException;
+import com.kh.sbilyhour.common_module.domain.exception.NotFoundException;
 import com.kh.sbilyhour.common_module.domain.model.ResponseWrapper;
 import com.kh.sbilyhour.common_module.domain.status.Status;
 import com.kh.sbilyhour.common_module.domain.error.Error;
 import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.common_module.domain.utils.JsonPointerExtractor;
+import com.kh.sbilyhour.common_module.infrastructure.metrics.ExceptionMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.util.Collections;
@@ -31,8 +41,19 @@ import java.util.stream.Collectors;
 @ControllerAdvice
 public class ExceptionResponseHandler {
 
+    private static final JsonPointer ERROR_MESSAGE_POINTER = JsonPointer.compile("/error/message");
+
     private final Logger logger = LoggerFactory.getLogger(ExceptionResponseHandler.class);
 
+    private final JsonPointerExtractor jsonPointerExtractor;
+    private final ExceptionMetrics exceptionMetrics;
+
+    @Autowired
+    public ExceptionResponseHandler(JsonPointerExtractor jsonPointerExtractor, ExceptionMetrics exceptionMetrics) {
+        this.jsonPointerExtractor = jsonPointerExtractor;
+        this.exceptionMetrics = exceptionMetrics;
+    }
+
     /**
      * Handles general exceptions that are not explicitly caught by other handlers.
      * Provides a generic message for unexpected errors and logs the exception.
@@ -44,7 +65,7 @@ public class ExceptionResponseHandler {
     public ResponseEntity<ResponseWrapper<HttpError>> handleGeneralException(Exception exception) {
         logError(exception);
         String message = "An unexpected error occurred. Please try again later.";
-        return createErrorResponse(Status.ERROR, message, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        return createErrorResponse(exception, Status.ERROR, message, HttpStatus.INTERNAL_SERVER_ERROR.value());
     }
 
     /**
@@ -58,7 +79,7 @@ public class ExceptionResponseHandler {
     public ResponseEntity<ResponseWrapper<HttpError>> handleDataIntegrityViolation(DataIntegrityViolationException exception) {
         logError(exception);
         String message = "Data integrity violation. Please ensure all required fields are filled correctly.";
-        return createErrorResponse(Status.ERROR, message, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        return createErrorResponse(exception, Status.ERROR, message, HttpStatus.INTERNAL_SERVER_ERROR.value());
     }
 
     /**
@@ -71,7 +92,54 @@ public class ExceptionResponseHandler {
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ResponseWrapper<HttpError>> handleRuntimeException(RuntimeException exception) {
         logError(exception);
-        return createErrorResponse(Status.FAIL, exception.getMessage(), HttpStatus.NOT_FOUND.value());
+        return createErrorResponse(exception, Status.FAIL, exception.getMessage(), HttpStatus.NOT_FOUND.value());
+    }
+
+    /**
+     * Handles conflicts with the current state of a resource (e.g., a duplicate user).
+     * Returns the precomputed envelope of the exception with a 409 status.
+     *
+     * @param exception the caught ConflictException
+     * @return a ResponseEntity with a conflict error response
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ResponseWrapper<HttpError>> handleConflict(ConflictException exception) {
+        return createDomainErrorResponse(exception);
+    }
+
+    /**
+     * Handles requests for resources that do not exist.
+     * Returns the precomputed envelope of the exception with a 404 status.
+     *
+     * @param exception the caught NotFoundException
+     * @return a ResponseEntity with a not found error response
+     */
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ResponseWrapper<HttpError>> handleDomainNotFound(NotFoundException exception) {
+        return createDomainErrorResponse(exception);
+    }
+
+    /**
+     * Handles requests rejected by a business rule.
+     * Returns the precomputed envelope of the exception with a 400 status.
+     *
+     * @param exception the caught InvalidRequestException
+     * @return a ResponseEntity with a bad request error response
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ResponseWrapper<HttpError>> handleInvalidRequest(InvalidRequestException exception) {
+        return createDomainErrorResponse(exception);
+    }
+
+    /**
+     * Handles any other domain exception with the status code it carries.
+     *
+     * @param exception the caught DomainException
+     * @return a ResponseEntity with the precomputed error response of the exception
+     */
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ResponseWrapper<HttpError>> handleDomainException(DomainException exception) {
+        return createDomainErrorResponse(exception);
     }
 
     /**
@@ -84,9 +152,8 @@ public class ExceptionResponseHandler {
     @ExceptionHandler(HttpClientErrorException.class)
     private ResponseEntity<ResponseWrapper<HttpError>> handleHttpClientError(HttpClientErrorException exception) {
         logError(exception);
-        String responseBody = exception.getResponseBodyAsString();
-        List<Error> errors = createErrorList(getErrorMessage(responseBody));
-        return createErrorResponse(Status.FAIL, errors, exception.getStatusCode().value());
+        List<Error> errors = createErrorList(getErrorMessage(exception.getResponseBodyAsByteArray()));
+        return createErrorResponse(exception, Status.FAIL, errors, exception.getStatusCode().value());
     }
 
     /**
@@ -99,7 +166,7 @@ public class ExceptionResponseHandler {
     @ExceptionHandler(IllegalArgumentException.class)
     private ResponseEntity<ResponseWrapper<HttpError>> handleIllegalArgument(IllegalArgumentException exception) {
         logError(exception);
-        return createErrorResponse(Status.FAIL, exception.getMessage(), HttpStatus.BAD_REQUEST.value());
+        return createErrorResponse(exception, Status.FAIL, exception.getMessage(), HttpStatus.BAD_REQUEST.value());
     }
 
     /**
@@ -112,12 +179,47 @@ public class ExceptionResponseHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ResponseWrapper<HttpError>> handleValidationExceptions(MethodArgumentNotValidException exception) {
         logError(exception);
-        List<Error> errorMessages = exception.getBindingResult().getFieldErrors().stream()
-                .map(FieldError::getDefaultMessage)
-                .filter(message -> message != null && !message.trim().isEmpty())
-                .map(Error::new)
-                .collect(Collectors.toList());
-        return createErrorResponse(Status.FAIL, errorMessages, HttpStatus.BAD_REQUEST.value());
+        return createErrorResponse(exception, Status.FAIL, createFieldErrorList(exception.getFieldErrors()), HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Handles validation errors from request bodies on the reactive stack.
+     * Collects all field validation errors, as for MethodArgumentNotValidException.
+     *
+     * @param exception the caught WebExchangeBindException
+     * @return a ResponseEntity with a bad request error response containing all validation errors
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ResponseWrapper<HttpError>> handleReactiveValidationExceptions(WebExchangeBindException exception) {
+        logError(exception);
+        return createErrorResponse(exception, Status.FAIL, createFieldErrorList(exception.getFieldErrors()), HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Handles malformed requests on the reactive stack (e.g., a missing query
+     * parameter or an unreadable body). Uses the reason of the exception as
+     * the error message and logs the exception.
+     *
+     * @param exception the caught ServerWebInputException
+     * @return a ResponseEntity with a bad request error response
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ResponseWrapper<HttpError>> handleServerWebInput(ServerWebInputException exception) {
+        logError(exception);
+        return createErrorResponse(exception, Status.FAIL, exception.getReason(), HttpStatus.BAD_REQUEST.value());
+    }
+
+    /**
+     * Handles requests missing a required query parameter.
+     * Uses the exception message as the error message and logs the exception.
+     *
+     * @param exception the caught MissingServletRequestParameterException
+     * @return a ResponseEntity with a bad request error response
+     */
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    public ResponseEntity<ResponseWrapper<HttpError>> handleMissingParameter(MissingServletRequestParameterException exception) {
+        logError(exception);
+        return createErrorResponse(exception, Status.FAIL, exception.getMessage(), HttpStatus.BAD_REQUEST.value());
     }
 
     /**
@@ -130,7 +232,7 @@ public class ExceptionResponseHandler {
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<ResponseWrapper<HttpError>> handleNotFound(NoHandlerFoundException exception) {
         logError(exception);
-        return createErrorResponse(Status.FAIL, exception.getMessage(), HttpStatus.NOT_FOUND.value());
+        return createErrorResponse(exception, Status.FAIL, exception.getMessage(), HttpStatus.NOT_FOUND.value());
     }
 
     /**
@@ -142,26 +244,53 @@ public class ExceptionResponseHandler {
         logger.error("{}--> {}", exception.getClass().getSimpleName(), exception.getMessage());
     }
 
+    /**
+     * Logs an expected domain outcome. These are part of normal operation, so
+     * they are only logged at debug level and without a stack trace.
+     *
+     * @param exception the caught domain exception
+     */
+    private void logDomainError(DomainException exception) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}--> {}", exception.getClass().getSimpleName(), exception.getMessage());
+        }
+    }
+
+    /**
+     * Creates a ResponseEntity from the precomputed envelope of a domain exception.
+     *
+     * @param exception the caught domain exception
+     * @return a ResponseEntity with the envelope and status code of the exception
+     */
+    private ResponseEntity<ResponseWrapper<HttpError>> createDomainErrorResponse(DomainException exception) {
+        logDomainError(exception);
+        exceptionMetrics.record(exception, exception.getCode());
+        return ResponseEntity.status(exception.getCode()).body(exception.getResponseBody());
+    }
+
     /**
      * Creates a ResponseEntity with a single error message.
      *
-     * @param message the error message
-     * @param code    the HTTP status code
+     * @param exception the handled exception
+     * @param message   the error message
+     * @param code      the HTTP status code
      * @return a ResponseEntity with the error message and status code
      */
-    private ResponseEntity<ResponseWrapper<HttpError>> createErrorResponse(Status status, String message, Integer code) {
+    private ResponseEntity<ResponseWrapper<HttpError>> createErrorResponse(Exception exception, Status status, String message, Integer code) {
         List<Error> errors = createErrorList(message);
-        return createErrorResponse(status, errors, code);
+        return createErrorResponse(exception, status, errors, code);
     }
 
     /**
-     * Creates a ResponseEntity with a list of errors.
+     * Creates a ResponseEntity with a list of errors, and counts the handled exception.
      *
-     * @param errors a list of errors
-     * @param code   the HTTP status code
+     * @param exception the handled exception
+     * @param errors    a list of errors
+     * @param code      the HTTP status code
      * @return a ResponseEntity with the error messages and status code
      */
-    private ResponseEntity<ResponseWrapper<HttpError>> createErrorResponse(Status status, List<Error> errors, Integer code) {
+    private ResponseEntity<ResponseWrapper<HttpError>> createErrorResponse(Exception exception, Status status, List<Error> errors, Integer code) {
+        exceptionMetrics.record(exception, code);
         HttpError httpError = HttpError.builder()
                 .code(code)
                 .errors(errors)
@@ -170,6 +299,20 @@ public class ExceptionResponseHandler {
         return ResponseEntity.status(code).body(responseWrapper);
     }
 
+    /**
+     * Creates a list with the messages of the given field errors, skipping blank ones.
+     *
+     * @param fieldErrors the field validation errors
+     * @return a list containing one error per message
+     */
+    private List<Error> createFieldErrorList(List<FieldError> fieldErrors) {
+        return fieldErrors.stream()
+                .map(FieldError::getDefaultMessage)
+                .filter(message -> message != null && !message.trim().isEmpty())
+                .map(Error::new)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Creates a list with a single error message.
      *
@@ -182,18 +325,17 @@ public class ExceptionResponseHandler {
 
     /**
      * Extracts the error message from a client-side error response body (JSON format).
+     * The body is scanned token by token and parsing stops at {@code error.message}.
      *
-     * @param responseBody the JSON response body as a string
+     * @param responseBody the raw JSON response body
      * @return the extracted error message, or a default message if parsing fails
      */
-    private String getErrorMessage(String responseBody) {
+    private String getErrorMessage(byte[] responseBody) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(responseBody);
-            JsonNode errorNode = rootNode.path("error").path("message");
-            return errorNode.isMissingNode() ? "Unknown error occurred" : errorNode.asText();
-        } catch (Exception e) {
-            return "Error parsing error message: " + e.getMessage();
+            return jsonPointerExtractor.extractText(responseBody, ERROR_MESSAGE_POINTER)
+                    .orElse("Unknown error occurred");
+        } catch (JsonConversionException e) {
+            return "Error parsing error message: " + e.getCause().getMessage();
         }
     }
 }
\ No newline at end of file
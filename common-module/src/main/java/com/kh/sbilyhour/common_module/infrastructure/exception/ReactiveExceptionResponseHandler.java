@@ -0,0 +1,84 @@
+package com.kh.sbilyhour.common_module.infrastructure.exception;
+
+import com.kh.sbilyhour.common_module.domain.error.Error;
+import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.common_module.domain.model.ResponseWrapper;
+import com.kh.sbilyhour.common_module.domain.status.Status;
+import com.kh.sbilyhour.common_module.domain.utils.JsonUtils;
+import com.kh.sbilyhour.common_module.infrastructure.metrics.ExceptionMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+/**
+ * Writes the error envelope for failures raised outside controllers on the
+ * reactive stack, such as an unknown route or an unsupported method, which
+ * {@link ExceptionResponseHandler} never sees there. Controller exceptions
+ * are still handled by {@link ExceptionResponseHandler}.
+ * <p>
+ * Runs before the default error handler of Spring Boot, so all error
+ * responses share the same format on both stacks.
+ * </p>
+ */
+@Component
+@Order(-2)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionResponseHandler implements WebExceptionHandler {
+
+    private final Logger logger = LoggerFactory.getLogger(ReactiveExceptionResponseHandler.class);
+
+    private final JsonUtils jsonUtils;
+    private final ExceptionMetrics exceptionMetrics;
+
+    @Autowired
+    public ReactiveExceptionResponseHandler(JsonUtils jsonUtils, ExceptionMetrics exceptionMetrics) {
+        this.jsonUtils = jsonUtils;
+        this.exceptionMetrics = exceptionMetrics;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable exception) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(exception);
+        }
+
+        logger.error("{}--> {}", exception.getClass().getSimpleName(), exception.getMessage());
+        int code;
+        Status status;
+        String message;
+        if (exception instanceof ResponseStatusException statusException) {
+            code = statusException.getStatusCode().value();
+            status = Status.FAIL;
+            message = statusException.getReason();
+        } else {
+            code = HttpStatus.INTERNAL_SERVER_ERROR.value();
+            status = Status.ERROR;
+            message = "An unexpected error occurred. Please try again later.";
+        }
+        exceptionMetrics.record(exception, code);
+
+        HttpError httpError = HttpError.builder()
+                .code(code)
+                .errors(Collections.singletonList(new Error(message)))
+                .build();
+        ResponseWrapper<HttpError> responseWrapper = ResponseWrapper.<HttpError>builder().status(status).error(httpError).build();
+
+        response.setStatusCode(HttpStatusCode.valueOf(code));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(jsonUtils.toJsonBytes(responseWrapper))));
+    }
+}
@@ -0,0 +1,154 @@
+package com.kh.sbilyhour.common_module.infrastructure.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.impl.PropertySerializerMap;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.kh.sbilyhour.common_module.domain.error.Error;
+import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.common_module.domain.model.ResponseWrapper;
+import com.kh.sbilyhour.common_module.domain.status.Status;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Hand-written serializers for the response envelope: {@link ResponseWrapper},
+ * {@link HttpError} and {@link Status}.
+ * <p>
+ * The envelope is written field by field straight to the generator, without
+ * bean introspection. Field names and status values are pre-encoded once as
+ * {@link SerializedString}s, whose quoted UTF-8 bytes are copied as-is into
+ * the output buffer. The output is the same as the annotation-driven one:
+ * {@code status}, {@code error}, {@code data} in that order, null envelope
+ * fields omitted.
+ * </p>
+ * <p>
+ * Registered with every Spring-managed {@code ObjectMapper} through
+ * {@link JsonComponent}; standalone mappers can add the nested serializers
+ * with a {@code SimpleModule}.
+ * </p>
+ */
+@JsonComponent
+public class ResponseEnvelopeSerializers {
+
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString ERRORS = new SerializedString("errors");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+
+    private static final SerializedString[] STATUS_VALUES = new SerializedString[Status.values().length];
+
+    static {
+        for (Status status : Status.values()) {
+            STATUS_VALUES[status.ordinal()] = new SerializedString(status.name());
+        }
+    }
+
+    /**
+     * Serializes a {@link ResponseWrapper} as {@code {"status":..,"error":..,"data":..}}.
+     */
+    public static class ResponseWrapperSerializer extends StdSerializer<ResponseWrapper<?>> {
+
+        /**
+         * Serializers of the payload types seen so far, as kept by Jackson's bean property writers.
+         */
+        private transient PropertySerializerMap dataSerializers = PropertySerializerMap.emptyForProperties();
+
+        public ResponseWrapperSerializer() {
+            super(ResponseWrapper.class, false);
+        }
+
+        @Override
+        public void serialize(ResponseWrapper<?> response, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject(response);
+            if (response.getStatus() != null) {
+                gen.writeFieldName(STATUS);
+                gen.writeString(STATUS_VALUES[response.getStatus().ordinal()]);
+            }
+            if (response.getError() != null) {
+                gen.writeFieldName(ERROR);
+                writeHttpError(response.getError(), gen);
+            }
+            if (response.getData() != null) {
+                gen.writeFieldName(DATA);
+                writeData(response.getData(), gen, provider);
+            }
+            gen.writeEndObject();
+        }
+
+        private void writeData(Object data, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Class<?> type = data.getClass();
+            PropertySerializerMap serializers = dataSerializers;
+            JsonSerializer<Object> serializer = serializers.serializerFor(type);
+            if (serializer == null) {
+                PropertySerializerMap.SerializerAndMapResult result =
+                        serializers.findAndAddSecondarySerializer(type, provider, null);
+                dataSerializers = result.map;
+                serializer = result.serializer;
+            }
+            serializer.serialize(data, gen, provider);
+        }
+    }
+
+    /**
+     * Serializes an {@link HttpError} as {@code {"code":..,"errors":[{"message":..}]}}.
+     */
+    public static class HttpErrorSerializer extends StdSerializer<HttpError> {
+
+        public HttpErrorSerializer() {
+            super(HttpError.class);
+        }
+
+        @Override
+        public void serialize(HttpError httpError, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeHttpError(httpError, gen);
+        }
+    }
+
+    /**
+     * Serializes a {@link Status} by name, from its pre-encoded form.
+     */
+    public static class StatusSerializer extends StdSerializer<Status> {
+
+        public StatusSerializer() {
+            super(Status.class);
+        }
+
+        @Override
+        public void serialize(Status status, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeString(STATUS_VALUES[status.ordinal()]);
+        }
+    }
+
+    private static void writeHttpError(HttpError httpError, JsonGenerator gen) throws IOException {
+        gen.writeStartObject(httpError);
+        gen.writeFieldName(CODE);
+        gen.writeNumber(httpError.getCode());
+        gen.writeFieldName(ERRORS);
+        List<Error> errors = httpError.getErrors();
+        if (errors == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(errors, errors.size());
+            for (Error error : errors) {
+                if (error == null) {
+                    gen.writeNull();
+                    continue;
+                }
+                gen.writeStartObject(error);
+                gen.writeFieldName(MESSAGE);
+                gen.writeString(error.getMessage());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+}
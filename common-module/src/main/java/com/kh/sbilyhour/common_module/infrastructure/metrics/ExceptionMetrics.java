@@ -0,0 +1,49 @@
+package com.kh.sbilyhour.common_module.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Counts the exceptions turned into error responses, as
+ * {@code core.exception.handled} tagged with the exception type and the HTTP
+ * status code returned.
+ */
+@Component
+public class ExceptionMetrics {
+
+    static final String METRIC_NAME = MetricsConfig.METRIC_PREFIX + "exception.handled";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ExceptionMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Records a handled exception.
+     *
+     * @param exception the handled exception
+     * @param code      the HTTP status code of the response
+     */
+    public void record(Throwable exception, int code) {
+        counters.computeIfAbsent(new CounterKey(exception.getClass(), code), this::register).increment();
+    }
+
+    private Counter register(CounterKey key) {
+        return Counter.builder(METRIC_NAME)
+                .description("Exceptions handled by the exception handlers")
+                .tag("exception", key.exceptionType().getSimpleName())
+                .tag("code", Integer.toString(key.code()))
+                .register(meterRegistry);
+    }
+
+    private record CounterKey(Class<? extends Throwable> exceptionType, int code) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.kh.sbilyhour.common_module.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Instrumentation layer of the application, switched by {@code core.metrics.enabled}.
+ * <p>
+ * When enabled, every public use case method and every Bean Validation call
+ * is timed with a percentile histogram, and the counters of
+ * {@link ExceptionMetrics} and of the modules are recorded. Repository
+ * methods are timed by Spring Boot as {@code spring.data.repository.invocations}.
+ * All meters are exported through {@code /actuator/prometheus}.
+ * </p>
+ * <p>
+ * When disabled, the timing aspects are not registered, so no proxy is
+ * created, and every meter named {@code core.*} is denied: its counters are
+ * no-ops.
+ * </p>
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Prefix of all meters owned by the application.
+     */
+    public static final String METRIC_PREFIX = "core.";
+
+    @Bean
+    @ConditionalOnProperty(name = "core.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    public UseCaseTimingAspect useCaseTimingAspect(MeterRegistry meterRegistry) {
+        return new UseCaseTimingAspect(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "core.metrics.enabled", havingValue = "true", matchIfMissing = true)
+    public ValidationTimingAspect validationTimingAspect(MeterRegistry meterRegistry) {
+        return new ValidationTimingAspect(meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "core.metrics.enabled", havingValue = "false")
+    public MeterFilter coreMetricsDisabledFilter() {
+        return MeterFilter.denyNameStartsWith(METRIC_PREFIX);
+    }
+}
@@ -0,0 +1,78 @@
+package com.kh.sbilyhour.common_module.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of the classes in an {@code application.use_case}
+ * package of any module, as {@code core.use.case} tagged with the use case,
+ * the method and the exception thrown ({@code none} on success).
+ * <p>
+ * Timers are resolved once per method and outcome and reused afterwards.
+ * Methods returning a {@link Mono} are timed until the Mono completes, so
+ * non-blocking variants are measured like their blocking counterparts.
+ * </p>
+ */
+@Aspect
+public class UseCaseTimingAspect {
+
+    static final String METRIC_NAME = MetricsConfig.METRIC_PREFIX + "use.case";
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public UseCaseTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+    }
+
+    @Around("within(com.kh.sbilyhour..application.use_case..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = clock.monotonicTime();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable exception) {
+            record(method, exception.getClass(), start);
+            throw exception;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return mono.doOnSuccess(value -> record(method, null, start))
+                    .doOnError(exception -> record(method, exception.getClass(), start));
+        }
+        record(method, null, start);
+        return result;
+    }
+
+    private void record(Method method, Class<? extends Throwable> exceptionType, long start) {
+        timers.computeIfAbsent(new TimerKey(method, exceptionType), this::register)
+                .record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent in use case methods")
+                .tag("use_case", key.method().getDeclaringClass().getSimpleName())
+                .tag("method", key.method().getName())
+                .tag("exception", key.exceptionType() == null ? "none" : key.exceptionType().getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(Method method, Class<? extends Throwable> exceptionType) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.kh.sbilyhour.common_module.infrastructure.metrics;
+
+import com.kh.sbilyhour.common_module.infrastructure.validation.PrecompiledValidator;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times Bean Validation of request objects, as {@code core.validation} tagged
+ * with the validated type.
+ * <p>
+ * Applies to the application's {@link jakarta.validation.Validator} bean,
+ * which serves programmatic validation in use cases, and to the
+ * {@link PrecompiledValidator} serving {@code @Valid} arguments of
+ * controllers. The latter falls back to the unproxied Bean Validation
+ * validator, so each validation is timed once whichever path it takes.
+ * </p>
+ */
+@Aspect
+public class ValidationTimingAspect {
+
+    static final String METRIC_NAME = MetricsConfig.METRIC_PREFIX + "validation";
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final ConcurrentMap<Class<?>, Timer> timers = new ConcurrentHashMap<>();
+
+    public ValidationTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+    }
+
+    @Around("execution(* jakarta.validation.Validator+.validate(..))"
+            + " || execution(* com.kh.sbilyhour.common_module.infrastructure.validation.PrecompiledValidator.validate(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        Class<?> validatedType = args.length == 0 || args[0] == null ? Void.class : args[0].getClass();
+        long start = clock.monotonicTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timers.computeIfAbsent(validatedType, this::register)
+                    .record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(Class<?> validatedType) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time spent validating request objects")
+                .tag("type", validatedType.getSimpleName())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,351 @@
+package com.kh.sbilyhour.common_module.infrastructure.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Matcher for {@code @Pattern} expressions made of single characters and
+ * character classes with counted repetitions, such as {@code ^[MF]$} or
+ * {@code ^[0-9]{8,9}$}.
+ * <p>
+ * Every element but the last must repeat a fixed number of times, so an input
+ * is checked in a single pass over its characters, without backtracking or
+ * allocation, and the result is the one of {@link java.util.regex.Matcher#matches()}.
+ * Inputs containing surrogate pairs, which {@code java.util.regex} counts as
+ * one character, are handed to the compiled {@link Pattern}.
+ * </p>
+ */
+final class CharacterPattern {
+
+    private static final int MAX_REPETITIONS = 100_000;
+
+    private final Element[] elements;
+    private final int minLength;
+    private final Pattern regex;
+
+    private CharacterPattern(Element[] elements, Pattern regex) {
+        this.elements = elements;
+        this.regex = regex;
+        int length = 0;
+        for (Element element : elements) {
+            length += element.min();
+        }
+        this.minLength = length;
+    }
+
+    /**
+     * Compiles the given regular expression.
+     *
+     * @param regexp the regular expression
+     * @return the matcher, or null if the expression is not of the supported form
+     */
+    static CharacterPattern compile(String regexp) {
+        Pattern regex;
+        try {
+            regex = Pattern.compile(regexp);
+        } catch (PatternSyntaxException exception) {
+            return null;
+        }
+        List<Element> elements = new Parser(regexp).parse();
+        if (elements == null || elements.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < elements.size() - 1; i++) {
+            if (elements.get(i).min() != elements.get(i).max()) {
+                return null;
+            }
+        }
+        return new CharacterPattern(elements.toArray(new Element[0]), regex);
+    }
+
+    /**
+     * Tells whether the whole input matches the expression.
+     *
+     * @param input the input
+     * @return true if the input matches
+     */
+    boolean matches(CharSequence input) {
+        int length = input.length();
+        // Each code point takes at least one char, so this holds with surrogates too
+        if (length < minLength) {
+            return false;
+        }
+
+        // Up to the first surrogate chars and code points line up, so a mismatch is final
+        int position = 0;
+        int last = elements.length - 1;
+        for (int i = 0; i < last; i++) {
+            Element element = elements[i];
+            for (int count = 0; count < element.min(); count++, position++) {
+                if (position == length) {
+                    return false;
+                }
+                char c = input.charAt(position);
+                if (Character.isSurrogate(c)) {
+                    return regex.matcher(input).matches();
+                }
+                if (!element.accepts(c)) {
+                    return false;
+                }
+            }
+        }
+
+        Element element = elements[last];
+        int count = 0;
+        for (; position < length; position++) {
+            char c = input.charAt(position);
+            if (Character.isSurrogate(c)) {
+                return regex.matcher(input).matches();
+            }
+            if (!element.accepts(c) || ++count > element.max()) {
+                return false;
+            }
+        }
+        return count >= element.min();
+    }
+
+    /**
+     * A set of characters repeated between {@code min} and {@code max} times.
+     *
+     * @param ranges  inclusive bounds of the accepted characters, two per range
+     * @param negated true if the set is every character outside the ranges
+     */
+    private record Element(char[] ranges, boolean negated, int min, int max) {
+
+        boolean accepts(char c) {
+            for (int i = 0; i < ranges.length; i += 2) {
+                if (c >= ranges[i] && c <= ranges[i + 1]) {
+                    return !negated;
+                }
+            }
+            return negated;
+        }
+    }
+
+    /**
+     * Parser of the supported subset: literals, {@code \d}, escaped
+     * punctuation, classes of those and of ranges between literals or escaped
+     * punctuation, and the {@code ?}, {@code *}, {@code +} and {@code {n,m}}
+     * quantifiers. Anything else, including a dash in a class that is neither
+     * first, last nor a range, makes {@link #parse()} return null so that the
+     * expression is left to {@code java.util.regex}.
+     */
+    private static final class Parser {
+
+        private static final String METACHARACTERS = ".()|*+?{}[]^$\\";
+
+        private final String regexp;
+        private int position;
+        private int end;
+
+        Parser(String regexp) {
+            this.regexp = regexp;
+            this.end = regexp.length();
+        }
+
+        List<Element> parse() {
+            // Anchors are implied, since @Pattern matches the whole value
+            if (position < end && regexp.charAt(position) == '^') {
+                position++;
+            }
+            if (end > position && regexp.charAt(end - 1) == '$' && !isEscaped(end - 1)) {
+                end--;
+            }
+
+            List<Element> elements = new ArrayList<>();
+            while (position < end) {
+                List<Character> ranges = new ArrayList<>();
+                boolean negated = false;
+                char c = regexp.charAt(position++);
+                if (c == '[') {
+                    negated = position < end && regexp.charAt(position) == '^';
+                    if (negated) {
+                        position++;
+                    }
+                    if (!parseClass(ranges)) {
+                        return null;
+                    }
+                } else if (c == '\\') {
+                    if (!parseEscape(ranges)) {
+                        return null;
+                    }
+                } else if (METACHARACTERS.indexOf(c) >= 0 || Character.isSurrogate(c)) {
+                    return null;
+                } else {
+                    ranges.add(c);
+                    ranges.add(c);
+                }
+
+                int[] repetitions = parseQuantifier();
+                if (repetitions == null) {
+                    return null;
+                }
+                char[] bounds = new char[ranges.size()];
+                for (int i = 0; i < bounds.length; i++) {
+                    bounds[i] = ranges.get(i);
+                }
+                elements.add(new Element(bounds, negated, repetitions[0], repetitions[1]));
+            }
+            return elements;
+        }
+
+        private boolean parseClass(List<Character> ranges) {
+            if (position < end && regexp.charAt(position) == ']') {
+                return false;
+            }
+            boolean first = true;
+            while (position < end) {
+                char c = regexp.charAt(position);
+                if (c == ']') {
+                    position++;
+                    return true;
+                }
+                if (regexp.startsWith("\\d", position)) {
+                    position += 2;
+                    ranges.add('0');
+                    ranges.add('9');
+                } else if (c == '-') {
+                    // A dash is a literal first or last, elsewhere java.util.regex has its own rules
+                    position++;
+                    if (!first && !isClassEnd(position)) {
+                        return false;
+                    }
+                    ranges.add(c);
+                    ranges.add(c);
+                } else {
+                    int lower = parseClassCharacter();
+                    int upper = lower;
+                    if (lower >= 0 && isRangeDash(position)) {
+                        position++;
+                        upper = regexp.charAt(position) == '-' ? -1 : parseClassCharacter();
+                    }
+                    if (lower < 0 || upper < lower) {
+                        return false;
+                    }
+                    ranges.add((char) lower);
+                    ranges.add((char) upper);
+                }
+                first = false;
+                // So is a dash after a range or \d that does not close the class
+                if (isRangeDash(position)) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Parses a literal or an escaped punctuation character of a class,
+         * which can both be range bounds.
+         *
+         * @return the character, or -1 if it is anything else
+         */
+        private int parseClassCharacter() {
+            char c = regexp.charAt(position++);
+            if (c == '[' || c == '&' || Character.isSurrogate(c)) {
+                return -1;
+            }
+            if (c != '\\') {
+                return c;
+            }
+            if (position >= end) {
+                return -1;
+            }
+            c = regexp.charAt(position++);
+            return isEscapedLiteral(c) ? c : -1;
+        }
+
+        private boolean isRangeDash(int index) {
+            return index + 1 < end && regexp.charAt(index) == '-' && !isClassEnd(index + 1);
+        }
+
+        private boolean isClassEnd(int index) {
+            return index < end && regexp.charAt(index) == ']';
+        }
+
+        private boolean parseEscape(List<Character> ranges) {
+            if (position >= end) {
+                return false;
+            }
+            char c = regexp.charAt(position++);
+            if (c == 'd') {
+                ranges.add('0');
+                ranges.add('9');
+                return true;
+            }
+            if (isEscapedLiteral(c)) {
+                ranges.add(c);
+                ranges.add(c);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Only escaped punctuation stands for itself, letters and digits have
+         * special meanings.
+         */
+        private static boolean isEscapedLiteral(char c) {
+            return c < 128 && !Character.isLetterOrDigit(c) && !Character.isWhitespace(c);
+        }
+
+        private int[] parseQuantifier() {
+            if (position >= end) {
+                return new int[]{1, 1};
+            }
+            int[] repetitions;
+            char c = regexp.charAt(position);
+            if (c == '?') {
+                repetitions = new int[]{0, 1};
+                position++;
+            } else if (c == '*') {
+                repetitions = new int[]{0, Integer.MAX_VALUE};
+                position++;
+            } else if (c == '+') {
+                repetitions = new int[]{1, Integer.MAX_VALUE};
+                position++;
+            } else if (c == '{') {
+                position++;
+                int min = parseNumber();
+                int max = min;
+                if (position < end && regexp.charAt(position) == ',') {
+                    position++;
+                    max = position < end && regexp.charAt(position) == '}' ? Integer.MAX_VALUE : parseNumber();
+                }
+                if (min < 0 || max < min || position >= end || regexp.charAt(position++) != '}') {
+                    return null;
+                }
+                repetitions = new int[]{min, max};
+            } else {
+                return new int[]{1, 1};
+            }
+            // Lazy and possessive quantifiers are left to java.util.regex
+            if (position < end && (regexp.charAt(position) == '?' || regexp.charAt(position) == '+')) {
+                return null;
+            }
+            return repetitions;
+        }
+
+        private int parseNumber() {
+            int start = position;
+            int number = 0;
+            while (position < end && regexp.charAt(position) >= '0' && regexp.charAt(position) <= '9') {
+                number = number * 10 + (regexp.charAt(position++) - '0');
+                if (number > MAX_REPETITIONS) {
+                    return -1;
+                }
+            }
+            return position == start ? -1 : number;
+        }
+
+        private boolean isEscaped(int index) {
+            int backslashes = 0;
+            for (int i = index - 1; i >= 0 && regexp.charAt(i) == '\\'; i--) {
+                backslashes++;
+            }
+            return backslashes % 2 == 1;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.kh.sbilyhour.common_module.infrastructure.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.groups.Default;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedArrayType;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.AnnotatedWildcardType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Validator of request objects that resolves the Bean Validation constraints
+ * of each class once, then checks them with plain code: no metadata lookup,
+ * message interpolation or {@code ConstraintViolation} per call, and
+ * {@code @Pattern} expressions matched by {@link CharacterPattern} instead of
+ * {@code java.util.regex}.
+ * <p>
+ * Only field constraints of the default group with a literal message are
+ * compiled: {@code @NotNull}, {@code @NotEmpty}, {@code @NotBlank},
+ * {@code @Size} and {@code @Pattern} without flags. A class declaring any other
+ * constraint, a class-level or getter constraint or a cascaded {@code @Valid},
+ * and any validation with groups, is handed as a whole to the standard
+ * validator. Field errors get the codes, arguments and default messages
+ * Spring's own adapter gives them, so the {@code HttpError} envelope of a
+ * rejected request does not change.
+ * </p>
+ * <p>
+ * Plugged into Spring MVC and WebFlux by {@code ValidationConfig}; switched
+ * by {@code core.validation.precompiled}.
+ * </p>
+ */
+public class PrecompiledValidator implements SmartValidator {
+
+    private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Marks classes left to the standard validator; compared by identity.
+     */
+    private static final CompiledField[] UNSUPPORTED = new CompiledField[0];
+
+    private final SpringValidatorAdapter standardValidator;
+    private final ConcurrentMap<Class<?>, CompiledField[]> compiledClasses = new ConcurrentHashMap<>();
+
+    public PrecompiledValidator(jakarta.validation.Validator validator) {
+        // The unproxied validator, so that fallbacks are not timed twice by ValidationTimingAspect
+        this.standardValidator = new SpringValidatorAdapter(validator.unwrap(jakarta.validation.Validator.class));
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return true;
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        CompiledField[] fields = target == null ? UNSUPPORTED
+                : compiledClasses.computeIfAbsent(target.getClass(), PrecompiledValidator::compile);
+        if (fields == UNSUPPORTED) {
+            standardValidator.validate(target, errors);
+            return;
+        }
+
+        for (CompiledField field : fields) {
+            Object value = field.read(target);
+            for (Check check : field.checks()) {
+                if (!check.valid().test(value)) {
+                    reject(errors, field.name(), value, check);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (validationHints.length > 0) {
+            standardValidator.validate(target, errors, validationHints);
+        } else {
+            validate(target, errors);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors, Object... validationHints) {
+        standardValidator.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) {
+        return standardValidator.unwrap(type);
+    }
+
+    /**
+     * Records a violation the way {@link SpringValidatorAdapter} does, unless
+     * the field already failed to bind.
+     */
+    private static void reject(Errors errors, String field, Object value, Check check) {
+        FieldError existing = errors.getFieldError(field);
+        if (existing != null && existing.isBindingFailure()) {
+            return;
+        }
+
+        Object[] arguments = new Object[check.attributes().length + 1];
+        arguments[0] = new DefaultMessageSourceResolvable(
+                new String[]{errors.getObjectName() + Errors.NESTED_PATH_SEPARATOR + field, field}, field);
+        System.arraycopy(check.attributes(), 0, arguments, 1, check.attributes().length);
+
+        if (errors instanceof BindingResult bindingResult) {
+            bindingResult.addError(new FieldError(errors.getObjectName(), bindingResult.getNestedPath() + field,
+                    value, false, bindingResult.resolveMessageCodes(check.code(), field), arguments, check.message()));
+        } else {
+            errors.rejectValue(field, check.code(), arguments, check.message());
+        }
+    }
+
+    /**
+     * Resolves the constraints of the given class.
+     *
+     * @return the constrained fields, or {@link #UNSUPPORTED}
+     */
+    private static CompiledField[] compile(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>(ClassUtils.getAllInterfacesForClassAsSet(type));
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.add(current);
+        }
+
+        List<CompiledField> fields = new ArrayList<>();
+        for (Class<?> current : hierarchy) {
+            if (hasValidationAnnotation(current.getAnnotations())) {
+                return UNSUPPORTED;
+            }
+            for (Method method : current.getDeclaredMethods()) {
+                if (hasValidationAnnotation(method.getAnnotations())) {
+                    return UNSUPPORTED;
+                }
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (hasTypeArgumentAnnotation(field.getAnnotatedType())) {
+                    return UNSUPPORTED;
+                }
+                List<Check> checks = new ArrayList<>();
+                for (Annotation annotation : field.getAnnotations()) {
+                    if (!isValidationAnnotation(annotation)) {
+                        continue;
+                    }
+                    Check check = compile(annotation, field.getType());
+                    if (check == null) {
+                        return UNSUPPORTED;
+                    }
+                    checks.add(check);
+                }
+                if (!checks.isEmpty()) {
+                    MethodHandle getter = getter(field);
+                    if (getter == null) {
+                        return UNSUPPORTED;
+                    }
+                    fields.add(new CompiledField(field.getName(), getter, checks.toArray(new Check[0])));
+                }
+            }
+        }
+        return fields.toArray(new CompiledField[0]);
+    }
+
+    /**
+     * Compiles one constraint of a field.
+     *
+     * @return the check, or null if the constraint must be left to the standard validator
+     */
+    private static Check compile(Annotation annotation, Class<?> fieldType) {
+        Map<String, Object> attributes = AnnotationUtils.getAnnotationAttributes(annotation);
+        Object message = attributes.get("message");
+        Class<?>[] groups = (Class<?>[]) attributes.get("groups");
+        // Messages with parameters, expressions or escapes need interpolation
+        if (!(message instanceof String literal) || literal.matches(".*[{}$\\\\].*")
+                || groups == null || !(groups.length == 0 || groups.length == 1 && groups[0] == Default.class)) {
+            return null;
+        }
+
+        Predicate<Object> valid = switch (annotation) {
+            case NotNull notNull -> Objects::nonNull;
+            case NotEmpty notEmpty -> sizeCheck(fieldType, 1, Integer.MAX_VALUE, false);
+            case NotBlank notBlank -> CharSequence.class.isAssignableFrom(fieldType)
+                    ? value -> value != null && isNotBlank((CharSequence) value) : null;
+            case Size size -> sizeCheck(fieldType, size.min(), size.max(), true);
+            case Pattern pattern -> patternCheck(fieldType, pattern);
+            default -> null;
+        };
+        if (valid == null) {
+            return null;
+        }
+
+        // Exposed as message arguments in attribute name order, as SpringValidatorAdapter does
+        Map<String, Object> exposed = new TreeMap<>(attributes);
+        exposed.keySet().removeAll(List.of("message", "groups", "payload"));
+        return new Check(valid, annotation.annotationType().getSimpleName(), literal, exposed.values().toArray());
+    }
+
+    private static Predicate<Object> sizeCheck(Class<?> fieldType, int min, int max, boolean nullValid) {
+        ToIntFunction<Object> size;
+        if (CharSequence.class.isAssignableFrom(fieldType)) {
+            size = value -> ((CharSequence) value).length();
+        } else if (Collection.class.isAssignableFrom(fieldType)) {
+            size = value -> ((Collection<?>) value).size();
+        } else if (Map.class.isAssignableFrom(fieldType)) {
+            size = value -> ((Map<?, ?>) value).size();
+        } else if (fieldType.isArray()) {
+            size = Array::getLength;
+        } else {
+            return null;
+        }
+        return value -> {
+            if (value == null) {
+                return nullValid;
+            }
+            int length = size.applyAsInt(value);
+            return length >= min && length <= max;
+        };
+    }
+
+    private static Predicate<Object> patternCheck(Class<?> fieldType, Pattern pattern) {
+        if (!CharSequence.class.isAssignableFrom(fieldType) || pattern.flags().length > 0) {
+            return null;
+        }
+        CharacterPattern matcher = CharacterPattern.compile(pattern.regexp());
+        if (matcher == null) {
+            return null;
+        }
+        return value -> value == null || matcher.matches((CharSequence) value);
+    }
+
+    /**
+     * Same as Hibernate Validator: blank means empty once trimmed.
+     */
+    private static boolean isNotBlank(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasValidationAnnotation(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (isValidationAnnotation(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tells whether the annotation is a constraint, a container of repeated
+     * constraints or any other Bean Validation annotation, such as
+     * {@code @Valid} or {@code @GroupSequence}.
+     */
+    private static boolean isValidationAnnotation(Annotation annotation) {
+        Class<? extends Annotation> type = annotation.annotationType();
+        if (type.isAnnotationPresent(Constraint.class)
+                || type.getName().startsWith("jakarta.validation.")
+                || type.getName().startsWith("org.hibernate.validator.")) {
+            return true;
+        }
+        try {
+            Class<?> valueType = type.getMethod("value").getReturnType();
+            return valueType.isArray() && valueType.getComponentType().isAnnotationPresent(Constraint.class);
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Tells whether a type argument or array component of the type carries a
+     * validation annotation, as in {@code List<@NotBlank String>}.
+     */
+    private static boolean hasTypeArgumentAnnotation(AnnotatedType type) {
+        List<AnnotatedType> nested = new ArrayList<>();
+        if (type instanceof AnnotatedParameterizedType parameterized) {
+            nested.addAll(List.of(parameterized.getAnnotatedActualTypeArguments()));
+        } else if (type instanceof AnnotatedArrayType array) {
+            nested.add(array.getAnnotatedGenericComponentType());
+        } else if (type instanceof AnnotatedWildcardType wildcard) {
+            nested.addAll(List.of(wildcard.getAnnotatedUpperBounds()));
+            nested.addAll(List.of(wildcard.getAnnotatedLowerBounds()));
+        }
+        for (AnnotatedType argument : nested) {
+            if (hasValidationAnnotation(argument.getAnnotations()) || hasTypeArgumentAnnotation(argument)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectGetter(field)
+                    .asType(OBJECT_GETTER);
+        } catch (IllegalAccessException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * A constrained field and its checks, in declaration order.
+     */
+    private record CompiledField(String name, MethodHandle getter, Check[] checks) {
+
+        Object read(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable exception) {
+                throw new IllegalStateException("Could not read field " + name, exception);
+            }
+        }
+    }
+
+    /**
+     * One constraint: its test, its error code and message, and the attributes
+     * exposed as message arguments.
+     */
+    private record Check(Predicate<Object> valid, String code, String message, Object[] attributes) {
+    }
+}
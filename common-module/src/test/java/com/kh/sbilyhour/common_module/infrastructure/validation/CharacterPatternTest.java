@@ -0,0 +1,132 @@
+package com.kh.sbilyhour.common_module.infrastructure.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs expressions through both {@link CharacterPattern} and
+ * {@code java.util.regex} and expects the same answer for every input.
+ */
+class CharacterPatternTest {
+
+    /**
+     * Characters expressions and inputs are drawn from: class and range
+     * syntax, the neighbours of range bounds, and a surrogate pair.
+     */
+    private static final String ALPHABET = "abcyzMF0189-.,/\\^]&$ +😀";
+
+    private final Random random = new Random(42);
+
+    @Test
+    void supportedExpressionsMatchLikeJavaUtilRegex() {
+        String[] regexps = {
+                "^[MF]$", "^[0-9]{8,9}$", "[a-c]{2}x?", "^\\d{3}-\\d+$", "[^a]{1,2}", "a*", "ab+",
+                // Dashes: literal first or last, escaped bounds of ranges
+                "[\\--z]", "[\\--\\/]", "[+-\\-]", "[a-]{2}[0-9]*", "[-a]+", "[^-a]*", "[\\-a]{0,}", "[a\\-z]+",
+                // Escaped class syntax
+                "[\\]]+", "[\\^-a]*", "[\\\\-a]", "[\\[]", "[\\&]", "\\$", "\\^a", "[$]", "[\\d.]+",
+                "[ -/]*", "\\+\\d{2}"
+        };
+        for (String regexp : regexps) {
+            assertNotNull(CharacterPattern.compile(regexp), regexp);
+            assertSameMatches(regexp);
+        }
+    }
+
+    @Test
+    void otherExpressionsAreLeftToJavaUtilRegex() {
+        String[] regexps = {
+                "(a|b)", "a.b", "a{2,3}b", "\\w+", "[a-z&&[^b]]", "a+?", "a++", "", "^$", "\\p{L}", "[a&b]",
+                // Dashes java.util.regex gives its own meaning to
+                "[a-c-e]", "[\\d-z]", "[!--]", "[--/]", "[a-\\d]", "[ab-]-c]",
+                "\\1", "\\Qa\\E", "[]a]", "[a", "a{,3}", "😀"
+        };
+        for (String regexp : regexps) {
+            assertNull(CharacterPattern.compile(regexp), regexp);
+        }
+    }
+
+    @Test
+    void generatedExpressionsMatchLikeJavaUtilRegex() {
+        int supported = 0;
+        for (int n = 0; n < 20_000; n++) {
+            String regexp = randomExpression();
+            if (CharacterPattern.compile(regexp) != null) {
+                supported++;
+                assertSameMatches(regexp);
+            }
+        }
+        // The generator must reach the supported subset, not only its fallbacks
+        assertTrue(supported > 2_000, supported + " supported expressions");
+    }
+
+    private void assertSameMatches(String regexp) {
+        CharacterPattern characterPattern = CharacterPattern.compile(regexp);
+        Pattern pattern = Pattern.compile(regexp);
+        for (int n = 0; n < 500; n++) {
+            String input = randomString(random.nextInt(6));
+            assertEquals(pattern.matcher(input).matches(), characterPattern.matches(input),
+                    () -> "'" + regexp + "' on '" + input + "'");
+        }
+    }
+
+    private String randomExpression() {
+        StringBuilder regexp = new StringBuilder();
+        int elements = 1 + random.nextInt(3);
+        for (int i = 0; i < elements; i++) {
+            if (random.nextInt(3) == 0) {
+                regexp.append(randomAtom());
+            } else {
+                regexp.append('[');
+                if (random.nextInt(4) == 0) {
+                    regexp.append('^');
+                }
+                int items = 1 + random.nextInt(4);
+                for (int j = 0; j < items; j++) {
+                    regexp.append(randomAtom());
+                    if (random.nextInt(3) == 0) {
+                        regexp.append('-');
+                    }
+                }
+                regexp.append(']');
+            }
+            regexp.append(switch (random.nextInt(6)) {
+                case 0 -> "?";
+                case 1 -> "*";
+                case 2 -> "+";
+                case 3 -> "{" + random.nextInt(3) + "," + (2 + random.nextInt(2)) + "}";
+                default -> "";
+            });
+        }
+        return regexp.toString();
+    }
+
+    private String randomAtom() {
+        return switch (random.nextInt(5)) {
+            case 0 -> "\\" + "-^]\\[.$&".charAt(random.nextInt(8));
+            case 1 -> "\\d";
+            default -> randomString(1);
+        };
+    }
+
+    private String randomString(int length) {
+        StringBuilder string = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int index = random.nextInt(ALPHABET.length() - 1);
+            // Keep surrogate pairs together
+            if (Character.isSurrogate(ALPHABET.charAt(index))) {
+                string.append("😀");
+            } else {
+                string.append(ALPHABET.charAt(index));
+            }
+        }
+        return string.toString();
+    }
+}
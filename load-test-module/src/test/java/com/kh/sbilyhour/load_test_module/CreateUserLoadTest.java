@@ -0,0 +1,79 @@
+package com.kh.sbilyhour.load_test_module;
+
+import com.kh.sbilyhour.users_module.UsersModuleApplication;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Open-loop load test of {@code POST /core/auth/v1/createUser} against the
+ * real application on an embedded server and in-memory H2.
+ * <p>
+ * Only runs with {@code -Dloadtest=true}; see the module README for the
+ * settings. The server can be configured like the application, e.g.
+ * {@code -Dspring.threads.virtual.enabled=true}, and the values that
+ * matter for performance are written to the report.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(classes = UsersModuleApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:loadtest")
+class CreateUserLoadTest {
+
+    /**
+     * Server settings written to the report.
+     */
+    private static final List<String> SERVER_PROPERTIES = List.of(
+            "spring.threads.virtual.enabled",
+            "spring.datasource.hikari.maximum-pool-size",
+            "spring.jpa.properties.hibernate.jdbc.batch_size",
+            "core.metrics.enabled",
+            "users.cache.maximum-size",
+            "users.name-filter.enabled",
+            "users.write-behind.enabled",
+            "users.write-behind.batch-size");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void createUser() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        URI createUserUri = URI.create("http://localhost:" + port + "/core/auth/v1/createUser");
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(httpClient, createUserUri, settings);
+
+        generator.run("Warmup", settings.warmup());
+        OpenLoopLoadGenerator.Result result = generator.run("Load", settings.duration());
+
+        LoadTestReport.write(settings, serverSettings(), result);
+
+        assertEquals(0, result.failures(), "Every request should get a response");
+    }
+
+    private Map<String, String> serverSettings() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        for (String property : SERVER_PROPERTIES) {
+            settings.put(property, environment.getProperty(property, "unset"));
+        }
+        return settings;
+    }
+}
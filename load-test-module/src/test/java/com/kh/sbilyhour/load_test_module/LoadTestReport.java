@@ -0,0 +1,111 @@
+package com.kh.sbilyhour.load_test_module;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the outcome of a load test run.
+ * <p>
+ * {@code <label>.txt} holds the settings, the server configuration, the
+ * throughput, the status counts and the full latency distribution of the
+ * run. {@code results.csv} gets one line per run with the same columns every
+ * time, so runs with different thread models, cache or batching settings can
+ * be compared side by side.
+ * </p>
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String CSV_HEADER = "timestamp,label,server,rate,concurrency,collision_ratio,duration_s,"
+            + "completed,failures,throughput,p50_ms,p90_ms,p99_ms,p99_9_ms,p99_99_ms,max_ms,status_counts";
+
+    private LoadTestReport() {
+    }
+
+    /**
+     * Writes the report files of a run.
+     *
+     * @param settings the settings of the run
+     * @param server   the server configuration, property name to value
+     * @param result   the outcome of the recorded phase
+     * @return the path of the text report
+     */
+    static Path write(LoadTestSettings settings, Map<String, String> server, OpenLoopLoadGenerator.Result result)
+            throws IOException {
+        Path directory = Path.of(settings.reportDir());
+        Files.createDirectories(directory);
+
+        Path report = directory.resolve(settings.label() + ".txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(report), false, StandardCharsets.UTF_8)) {
+            out.printf("Load test '%s' at %s%n%n", settings.label(), Instant.now());
+            out.printf("rate=%d/s concurrency=%d collision-ratio=%.2f warmup=%s duration=%s%n",
+                    settings.rate(), settings.concurrency(), settings.collisionRatio(),
+                    settings.warmup(), settings.duration());
+            server.forEach((name, value) -> out.printf("%s=%s%n", name, value));
+
+            out.printf("%ncompleted=%d failures=%d elapsed=%s throughput=%.1f/s%n",
+                    result.completed(), result.failures(), result.elapsed(), result.throughput());
+            out.printf("statuses=%s%n%n", result.statusCounts());
+
+            Histogram latencies = result.latencies();
+            for (double percentile : PERCENTILES) {
+                out.printf(Locale.ROOT, "p%-6s %10.3f ms%n", format(percentile), millis(latencies.getValueAtPercentile(percentile)));
+            }
+            out.printf(Locale.ROOT, "max     %10.3f ms%n%n", millis(latencies.getMaxValue()));
+
+            out.println("Latency distribution (ms, corrected for coordinated omission):");
+            latencies.outputPercentileDistribution(out, 5, NANOS_PER_MILLI);
+        }
+
+        appendCsv(directory.resolve("results.csv"), settings, server, result);
+        return report;
+    }
+
+    private static void appendCsv(Path csv, LoadTestSettings settings, Map<String, String> server,
+                                  OpenLoopLoadGenerator.Result result) throws IOException {
+        StringBuilder line = new StringBuilder();
+        if (Files.notExists(csv)) {
+            line.append(CSV_HEADER).append('\n');
+        }
+        Histogram latencies = result.latencies();
+        line.append(Instant.now()).append(',')
+                .append(settings.label()).append(',')
+                .append(quote(server.toString())).append(',')
+                .append(settings.rate()).append(',')
+                .append(settings.concurrency()).append(',')
+                .append(settings.collisionRatio()).append(',')
+                .append(settings.duration().toSeconds()).append(',')
+                .append(result.completed()).append(',')
+                .append(result.failures()).append(',')
+                .append(String.format(Locale.ROOT, "%.1f", result.throughput()));
+        for (double percentile : PERCENTILES) {
+            line.append(String.format(Locale.ROOT, ",%.3f", millis(latencies.getValueAtPercentile(percentile))));
+        }
+        line.append(String.format(Locale.ROOT, ",%.3f", millis(latencies.getMaxValue())))
+                .append(',').append(quote(result.statusCounts().toString()))
+                .append('\n');
+        Files.writeString(csv, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,38 @@
+package com.kh.sbilyhour.load_test_module;
+
+import java.time.Duration;
+
+/**
+ * Settings of a load test run, read from system properties.
+ *
+ * <ul>
+ *   <li><b>loadtest.rate</b> - Requests per second sent, whatever the response times (default 500).</li>
+ *   <li><b>loadtest.concurrency</b> - Maximum requests in flight (default 64).</li>
+ *   <li><b>loadtest.collision-ratio</b> - Share of requests reusing an already sent name (default 0.1).</li>
+ *   <li><b>loadtest.warmup</b> - Warm-up time, not recorded (default PT10S).</li>
+ *   <li><b>loadtest.duration</b> - Recorded time (default PT30S).</li>
+ *   <li><b>loadtest.label</b> - Name of the run in the report (default "default").</li>
+ *   <li><b>loadtest.report-dir</b> - Directory of the report files (default target/load-test).</li>
+ * </ul>
+ */
+record LoadTestSettings(int rate, int concurrency, double collisionRatio, Duration warmup, Duration duration,
+                        String label, String reportDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        LoadTestSettings settings = new LoadTestSettings(
+                Integer.getInteger("loadtest.rate", 500),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Double.parseDouble(System.getProperty("loadtest.collision-ratio", "0.1")),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                System.getProperty("loadtest.label", "default"),
+                System.getProperty("loadtest.report-dir", "target/load-test"));
+        if (settings.rate <= 0 || settings.concurrency <= 0) {
+            throw new IllegalArgumentException("loadtest.rate and loadtest.concurrency must be positive");
+        }
+        if (settings.collisionRatio < 0 || settings.collisionRatio > 1) {
+            throw new IllegalArgumentException("loadtest.collision-ratio must be between 0 and 1");
+        }
+        return settings;
+    }
+}
@@ -0,0 +1,134 @@
+package com.kh.sbilyhour.load_test_module;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends {@code createUser} requests at a fixed rate (open loop).
+ * <p>
+ * Request {@code i} is due at {@code start + i / rate}, whether or not
+ * earlier requests have completed. At most {@code concurrency} requests are
+ * in flight; when all are busy the next request waits for a free slot and
+ * goes out late. Latency is measured from the time a request was due, not
+ * from the time it was sent, so time spent queued behind a slow server is
+ * counted instead of silently omitted (coordinated omission).
+ * </p>
+ * <p>
+ * A share of {@code collisionRatio} requests reuse the name of an earlier
+ * request and are expected to be rejected with 409. Names are drawn from a
+ * seeded random, so runs with the same settings send the same requests.
+ * </p>
+ */
+class OpenLoopLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final long SEED = 42;
+
+    private final HttpClient httpClient;
+    private final URI createUserUri;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random = new SplittableRandom(SEED);
+    private final List<String> sentNames = new ArrayList<>();
+    private int nameSequence;
+
+    OpenLoopLoadGenerator(HttpClient httpClient, URI createUserUri, LoadTestSettings settings) {
+        this.httpClient = httpClient;
+        this.createUserUri = createUserUri;
+        this.settings = settings;
+    }
+
+    /**
+     * Sends requests at the configured rate for the given time.
+     *
+     * @param phase    the name of the phase, used as part of the user names
+     * @param duration how long to send requests
+     * @return the latencies and outcomes of all requests sent
+     */
+    Result run(String phase, Duration duration) throws InterruptedException {
+        Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        LongAdder failures = new LongAdder();
+        Semaphore inFlight = new Semaphore(settings.concurrency());
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        long requests = duration.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+        for (long i = 0; i < requests; i++) {
+            long due = start + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+
+            HttpRequest request = HttpRequest.newBuilder(createUserUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(nextBody(phase)))
+                    .build();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, exception) -> {
+                        latencies.recordValue(Math.min(System.nanoTime() - due, HIGHEST_TRACKABLE_NANOS));
+                        if (exception != null) {
+                            failures.increment();
+                        } else {
+                            statusCounts.computeIfAbsent(response.statusCode(), code -> new LongAdder()).increment();
+                        }
+                        inFlight.release();
+                    });
+        }
+        // Wait for the requests still in flight
+        inFlight.acquire(settings.concurrency());
+        long elapsed = System.nanoTime() - start;
+
+        Map<Integer, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((code, count) -> statuses.put(code, count.sum()));
+        return new Result(latencies, statuses, failures.sum(), Duration.ofNanos(elapsed));
+    }
+
+    private String nextBody(String phase) {
+        String name;
+        if (!sentNames.isEmpty() && random.nextDouble() < settings.collisionRatio()) {
+            name = sentNames.get(random.nextInt(sentNames.size()));
+        } else {
+            name = phase + " User " + nameSequence++;
+            sentNames.add(name);
+        }
+        String gender = random.nextBoolean() ? "M" : "F";
+        return "{\"fullName\":\"" + name + "\",\"phoneNumber\":\"012345678\",\"gender\":\"" + gender + "\"}";
+    }
+
+    /**
+     * Outcome of one phase.
+     *
+     * @param latencies    latencies in nanoseconds, corrected for coordinated omission
+     * @param statusCounts number of responses per HTTP status
+     * @param failures     number of requests without a response (I/O errors)
+     * @param elapsed      time from the first request being due until the last response
+     */
+    record Result(Histogram latencies, Map<Integer, Long> statusCounts, long failures, Duration elapsed) {
+
+        long completed() {
+            return latencies.getTotalCount();
+        }
+
+        double throughput() {
+            return completed() / (elapsed.toNanos() / 1_000_000_000.0);
+        }
+    }
+}
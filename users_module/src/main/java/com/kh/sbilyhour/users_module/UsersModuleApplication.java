@@ -2,16 +2,26 @@ package com.kh.sbilyhour.users_module;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
-@SpringBootApplication
+// R2DBC is configured by ReactivePersistenceConfig, next to the JDBC DataSource
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 @ComponentScan({"com.kh.sbilyhour.common_module", "com.kh.sbilyhour.users_module"})
 @EnableTransactionManagement
+@EnableScheduling
 public class UsersModuleApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(UsersModuleApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(UsersModuleApplication.class, args);
+        // Without a web server the application ran a command, e.g. the user import, and is done
+        if (!(context instanceof WebServerApplicationContext)) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
 }
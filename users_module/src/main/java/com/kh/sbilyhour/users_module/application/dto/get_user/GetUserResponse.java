@@ -0,0 +1,17 @@
+package com.kh.sbilyhour.users_module.application.dto.get_user;
+
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GetUserResponse {
+
+    private UserDTO user;
+
+}
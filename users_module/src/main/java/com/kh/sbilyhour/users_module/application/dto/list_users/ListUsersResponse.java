@@ -0,0 +1,26 @@
+package com.kh.sbilyhour.users_module.application.dto.list_users;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the user listing. {@code nextCursor} is absent on the last page.
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ListUsersResponse {
+
+    private List<UserSummary> users;
+
+    private String nextCursor;
+
+}
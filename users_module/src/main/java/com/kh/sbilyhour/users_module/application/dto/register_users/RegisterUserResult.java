@@ -0,0 +1,31 @@
+package com.kh.sbilyhour.users_module.application.dto.register_users;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.common_module.domain.status.Status;
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single item of a bulk registration, identified by its
+ * position in the request.
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RegisterUserResult {
+
+    private int index;
+
+    private Status status;
+
+    private UserDTO user;
+
+    private HttpError error;
+
+}
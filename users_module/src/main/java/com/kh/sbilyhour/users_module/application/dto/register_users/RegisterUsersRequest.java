@@ -0,0 +1,27 @@
+package com.kh.sbilyhour.users_module.application.dto.register_users;
+
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk registration request. Items are validated one by one so that a single
+ * invalid entry is reported in its own result instead of rejecting the batch.
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RegisterUsersRequest {
+
+    @NotEmpty(message = "Users are required!")
+    @Size(max = 1000, message = "At most 1000 users can be registered at once")
+    private List<RegisterUserRequest> users;
+
+}
@@ -0,0 +1,18 @@
+package com.kh.sbilyhour.users_module.application.dto.register_users;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RegisterUsersResponse {
+
+    private List<RegisterUserResult> results;
+
+}
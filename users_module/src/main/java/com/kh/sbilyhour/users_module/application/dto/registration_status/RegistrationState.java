@@ -0,0 +1,20 @@
+package com.kh.sbilyhour.users_module.application.dto.registration_status;
+
+/**
+ * State of an asynchronous registration.
+ *
+ * <ul>
+ *   <li><b>PENDING</b> - Accepted and queued, not written yet.</li>
+ *   <li><b>REGISTERED</b> - Written and committed.</li>
+ *   <li><b>FAILED</b> - Rejected when written, e.g. because the name was taken meanwhile.</li>
+ * </ul>
+ */
+public enum RegistrationState {
+
+    PENDING,
+
+    REGISTERED,
+
+    FAILED
+
+}
@@ -0,0 +1,30 @@
+package com.kh.sbilyhour.users_module.application.dto.registration_status;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Status of an asynchronous registration, looked up by its tracking token.
+ * {@code user} is set once registered, {@code error} once failed.
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RegistrationStatusResponse {
+
+    private String token;
+
+    private RegistrationState state;
+
+    private UserDTO user;
+
+    private HttpError error;
+
+}
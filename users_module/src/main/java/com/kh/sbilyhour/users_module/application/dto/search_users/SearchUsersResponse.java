@@ -0,0 +1,22 @@
+package com.kh.sbilyhour.users_module.application.dto.search_users;
+
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Users matching a name search, best match first.
+ */
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchUsersResponse {
+
+    private List<UserSummary> users;
+
+}
@@ -2,9 +2,19 @@ package com.kh.sbilyhour.users_module.application.use_case;
 
 import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
 import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.domain.exception.UserAlreadyExistsException;
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import com.kh.sbilyhour.users_module.domain.utils.SingleFlight;
+import com.kh.sbilyhour.users_module.infrastructure.metrics.UserRegistrationMetrics;
+import com.kh.sbilyhour.users_module.infrastructure.metrics.UserRegistrationMetrics.DuplicateNameSource;
+import com.kh.sbilyhour.users_module.infrastructure.service.ReactiveRegisterUserService;
 import com.kh.sbilyhour.users_module.infrastructure.service.RegisterUserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Use case for creating a new user.
@@ -13,15 +23,33 @@ import org.springframework.stereotype.Component;
  * including checking for existing users and delegating
  * the actual registration process to the RegisterUserService.
  * </p>
+ * <p>
+ * Concurrent requests for the same normalized name, e.g. from a client
+ * retrying aggressively, are coalesced: only the first one checks and
+ * inserts, the others wait for it and receive its outcome. A waiting
+ * request with different details than the registered user gets a conflict,
+ * as it would have after the first one committed.
+ * </p>
+ * <p>
+ * {@link #executeReactive} is the non-blocking variant for the reactive
+ * stack. It coalesces with {@link #execute} on the same names.
+ * </p>
  */
 @Component
 public class CreateUserUseCase {
 
     private final RegisterUserService registerUserService;
+    private final ReactiveRegisterUserService reactiveRegisterUserService;
+    private final UserRegistrationMetrics registrationMetrics;
+    private final SingleFlight<String, UserDTO> registrations = new SingleFlight<>();
 
     @Autowired
-    public CreateUserUseCase(RegisterUserService registerUserService) {
+    public CreateUserUseCase(RegisterUserService registerUserService,
+                             ReactiveRegisterUserService reactiveRegisterUserService,
+                             UserRegistrationMetrics registrationMetrics) {
         this.registerUserService = registerUserService;
+        this.reactiveRegisterUserService = reactiveRegisterUserService;
+        this.registrationMetrics = registrationMetrics;
     }
 
     /**
@@ -29,13 +57,87 @@ public class CreateUserUseCase {
      *
      * @param request the user registration request containing user details
      * @return the registered UserDTO
-     * @throws RuntimeException if a user with the same name already exists
+     * @throws UserAlreadyExistsException if a user with the same name already exists
      */
     public UserDTO execute(RegisterUserRequest request) {
+        boolean[] registeredHere = {false};
+        UserDTO user = registrations.execute(FullNameNormalizer.normalize(request.getFullName()), () -> {
+            registeredHere[0] = true;
+            return register(request);
+        });
+        if (registeredHere[0]) {
+            return user;
+        }
+
+        registrationMetrics.recordCoalesced();
+        return checkCoalesced(user, request);
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}.
+     *
+     * @param request the user registration request containing user details
+     * @return the registered UserDTO, or a {@link UserAlreadyExistsException} error
+     */
+    public Mono<UserDTO> executeReactive(RegisterUserRequest request) {
+        return Mono.defer(() -> {
+            String normalizedFullName = FullNameNormalizer.normalize(request.getFullName());
+            boolean[] registeredHere = {false};
+            CompletableFuture<UserDTO> user = registrations.executeAsync(normalizedFullName, () -> {
+                registeredHere[0] = true;
+                return registerReactive(request).toFuture();
+            });
+            if (registeredHere[0]) {
+                return Mono.fromFuture(user);
+            }
+
+            registrationMetrics.recordCoalesced();
+            return Mono.fromFuture(user).map(registeredUser -> checkCoalesced(registeredUser, request));
+        });
+    }
+
+    private UserDTO register(RegisterUserRequest request) {
         if (registerUserService.isExitingUser(request.getFullName())) {
-            throw new RuntimeException("User with the same name already exists.");
+            registrationMetrics.recordDuplicateName(DuplicateNameSource.EXISTING);
+            throw UserAlreadyExistsException.INSTANCE;
         }
 
-        return registerUserService.registerUser(request);
+        try {
+            return registerUserService.registerUser(request);
+        } catch (UserAlreadyExistsException exception) {
+            registrationMetrics.recordDuplicateName(DuplicateNameSource.CONSTRAINT);
+            throw exception;
+        }
+    }
+
+    private Mono<UserDTO> registerReactive(RegisterUserRequest request) {
+        return reactiveRegisterUserService.isExitingUser(request.getFullName())
+                .flatMap(exists -> {
+                    if (exists) {
+                        registrationMetrics.recordDuplicateName(DuplicateNameSource.EXISTING);
+                        return Mono.error(UserAlreadyExistsException.INSTANCE);
+                    }
+                    return reactiveRegisterUserService.registerUser(request)
+                            .doOnError(UserAlreadyExistsException.class,
+                                    exception -> registrationMetrics.recordDuplicateName(DuplicateNameSource.CONSTRAINT));
+                });
+    }
+
+    /**
+     * Returns the user registered by a concurrent request for the same name,
+     * if it is what this request asked for; otherwise the name is taken.
+     */
+    private UserDTO checkCoalesced(UserDTO user, RegisterUserRequest request) {
+        if (!isSameUser(user, request)) {
+            registrationMetrics.recordDuplicateName(DuplicateNameSource.EXISTING);
+            throw UserAlreadyExistsException.INSTANCE;
+        }
+        return user;
+    }
+
+    private boolean isSameUser(UserDTO user, RegisterUserRequest request) {
+        return Objects.equals(user.getFullName(), request.getFullName())
+                && Objects.equals(user.getPhoneNumber(), request.getPhoneNumber())
+                && Objects.equals(user.getGender(), request.getGender());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,174 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.common_module.domain.error.Error;
+import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.common_module.domain.exception.DomainException;
+import com.kh.sbilyhour.common_module.domain.status.Status;
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import com.kh.sbilyhour.users_module.application.dto.register_users.RegisterUserResult;
+import com.kh.sbilyhour.users_module.domain.exception.UserAlreadyExistsException;
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import com.kh.sbilyhour.users_module.infrastructure.metrics.UserRegistrationMetrics;
+import com.kh.sbilyhour.users_module.infrastructure.metrics.UserRegistrationMetrics.DuplicateNameSource;
+import com.kh.sbilyhour.users_module.infrastructure.service.RegisterUserService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Use case for registering many users at once.
+ * <p>
+ * Every item is validated on its own, then all remaining names are checked
+ * against the database with one set-based query, and the accepted users are
+ * inserted in a single batched transaction. The outcome of every item is
+ * reported at its original position.
+ * </p>
+ */
+@Component
+public class CreateUsersUseCase {
+
+    private static final String DUPLICATE_IN_REQUEST = "User with the same name is already part of this request.";
+
+    private final RegisterUserService registerUserService;
+    private final Validator validator;
+    private final UserRegistrationMetrics registrationMetrics;
+
+    @Autowired
+    public CreateUsersUseCase(RegisterUserService registerUserService, Validator validator,
+                              UserRegistrationMetrics registrationMetrics) {
+        this.registerUserService = registerUserService;
+        this.validator = validator;
+        this.registrationMetrics = registrationMetrics;
+    }
+
+    /**
+     * Executes the bulk user creation process.
+     *
+     * @param requests the user registration requests
+     * @return one result per request, in request order
+     */
+    public List<RegisterUserResult> execute(List<RegisterUserRequest> requests) {
+        RegisterUserResult[] results = new RegisterUserResult[requests.size()];
+
+        // Validate every item and drop duplicates inside the request itself
+        List<Integer> candidates = new ArrayList<>(requests.size());
+        String[] normalizedNames = new String[requests.size()];
+        Set<String> seenNames = new HashSet<>();
+        for (int index = 0; index < requests.size(); index++) {
+            RegisterUserRequest request = requests.get(index);
+            List<Error> violations = validate(request);
+            if (!violations.isEmpty()) {
+                results[index] = failure(index, violations, HttpStatus.BAD_REQUEST);
+                continue;
+            }
+            normalizedNames[index] = FullNameNormalizer.normalize(request.getFullName());
+            if (!seenNames.add(normalizedNames[index])) {
+                registrationMetrics.recordDuplicateName(DuplicateNameSource.REQUEST);
+                results[index] = failure(index, DUPLICATE_IN_REQUEST, HttpStatus.CONFLICT);
+            } else {
+                candidates.add(index);
+            }
+        }
+
+        // One existence query for all remaining names
+        Set<String> existingNames = registerUserService.findExistingNormalizedFullNames(seenNames);
+        List<Integer> accepted = new ArrayList<>(candidates.size());
+        for (Integer index : candidates) {
+            if (existingNames.contains(normalizedNames[index])) {
+                registrationMetrics.recordDuplicateName(DuplicateNameSource.EXISTING);
+                results[index] = failure(index, UserAlreadyExistsException.INSTANCE);
+            } else {
+                accepted.add(index);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            register(requests, accepted, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Inserts the accepted items as one batch. If a concurrent registration
+     * took one of the names in the meantime the whole transaction is rolled
+     * back, so the items are retried one by one to report them individually.
+     */
+    private void register(List<RegisterUserRequest> requests, List<Integer> accepted, RegisterUserResult[] results) {
+        List<RegisterUserRequest> batch = new ArrayList<>(accepted.size());
+        for (Integer index : accepted) {
+            batch.add(requests.get(index));
+        }
+
+        try {
+            List<UserDTO> registeredUsers = registerUserService.registerUsers(batch);
+            for (int i = 0; i < accepted.size(); i++) {
+                results[accepted.get(i)] = success(accepted.get(i), registeredUsers.get(i));
+            }
+        } catch (DataIntegrityViolationException exception) {
+            for (Integer index : accepted) {
+                try {
+                    results[index] = success(index, registerUserService.registerUser(requests.get(index)));
+                } catch (UserAlreadyExistsException itemException) {
+                    registrationMetrics.recordDuplicateName(DuplicateNameSource.CONSTRAINT);
+                    results[index] = failure(index, itemException);
+                } catch (DomainException itemException) {
+                    results[index] = failure(index, itemException);
+                }
+            }
+        }
+    }
+
+    private List<Error> validate(RegisterUserRequest request) {
+        if (request == null) {
+            return List.of(new Error("User is required!"));
+        }
+        Set<ConstraintViolation<RegisterUserRequest>> violations = validator.validate(request);
+        List<Error> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<RegisterUserRequest> violation : violations) {
+            errors.add(new Error(violation.getMessage()));
+        }
+        return errors;
+    }
+
+    private RegisterUserResult success(int index, UserDTO user) {
+        return RegisterUserResult.builder()
+                .index(index)
+                .status(Status.SUCCESS)
+                .user(user)
+                .build();
+    }
+
+    private RegisterUserResult failure(int index, DomainException exception) {
+        return RegisterUserResult.builder()
+                .index(index)
+                .status(exception.getStatus())
+                .error(exception.getResponseBody().getError())
+                .build();
+    }
+
+    private RegisterUserResult failure(int index, String message, HttpStatus httpStatus) {
+        return failure(index, List.of(new Error(message)), httpStatus);
+    }
+
+    private RegisterUserResult failure(int index, List<Error> errors, HttpStatus httpStatus) {
+        HttpError httpError = HttpError.builder()
+                .code(httpStatus.value())
+                .errors(errors)
+                .build();
+        return RegisterUserResult.builder()
+                .index(index)
+                .status(Status.FAIL)
+                .error(httpError)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.users_module.infrastructure.exporter.UserExportFormat;
+import com.kh.sbilyhour.users_module.infrastructure.exporter.UserExportResult;
+import com.kh.sbilyhour.users_module.infrastructure.exporter.UserExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Use case for dumping the users table, e.g. for analytics handoffs.
+ * <p>
+ * Users are encoded as they are read from a single forward-only cursor, so
+ * the export takes the same memory whatever the number of users.
+ * </p>
+ */
+@Component
+public class ExportUsersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportUsersUseCase.class);
+
+    private final UserExporter userExporter;
+
+    @Autowired
+    public ExportUsersUseCase(UserExporter userExporter) {
+        this.userExporter = userExporter;
+    }
+
+    /**
+     * Executes the export.
+     *
+     * @param format  the format to write
+     * @param gzip    whether to compress the output
+     * @param afterId the id after which to start, 0 for all users
+     * @param output  where to write; flushed but not closed
+     * @return the outcome of the export
+     * @throws IOException if the output cannot be written, e.g. the client went away
+     */
+    public UserExportResult execute(UserExportFormat format, boolean gzip, long afterId, OutputStream output)
+            throws IOException {
+        UserExportResult result = userExporter.export(format, gzip, afterId, output);
+        logger.info("Exported {} users after id {} as {}{} in {} ({} users/s), last id {}",
+                result.users(), afterId, format, gzip ? "+gzip" : "", result.elapsed(), result.usersPerSecond(),
+                result.lastId());
+        return result;
+    }
+}
@@ -0,0 +1,32 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.users_module.application.dto.registration_status.RegistrationStatusResponse;
+import com.kh.sbilyhour.users_module.domain.exception.RegistrationNotFoundException;
+import com.kh.sbilyhour.users_module.infrastructure.queue.UserRegistrationQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use case for reading the status of an asynchronous registration.
+ */
+@Component
+public class GetRegistrationStatusUseCase {
+
+    private final UserRegistrationQueue registrationQueue;
+
+    @Autowired
+    public GetRegistrationStatusUseCase(UserRegistrationQueue registrationQueue) {
+        this.registrationQueue = registrationQueue;
+    }
+
+    /**
+     * Executes the lookup.
+     *
+     * @param token the tracking token returned when the user was submitted
+     * @return the status of the registration
+     * @throws RegistrationNotFoundException if the token is unknown or has expired
+     */
+    public RegistrationStatusResponse execute(String token) {
+        return registrationQueue.getStatus(token).orElseThrow(() -> RegistrationNotFoundException.INSTANCE);
+    }
+}
@@ -0,0 +1,46 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.domain.exception.UserNotFoundException;
+import com.kh.sbilyhour.users_module.infrastructure.service.FindUserService;
+import com.kh.sbilyhour.users_module.infrastructure.service.ReactiveFindUserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case for reading a user by full name.
+ */
+@Component
+public class GetUserByFullNameUseCase {
+
+    private final FindUserService findUserService;
+    private final ReactiveFindUserService reactiveFindUserService;
+
+    @Autowired
+    public GetUserByFullNameUseCase(FindUserService findUserService, ReactiveFindUserService reactiveFindUserService) {
+        this.findUserService = findUserService;
+        this.reactiveFindUserService = reactiveFindUserService;
+    }
+
+    /**
+     * Executes the lookup.
+     *
+     * @param fullName the full name of the user, as registered
+     * @return the user
+     * @throws UserNotFoundException if no user has this full name
+     */
+    public UserDTO execute(String fullName) {
+        return findUserService.findByFullName(fullName).orElseThrow(() -> UserNotFoundException.INSTANCE);
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}.
+     *
+     * @param fullName the full name of the user, as registered
+     * @return the user, or a {@link UserNotFoundException} error
+     */
+    public Mono<UserDTO> executeReactive(String fullName) {
+        return reactiveFindUserService.findByFullName(fullName).switchIfEmpty(Mono.error(UserNotFoundException.INSTANCE));
+    }
+}
@@ -0,0 +1,46 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.domain.exception.UserNotFoundException;
+import com.kh.sbilyhour.users_module.infrastructure.service.FindUserService;
+import com.kh.sbilyhour.users_module.infrastructure.service.ReactiveFindUserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case for reading a user by id.
+ */
+@Component
+public class GetUserByIdUseCase {
+
+    private final FindUserService findUserService;
+    private final ReactiveFindUserService reactiveFindUserService;
+
+    @Autowired
+    public GetUserByIdUseCase(FindUserService findUserService, ReactiveFindUserService reactiveFindUserService) {
+        this.findUserService = findUserService;
+        this.reactiveFindUserService = reactiveFindUserService;
+    }
+
+    /**
+     * Executes the lookup.
+     *
+     * @param id the id of the user
+     * @return the user
+     * @throws UserNotFoundException if no user has this id
+     */
+    public UserDTO execute(Long id) {
+        return findUserService.findById(id).orElseThrow(() -> UserNotFoundException.INSTANCE);
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}.
+     *
+     * @param id the id of the user
+     * @return the user, or a {@link UserNotFoundException} error
+     */
+    public Mono<UserDTO> executeReactive(Long id) {
+        return reactiveFindUserService.findById(id).switchIfEmpty(Mono.error(UserNotFoundException.INSTANCE));
+    }
+}
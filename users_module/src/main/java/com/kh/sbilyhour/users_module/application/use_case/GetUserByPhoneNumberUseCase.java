@@ -0,0 +1,47 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.domain.exception.UserNotFoundException;
+import com.kh.sbilyhour.users_module.infrastructure.service.FindUserService;
+import com.kh.sbilyhour.users_module.infrastructure.service.ReactiveFindUserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case for reading a user by phone number. If several users share the
+ * phone number, the one registered first is returned.
+ */
+@Component
+public class GetUserByPhoneNumberUseCase {
+
+    private final FindUserService findUserService;
+    private final ReactiveFindUserService reactiveFindUserService;
+
+    @Autowired
+    public GetUserByPhoneNumberUseCase(FindUserService findUserService, ReactiveFindUserService reactiveFindUserService) {
+        this.findUserService = findUserService;
+        this.reactiveFindUserService = reactiveFindUserService;
+    }
+
+    /**
+     * Executes the lookup.
+     *
+     * @param phoneNumber the phone number of the user
+     * @return the user
+     * @throws UserNotFoundException if no user has this phone number
+     */
+    public UserDTO execute(String phoneNumber) {
+        return findUserService.findByPhoneNumber(phoneNumber).orElseThrow(() -> UserNotFoundException.INSTANCE);
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}.
+     *
+     * @param phoneNumber the phone number of the user
+     * @return the user, or a {@link UserNotFoundException} error
+     */
+    public Mono<UserDTO> executeReactive(String phoneNumber) {
+        return reactiveFindUserService.findByPhoneNumber(phoneNumber).switchIfEmpty(Mono.error(UserNotFoundException.INSTANCE));
+    }
+}
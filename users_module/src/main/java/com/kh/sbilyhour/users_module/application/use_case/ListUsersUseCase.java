@@ -0,0 +1,82 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.users_module.application.dto.list_users.ListUsersResponse;
+import com.kh.sbilyhour.users_module.domain.exception.InvalidCursorException;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.domain.utils.UserCursor;
+import com.kh.sbilyhour.users_module.infrastructure.service.ListUserService;
+import com.kh.sbilyhour.users_module.infrastructure.service.ReactiveFindUserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Use case for listing users page by page.
+ * <p>
+ * Pages are cut by id (keyset pagination), so every page costs the same
+ * index range scan however deep the listing goes, and users registered
+ * meanwhile never shift later pages.
+ * </p>
+ */
+@Component
+public class ListUsersUseCase {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private final ListUserService listUserService;
+    private final ReactiveFindUserService reactiveFindUserService;
+
+    @Autowired
+    public ListUsersUseCase(ListUserService listUserService, ReactiveFindUserService reactiveFindUserService) {
+        this.listUserService = listUserService;
+        this.reactiveFindUserService = reactiveFindUserService;
+    }
+
+    /**
+     * Executes the listing of one page.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit  the page size, capped to {@link #MAX_LIMIT}
+     * @return the page, with the cursor of the next page unless it is the last one
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public ListUsersResponse execute(String cursor, int limit) {
+        long afterId = UserCursor.decode(cursor);
+        int pageSize = Math.clamp(limit, 1, MAX_LIMIT);
+
+        // Read one extra user to know whether another page follows
+        return toPage(listUserService.findPage(afterId, pageSize + 1), pageSize);
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit  the page size, capped to {@link #MAX_LIMIT}
+     * @return the page, or an {@link InvalidCursorException} error if the cursor is malformed
+     */
+    public Mono<ListUsersResponse> executeReactive(String cursor, int limit) {
+        return Mono.defer(() -> {
+            long afterId = UserCursor.decode(cursor);
+            int pageSize = Math.clamp(limit, 1, MAX_LIMIT);
+            return reactiveFindUserService.findPage(afterId, pageSize + 1)
+                    .collectList()
+                    .map(users -> toPage(users, pageSize));
+        });
+    }
+
+    private ListUsersResponse toPage(List<UserSummary> users, int pageSize) {
+        if (users.size() <= pageSize) {
+            return ListUsersResponse.builder().users(users).build();
+        }
+
+        List<UserSummary> page = users.subList(0, pageSize);
+        return ListUsersResponse.builder()
+                .users(page)
+                .nextCursor(UserCursor.encode(page.get(pageSize - 1).id()))
+                .build();
+    }
+}
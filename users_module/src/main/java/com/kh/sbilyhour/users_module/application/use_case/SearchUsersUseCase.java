@@ -0,0 +1,68 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.users_module.application.dto.search_users.SearchUsersResponse;
+import com.kh.sbilyhour.users_module.domain.exception.InvalidSearchQueryException;
+import com.kh.sbilyhour.users_module.domain.exception.UserSearchUnavailableException;
+import com.kh.sbilyhour.users_module.infrastructure.service.FindUserService;
+import com.kh.sbilyhour.users_module.infrastructure.service.ReactiveFindUserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case for finding users whose full name looks like a query: a misspelt
+ * name, part of a name or the beginning of one.
+ */
+@Component
+public class SearchUsersUseCase {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+
+    private final FindUserService findUserService;
+    private final ReactiveFindUserService reactiveFindUserService;
+
+    @Autowired
+    public SearchUsersUseCase(FindUserService findUserService, ReactiveFindUserService reactiveFindUserService) {
+        this.findUserService = findUserService;
+        this.reactiveFindUserService = reactiveFindUserService;
+    }
+
+    /**
+     * Executes the search.
+     *
+     * @param query the query
+     * @param limit the maximum number of users to return, capped to {@link #MAX_LIMIT}
+     * @return the matching users, best match first
+     * @throws InvalidSearchQueryException    if the query is blank
+     * @throws UserSearchUnavailableException if the search index is not loaded yet
+     */
+    public SearchUsersResponse execute(String query, int limit) {
+        validate(query);
+        return SearchUsersResponse.builder()
+                .users(findUserService.searchByName(query, Math.clamp(limit, 1, MAX_LIMIT)))
+                .build();
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}.
+     *
+     * @param query the query
+     * @param limit the maximum number of users to return, capped to {@link #MAX_LIMIT}
+     * @return the matching users, or an {@link InvalidSearchQueryException} or
+     * {@link UserSearchUnavailableException} error
+     */
+    public Mono<SearchUsersResponse> executeReactive(String query, int limit) {
+        return Mono.defer(() -> {
+            validate(query);
+            return reactiveFindUserService.searchByName(query, Math.clamp(limit, 1, MAX_LIMIT))
+                    .map(users -> SearchUsersResponse.builder().users(users).build());
+        });
+    }
+
+    private static void validate(String query) {
+        if (query == null || query.isBlank()) {
+            throw InvalidSearchQueryException.INSTANCE;
+        }
+    }
+}
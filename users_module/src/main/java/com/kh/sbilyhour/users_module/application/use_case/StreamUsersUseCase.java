@@ -0,0 +1,52 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.infrastructure.service.ListUserService;
+import com.kh.sbilyhour.users_module.infrastructure.service.ReactiveFindUserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.util.function.Consumer;
+
+/**
+ * Use case for reading all users in one pass, e.g. for reconciliation jobs.
+ * <p>
+ * Users are handed to the caller one by one as they are read from a single
+ * forward-only database cursor; none are accumulated.
+ * </p>
+ */
+@Component
+public class StreamUsersUseCase {
+
+    private final ListUserService listUserService;
+    private final ReactiveFindUserService reactiveFindUserService;
+
+    @Autowired
+    public StreamUsersUseCase(ListUserService listUserService, ReactiveFindUserService reactiveFindUserService) {
+        this.listUserService = listUserService;
+        this.reactiveFindUserService = reactiveFindUserService;
+    }
+
+    /**
+     * Executes the stream.
+     *
+     * @param afterId the id after which to start, 0 for all users
+     * @param sink    receives every user, in id order
+     * @return the number of users streamed
+     */
+    public long execute(long afterId, Consumer<UserSummary> sink) {
+        return listUserService.forEachAfter(afterId, sink);
+    }
+
+    /**
+     * Non-blocking variant of {@link #execute}: users are read as fast as the
+     * subscriber requests them.
+     *
+     * @param afterId the id after which to start, 0 for all users
+     * @return every user, in id order
+     */
+    public Flux<UserSummary> executeReactive(long afterId) {
+        return reactiveFindUserService.streamAfter(afterId);
+    }
+}
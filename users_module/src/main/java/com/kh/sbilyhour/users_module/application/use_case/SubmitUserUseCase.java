@@ -0,0 +1,62 @@
+package com.kh.sbilyhour.users_module.application.use_case;
+
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import com.kh.sbilyhour.users_module.application.dto.registration_status.RegistrationStatusResponse;
+import com.kh.sbilyhour.users_module.domain.exception.RegistrationQueueFullException;
+import com.kh.sbilyhour.users_module.domain.exception.UserAlreadyExistsException;
+import com.kh.sbilyhour.users_module.infrastructure.metrics.UserRegistrationMetrics;
+import com.kh.sbilyhour.users_module.infrastructure.metrics.UserRegistrationMetrics.DuplicateNameSource;
+import com.kh.sbilyhour.users_module.infrastructure.queue.UserRegistrationQueue;
+import com.kh.sbilyhour.users_module.infrastructure.service.RegisterUserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use case for creating a new user asynchronously.
+ * <p>
+ * The name is checked against registered users and reserved against queued
+ * ones, then the user is handed to the {@link UserRegistrationQueue}, which
+ * writes it in the background. The outcome is looked up later with the
+ * returned tracking token.
+ * </p>
+ */
+@Component
+public class SubmitUserUseCase {
+
+    private final RegisterUserService registerUserService;
+    private final UserRegistrationQueue registrationQueue;
+    private final UserRegistrationMetrics registrationMetrics;
+
+    @Autowired
+    public SubmitUserUseCase(RegisterUserService registerUserService, UserRegistrationQueue registrationQueue,
+                             UserRegistrationMetrics registrationMetrics) {
+        this.registerUserService = registerUserService;
+        this.registrationQueue = registrationQueue;
+        this.registrationMetrics = registrationMetrics;
+    }
+
+    /**
+     * Returns whether users are registered asynchronously.
+     *
+     * @return true if write-behind is enabled
+     */
+    public boolean isEnabled() {
+        return registrationQueue.isEnabled();
+    }
+
+    /**
+     * Executes the user submission process.
+     *
+     * @param request the user registration request containing user details
+     * @return the PENDING status, holding the tracking token
+     * @throws UserAlreadyExistsException      if a user with the same name exists or is queued
+     * @throws RegistrationQueueFullException if too many registrations are pending
+     */
+    public RegistrationStatusResponse execute(RegisterUserRequest request) {
+        if (registerUserService.isExitingUser(request.getFullName())) {
+            registrationMetrics.recordDuplicateName(DuplicateNameSource.EXISTING);
+            throw UserAlreadyExistsException.INSTANCE;
+        }
+        return registrationQueue.submit(request);
+    }
+}
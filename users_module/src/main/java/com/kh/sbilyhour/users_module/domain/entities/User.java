@@ -1,5 +1,6 @@
 package com.kh.sbilyhour.users_module.domain.entities;
 
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,16 +12,35 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "users")
+@Table(
+        name = "users",
+        uniqueConstraints = @UniqueConstraint(name = User.UNIQUE_NORMALIZED_FULL_NAME, columnNames = "normalized_full_name"),
+        indexes = @Index(name = "idx_users_full_name", columnList = "full_name")
+)
 public class User {
 
+    /**
+     * Name of the unique constraint on the normalized full name. A violation of
+     * this constraint is the authoritative signal for a duplicate registration.
+     */
+    public static final String UNIQUE_NORMALIZED_FULL_NAME = "uk_users_normalized_full_name";
+
+    /**
+     * Sequence-backed identifier. A pooled sequence lets Hibernate assign ids
+     * before the INSERT is executed, which is required for JDBC insert batching
+     * (IDENTITY columns force one statement per row).
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "full_name", nullable = false)
     private String fullName;
 
+    @Column(name = "normalized_full_name", nullable = false)
+    private String normalizedFullName;
+
     @Column(name = "phone_number", nullable = false)
     private String phoneNumber;
 
@@ -30,4 +50,13 @@ public class User {
     @Column(name = "create_date", nullable = false)
     private String createDate;
 
+    /**
+     * Keeps the normalized full name in sync with the full name.
+     */
+    @PrePersist
+    @PreUpdate
+    void normalizeFullName() {
+        this.normalizedFullName = FullNameNormalizer.normalize(fullName);
+    }
+
 }
@@ -0,0 +1,53 @@
+package com.kh.sbilyhour.users_module.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox row of a {@code UserRegistered} event, written in the transaction
+ * that registers the user and deleted once every consumer handled the event.
+ * Rows left behind by a crash are published again on the next start.
+ */
+@Data
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "user_registered_outbox")
+public class UserRegisteredOutbox {
+
+    /**
+     * Sequence-backed identifier, allocated in blocks so that the rows of a
+     * batch registration are inserted in JDBC batches along with the users.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_registered_outbox_seq")
+    @SequenceGenerator(name = "user_registered_outbox_seq", sequenceName = "user_registered_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "full_name", nullable = false)
+    private String fullName;
+
+    @Column(name = "phone_number", nullable = false)
+    private String phoneNumber;
+
+    @Column(nullable = false)
+    private String gender;
+
+    @Column(name = "create_date", nullable = false)
+    private String createDate;
+
+    /**
+     * Whether the event is in the ring buffer of this process. Reset on
+     * start, so that events not handled before a crash are published again.
+     */
+    @Column(nullable = false)
+    private boolean relayed;
+
+}
@@ -0,0 +1,16 @@
+package com.kh.sbilyhour.users_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.exception.InvalidRequestException;
+
+/**
+ * Thrown when a listing cursor was not issued by this service.
+ * The message is constant, so the shared {@link #INSTANCE} is thrown every time.
+ */
+public final class InvalidCursorException extends InvalidRequestException {
+
+    public static final InvalidCursorException INSTANCE = new InvalidCursorException();
+
+    private InvalidCursorException() {
+        super("Invalid cursor.");
+    }
+}
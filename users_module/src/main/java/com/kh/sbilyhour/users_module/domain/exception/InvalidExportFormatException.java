@@ -0,0 +1,16 @@
+package com.kh.sbilyhour.users_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.exception.InvalidRequestException;
+
+/**
+ * Thrown when an export is requested in a format other than CSV or NDJSON.
+ * The message is constant, so the shared {@link #INSTANCE} is thrown every time.
+ */
+public final class InvalidExportFormatException extends InvalidRequestException {
+
+    public static final InvalidExportFormatException INSTANCE = new InvalidExportFormatException();
+
+    private InvalidExportFormatException() {
+        super("Export format must be csv or ndjson.");
+    }
+}
@@ -0,0 +1,16 @@
+package com.kh.sbilyhour.users_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.exception.InvalidRequestException;
+
+/**
+ * Thrown when a name search has a blank query.
+ * The message is constant, so the shared {@link #INSTANCE} is thrown every time.
+ */
+public final class InvalidSearchQueryException extends InvalidRequestException {
+
+    public static final InvalidSearchQueryException INSTANCE = new InvalidSearchQueryException();
+
+    private InvalidSearchQueryException() {
+        super("Search query is required.");
+    }
+}
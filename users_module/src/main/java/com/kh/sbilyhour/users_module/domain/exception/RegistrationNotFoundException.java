@@ -0,0 +1,16 @@
+package com.kh.sbilyhour.users_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.exception.NotFoundException;
+
+/**
+ * Thrown when a registration tracking token is unknown or has expired.
+ * The message is constant, so the shared {@link #INSTANCE} is thrown every time.
+ */
+public final class RegistrationNotFoundException extends NotFoundException {
+
+    public static final RegistrationNotFoundException INSTANCE = new RegistrationNotFoundException();
+
+    private RegistrationNotFoundException() {
+        super("Registration not found.");
+    }
+}
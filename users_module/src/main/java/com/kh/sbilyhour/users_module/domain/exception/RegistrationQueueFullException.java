@@ -0,0 +1,17 @@
+package com.kh.sbilyhour.users_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.exception.ServiceUnavailableException;
+
+/**
+ * Thrown when an asynchronous registration cannot be queued, because the
+ * queue is full or the application is shutting down.
+ * The message is constant, so the shared {@link #INSTANCE} is thrown every time.
+ */
+public final class RegistrationQueueFullException extends ServiceUnavailableException {
+
+    public static final RegistrationQueueFullException INSTANCE = new RegistrationQueueFullException();
+
+    private RegistrationQueueFullException() {
+        super("Too many pending registrations, please retry later.");
+    }
+}
@@ -0,0 +1,16 @@
+package com.kh.sbilyhour.users_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.exception.ConflictException;
+
+/**
+ * Thrown when a user with the same normalized full name is already registered.
+ * The message is constant, so the shared {@link #INSTANCE} is thrown every time.
+ */
+public final class UserAlreadyExistsException extends ConflictException {
+
+    public static final UserAlreadyExistsException INSTANCE = new UserAlreadyExistsException();
+
+    private UserAlreadyExistsException() {
+        super("User with the same name already exists.");
+    }
+}
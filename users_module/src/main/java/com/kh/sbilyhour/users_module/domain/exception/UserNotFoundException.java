@@ -0,0 +1,16 @@
+package com.kh.sbilyhour.users_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.exception.NotFoundException;
+
+/**
+ * Thrown when the requested user is not registered.
+ * The message is constant, so the shared {@link #INSTANCE} is thrown every time.
+ */
+public final class UserNotFoundException extends NotFoundException {
+
+    public static final UserNotFoundException INSTANCE = new UserNotFoundException();
+
+    private UserNotFoundException() {
+        super("User not found.");
+    }
+}
@@ -0,0 +1,17 @@
+package com.kh.sbilyhour.users_module.domain.exception;
+
+import com.kh.sbilyhour.common_module.domain.exception.ServiceUnavailableException;
+
+/**
+ * Thrown when users are searched by name before the search index has been
+ * loaded, or while it is disabled.
+ * The message is constant, so the shared {@link #INSTANCE} is thrown every time.
+ */
+public final class UserSearchUnavailableException extends ServiceUnavailableException {
+
+    public static final UserSearchUnavailableException INSTANCE = new UserSearchUnavailableException();
+
+    private UserSearchUnavailableException() {
+        super("User search is not available yet, please retry later.");
+    }
+}
@@ -0,0 +1,11 @@
+package com.kh.sbilyhour.users_module.domain.projection;
+
+/**
+ * Normalized full name of a user, selected without the rest of the row to
+ * load the name search index.
+ *
+ * @param id                 the id of the user
+ * @param normalizedFullName the normalized full name
+ */
+public record UserNormalizedFullName(long id, String normalizedFullName) {
+}
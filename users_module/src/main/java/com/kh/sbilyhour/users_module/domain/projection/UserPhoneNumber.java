@@ -0,0 +1,11 @@
+package com.kh.sbilyhour.users_module.domain.projection;
+
+/**
+ * Phone number of a user, selected without the rest of the row to load the
+ * phone number index.
+ *
+ * @param id          the id of the user
+ * @param phoneNumber the phone number
+ */
+public record UserPhoneNumber(long id, String phoneNumber) {
+}
@@ -0,0 +1,17 @@
+package com.kh.sbilyhour.users_module.domain.projection;
+
+/**
+ * Read-only view of a user, selected column by column for listings.
+ * <p>
+ * Rows are built directly by the query (JPQL constructor expression), so no
+ * managed entity is created or kept in the persistence context. Serializes
+ * to the same JSON as {@code UserDTO}.
+ * </p>
+ *
+ * @param id          the id of the user
+ * @param fullName    the full name, as registered
+ * @param phoneNumber the phone number
+ * @param gender      the gender
+ */
+public record UserSummary(Long id, String fullName, String phoneNumber, String gender) {
+}
@@ -0,0 +1,84 @@
+package com.kh.sbilyhour.users_module.domain.repository;
+
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * Non-blocking counterpart of {@link UserRepository}, used by the reactive
+ * stack. Results are delivered asynchronously and no calling thread is
+ * blocked while the database works.
+ */
+public interface ReactiveUserRepository {
+
+    /**
+     * Finds a User by id.
+     *
+     * @param id the id of the user
+     * @return the User, or empty if not found
+     */
+    Mono<User> findById(Long id);
+
+    /**
+     * Finds a User by their full name, as registered.
+     *
+     * @param fullName the full name of the user
+     * @return the User, or empty if not found
+     */
+    Mono<User> findByFullName(String fullName);
+
+    /**
+     * Finds the first registered User (lowest id) with the given phone number.
+     *
+     * @param phoneNumber the phone number
+     * @return the User, or empty if not found
+     * @see UserRepository#findFirstByPhoneNumberOrderByIdAsc
+     */
+    Mono<User> findFirstByPhoneNumber(String phoneNumber);
+
+    /**
+     * Checks whether a User with the given normalized full name exists.
+     *
+     * @param normalizedFullName the normalized full name to look for
+     * @return true if such a User exists
+     */
+    Mono<Boolean> existsByNormalizedFullName(String normalizedFullName);
+
+    /**
+     * Returns the summaries of the users after the given id, in id order.
+     *
+     * @param afterId the id after which to start, 0 for the first page
+     * @param limit   the maximum number of users to return
+     * @return the user summaries
+     */
+    Flux<UserSummary> findSummariesByIdGreaterThan(long afterId, int limit);
+
+    /**
+     * Returns the summaries of the users with the given ids, in no particular order.
+     *
+     * @param ids the ids of the users
+     * @return the user summaries
+     * @see UserRepository#findSummariesByIdIn
+     */
+    Flux<UserSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * Streams the summaries of all users after the given id, in id order,
+     * as fast as the subscriber requests them.
+     *
+     * @param afterId the id after which to start, 0 for all users
+     * @return the user summaries
+     */
+    Flux<UserSummary> streamSummariesByIdGreaterThan(long afterId);
+
+    /**
+     * Inserts a new User. Its normalized full name must be set.
+     *
+     * @param user the user to insert, without id
+     * @return the user with its assigned id
+     */
+    Mono<User> insert(User user);
+}
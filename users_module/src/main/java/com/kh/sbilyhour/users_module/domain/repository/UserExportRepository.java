@@ -0,0 +1,45 @@
+package com.kh.sbilyhour.users_module.domain.repository;
+
+import java.io.IOException;
+
+/**
+ * Repository reading the users table column by column for exports.
+ * <p>
+ * Unlike {@link UserRepository#streamSummariesByIdGreaterThan}, rows are not
+ * turned into objects: the column values are handed straight to a
+ * {@link RowHandler}, so an export allocates nothing per row beyond the
+ * column Strings.
+ * </p>
+ */
+public interface UserExportRepository {
+
+    /**
+     * Receives the users of an export.
+     */
+    @FunctionalInterface
+    interface RowHandler {
+
+        /**
+         * Handles one user.
+         *
+         * @param id          the id of the user
+         * @param fullName    the full name, as registered
+         * @param phoneNumber the phone number
+         * @param gender      the gender
+         * @throws IOException if the user cannot be written; ends the export
+         */
+        void row(long id, String fullName, String phoneNumber, String gender) throws IOException;
+    }
+
+    /**
+     * Passes every user with an id greater than the given one, in id order,
+     * to the handler, reading from one forward-only cursor. Must be called
+     * inside a transaction, which some databases need to fetch rows in chunks.
+     *
+     * @param afterId the id after which to start, 0 for all users
+     * @param handler receives each user
+     * @return the number of users read
+     * @throws IOException if the handler failed
+     */
+    long forEachUserAfter(long afterId, RowHandler handler) throws IOException;
+}
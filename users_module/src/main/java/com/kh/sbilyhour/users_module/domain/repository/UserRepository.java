@@ -1,8 +1,15 @@
 package com.kh.sbilyhour.users_module.domain.repository;
 
 import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.projection.UserNormalizedFullName;
+import com.kh.sbilyhour.users_module.domain.projection.UserPhoneNumber;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import org.springframework.data.domain.Limit;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing User entities.
@@ -13,6 +20,14 @@ import java.util.Optional;
  */
 public interface UserRepository {
 
+    /**
+     * Finds a User by id.
+     *
+     * @param id the id of the user
+     * @return an Optional containing the User if found, or empty if not
+     */
+    Optional<User> findById(Long id);
+
     /**
      * Finds a User by their full name.
      *
@@ -20,4 +35,118 @@ public interface UserRepository {
      * @return an Optional containing the User if found, or empty if not
      */
     Optional<User> findByFullName(String fullName);
-}
\ No newline at end of file
+
+    /**
+     * Checks whether a User with the given normalized full name exists.
+     * The check is answered from the unique index and does not load the entity.
+     *
+     * @param normalizedFullName the normalized full name of the user
+     * @return true if such a user exists, false otherwise
+     */
+    boolean existsByNormalizedFullName(String normalizedFullName);
+
+    /**
+     * Returns which of the given normalized full names are already taken, in a single query.
+     *
+     * @param normalizedFullNames the normalized full names to check
+     * @return the subset of {@code normalizedFullNames} that already exist
+     */
+    List<String> findExistingNormalizedFullNames(Collection<String> normalizedFullNames);
+
+    /**
+     * Streams the normalized full names of all users. The stream holds an open
+     * cursor: it must be consumed inside a transaction and closed afterwards.
+     *
+     * @return a stream of all normalized full names
+     */
+    Stream<String> streamAllNormalizedFullNames();
+
+    /**
+     * Streams the ids and normalized full names of all users, in id order.
+     * The stream holds an open cursor: it must be consumed inside a
+     * transaction and closed afterwards.
+     *
+     * @return a stream of all normalized full names
+     */
+    Stream<UserNormalizedFullName> streamAllNormalizedFullNamesInIdOrder();
+
+    /**
+     * Finds the first registered User (lowest id) with the given phone number.
+     * The column is not indexed: lookups are expected to go through the
+     * in-memory phone number index, this query is only its fallback.
+     *
+     * @param phoneNumber the phone number
+     * @return an Optional containing the User if found, or empty if not
+     */
+    Optional<User> findFirstByPhoneNumberOrderByIdAsc(String phoneNumber);
+
+    /**
+     * Streams the ids and phone numbers of all users. The stream holds an open
+     * cursor: it must be consumed inside a transaction and closed afterwards.
+     *
+     * @return a stream of all phone numbers
+     */
+    Stream<UserPhoneNumber> streamAllPhoneNumbers();
+
+    /**
+     * Returns the users with an id greater than the given one, in id order
+     * (keyset pagination). Served by the primary key index whatever the offset.
+     *
+     * @param afterId the id after which to start, 0 for the first page
+     * @param limit   the maximum number of users to return
+     * @return the users, as projections
+     */
+    List<UserSummary> findSummariesByIdGreaterThan(long afterId, Limit limit);
+
+    /**
+     * Returns the users with the given ids, in no particular order. Ids
+     * without a user are ignored.
+     *
+     * @param ids the ids of the users
+     * @return the users, as projections
+     */
+    List<UserSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * Streams the users with an id greater than the given one, in id order,
+     * from a forward-only cursor. The stream must be consumed inside a
+     * transaction and closed afterwards.
+     *
+     * @param afterId the id after which to start, 0 for all users
+     * @return a stream of the users, as projections
+     */
+    Stream<UserSummary> streamSummariesByIdGreaterThan(long afterId);
+
+    /**
+     * Counts all users.
+     *
+     * @return the number of users
+     */
+    long count();
+
+    /**
+     * Saves a single User.
+     *
+     * @param user the user to save
+     * @return the saved user, with its generated id
+     */
+    <S extends User> S save(S user);
+
+    /**
+     * Saves a single User and flushes it immediately, so that constraint
+     * violations surface from this call rather than at commit time.
+     *
+     * @param user the user to save
+     * @return the saved user, with its generated id
+     */
+    <S extends User> S saveAndFlush(S user);
+
+    /**
+     * Saves all given Users. Inserts are grouped into JDBC batches when
+     * {@code hibernate.jdbc.batch_size} is configured.
+     *
+     * @param users the users to save
+     * @return the saved users, with their generated ids
+     */
+    <S extends User> List<S> saveAll(Iterable<S> users);
+}
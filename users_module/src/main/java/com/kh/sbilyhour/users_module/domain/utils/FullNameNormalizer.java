@@ -0,0 +1,45 @@
+package com.kh.sbilyhour.users_module.domain.utils;
+
+import java.util.Locale;
+
+/**
+ * Normalizes full names for duplicate detection.
+ * <p>
+ * Leading and trailing whitespace is removed, inner whitespace runs are
+ * collapsed to a single space and the result is lower-cased, so that
+ * {@code "  John   Doe"} and {@code "john doe"} are the same user.
+ * </p>
+ */
+public final class FullNameNormalizer {
+
+    private FullNameNormalizer() {
+    }
+
+    /**
+     * Returns the normalized form of the given full name.
+     *
+     * @param fullName the full name as entered by the user
+     * @return the normalized full name, or null if {@code fullName} is null
+     */
+    public static String normalize(String fullName) {
+        if (fullName == null) {
+            return null;
+        }
+
+        StringBuilder builder = new StringBuilder(fullName.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < fullName.length(); i++) {
+            char c = fullName.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !builder.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            builder.append(c);
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,118 @@
+package com.kh.sbilyhour.users_module.domain.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key into one.
+ * <p>
+ * The first caller for a key runs the work on its own thread; callers that
+ * arrive while it is running wait for it and receive the same result, or the
+ * same exception. Once the work completes the key is free again, so later
+ * calls run the work anew. Results are not cached. Blocking
+ * ({@link #execute}) and asynchronous ({@link #executeAsync}) calls for the
+ * same key are coalesced with each other.
+ * </p>
+ * <p>
+ * In-flight calls are tracked in a {@link ConcurrentHashMap}, which locks
+ * per bin on insert and reads without locking, so calls for different keys
+ * do not contend with each other.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the work for the given key, or joins the call already running for it.
+     *
+     * @param key  the key to coalesce on
+     * @param work the work to run if no call is running for the key
+     * @return the result of the work
+     */
+    public V execute(K key, Supplier<V> work) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return join(running);
+        }
+
+        try {
+            V result = work.get();
+            inFlight.remove(key, flight);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error exception) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Starts the asynchronous work for the given key, or joins the call already
+     * running for it. The work is started on the calling thread and must not block.
+     * Cancelling the returned future does not cancel the work.
+     *
+     * @param key  the key to coalesce on
+     * @param work starts the work if no call is running for the key
+     * @return completes with the result of the work
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<? extends CompletionStage<V>> work) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return running.copy();
+        }
+
+        CompletionStage<V> stage;
+        try {
+            stage = work.get();
+        } catch (RuntimeException | Error exception) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(exception);
+            throw exception;
+        }
+        stage.whenComplete((result, exception) -> {
+            inFlight.remove(key, flight);
+            if (exception != null) {
+                flight.completeExceptionally(exception instanceof CompletionException ? exception.getCause() : exception);
+            } else {
+                flight.complete(result);
+            }
+        });
+        return flight.copy();
+    }
+
+    /**
+     * Returns the number of calls currently running.
+     *
+     * @return the number of keys in flight
+     */
+    public int size() {
+        return inFlight.size();
+    }
+
+    private V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException exception) {
+            // Rethrow what the first caller got, not the wrapper
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw exception;
+        }
+    }
+}
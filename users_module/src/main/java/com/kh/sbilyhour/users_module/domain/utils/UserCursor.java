@@ -0,0 +1,60 @@
+package com.kh.sbilyhour.users_module.domain.utils;
+
+import com.kh.sbilyhour.users_module.domain.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Opaque cursor of the user listing.
+ * <p>
+ * Encodes the id of the last user returned, with a version byte, as URL-safe
+ * Base64. Clients pass it back unchanged to get the users after that id.
+ * </p>
+ */
+public final class UserCursor {
+
+    private static final byte VERSION = 1;
+    private static final int LENGTH = 1 + Long.BYTES;
+
+    private UserCursor() {
+    }
+
+    /**
+     * Encodes a cursor positioned after the given id.
+     *
+     * @param lastId the id of the last user returned
+     * @return the opaque cursor
+     */
+    public static String encode(long lastId) {
+        byte[] bytes = ByteBuffer.allocate(LENGTH).put(VERSION).putLong(lastId).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Decodes a cursor; a null or blank cursor starts from the beginning.
+     *
+     * @param cursor the opaque cursor
+     * @return the id after which the listing continues
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw InvalidCursorException.INSTANCE;
+        }
+        if (bytes.length != LENGTH || bytes[0] != VERSION) {
+            throw InvalidCursorException.INSTANCE;
+        }
+        long lastId = ByteBuffer.wrap(bytes, 1, Long.BYTES).getLong();
+        if (lastId < 0) {
+            throw InvalidCursorException.INSTANCE;
+        }
+        return lastId;
+    }
+}
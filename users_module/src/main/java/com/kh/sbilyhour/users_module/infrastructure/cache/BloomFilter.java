@@ -0,0 +1,139 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * <p>
+ * Bits are stored in an {@link AtomicLongArray} and set with CAS, so
+ * {@link #put} and {@link #mightContain} never block. A negative answer is
+ * definite; a positive answer may be a false positive with a probability
+ * that grows with the number of inserted elements.
+ * </p>
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final LongAdder insertions = new LongAdder();
+
+    /**
+     * Creates a filter sized for the given number of elements and target
+     * false-positive probability.
+     *
+     * @param expectedInsertions        the number of elements the filter is sized for
+     * @param falsePositiveProbability  the target false-positive probability, between 0 and 1
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN2 * LN2));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (optimalBits + 63) >>> 6));
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * LN2));
+    }
+
+    /**
+     * Adds the given value to the filter.
+     *
+     * @param value the value to add
+     */
+    public void put(CharSequence value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            setBit(bit);
+        }
+        insertions.increment();
+    }
+
+    /**
+     * Tells whether the given value may have been added.
+     *
+     * @param value the value to look up
+     * @return false if the value was definitely never added, true otherwise
+     */
+    public boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+        long h1 = hash;
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the false-positive probability expected for the current number
+     * of insertions, {@code (1 - e^(-k * n / m))^k}.
+     *
+     * @return the expected false-positive probability
+     */
+    public double expectedFalsePositiveProbability() {
+        double fill = -(double) hashFunctions * insertions.sum() / bitSize;
+        return Math.pow(1 - Math.exp(fill), hashFunctions);
+    }
+
+    /**
+     * @return the number of {@link #put} calls, duplicates included
+     */
+    public long insertions() {
+        return insertions.sum();
+    }
+
+    /**
+     * @return the size of the filter in bits
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        do {
+            word = bits.get(index);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(index, word, word | mask));
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with a murmur3 mix so
+     * that similar strings spread over the whole bit range.
+     */
+    private static long hash(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
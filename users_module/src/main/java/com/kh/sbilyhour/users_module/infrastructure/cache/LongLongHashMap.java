@@ -0,0 +1,146 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+/**
+ * Open-addressing hash map from positive {@code long} keys to {@code long}
+ * values.
+ * <p>
+ * Keys and values are stored side by side in a single {@code long[]} and
+ * probed linearly, so the map holds two objects whatever its size: no entry,
+ * key or value is ever boxed, and the garbage collector never has to trace
+ * the content of the table. Each slot takes 16 bytes; with the table kept at
+ * most three quarters full, 10 million entries take 256 MiB.
+ * </p>
+ * <p>
+ * Not thread-safe. Key {@code 0} marks an empty slot and cannot be stored.
+ * Entries cannot be removed.
+ * </p>
+ */
+public class LongLongHashMap {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 29;
+
+    private long[] table;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * Creates a map sized to hold the given number of entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public LongLongHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to the given key.
+     *
+     * @param key          the key, greater than 0
+     * @param missingValue the value to return if the key is absent
+     * @return the mapped value, or {@code missingValue}
+     */
+    public long get(long key, long missingValue) {
+        long[] current = table;
+        int mask = current.length / 2 - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            long candidate = current[slot * 2];
+            if (candidate == key) {
+                return current[slot * 2 + 1];
+            }
+            if (candidate == 0) {
+                return missingValue;
+            }
+        }
+    }
+
+    /**
+     * Maps the given key to the given value, replacing any previous value.
+     *
+     * @param key   the key, greater than 0
+     * @param value the value
+     */
+    public void put(long key, long value) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Key must be positive: " + key);
+        }
+        if (insert(table, key, value)) {
+            if (++size > resizeThreshold) {
+                grow();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the memory taken by the table.
+     *
+     * @return the size of the table, in bytes
+     */
+    public long tableBytes() {
+        return (long) table.length * Long.BYTES;
+    }
+
+    /**
+     * Stores the entry in the given table.
+     *
+     * @return true if the key was added, false if its value was replaced
+     */
+    private static boolean insert(long[] target, long key, long value) {
+        int mask = target.length / 2 - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            long candidate = target[slot * 2];
+            if (candidate == key || candidate == 0) {
+                target[slot * 2] = key;
+                target[slot * 2 + 1] = value;
+                return candidate == 0;
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = table.length / 2;
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("Map cannot hold more than " + resizeThreshold + " entries");
+        }
+        long[] previous = table;
+        allocate(capacity * 2);
+        for (int i = 0; i < previous.length; i += 2) {
+            if (previous[i] != 0) {
+                insert(table, previous[i], previous[i + 1]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity * 2];
+        resizeThreshold = capacity / 4 * 3;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long capacity = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75));
+        return (int) Math.min(MAX_CAPACITY, Long.highestOneBit(capacity - 1) << 1);
+    }
+
+    /**
+     * Spreads the key over the table with the finalizer of MurmurHash3, so
+     * that sequential keys do not form long probe chains.
+     */
+    static int slot(long key, int mask) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe53a94cdL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+}
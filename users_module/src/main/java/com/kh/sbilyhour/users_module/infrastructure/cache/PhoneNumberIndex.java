@@ -0,0 +1,176 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import com.kh.sbilyhour.users_module.domain.projection.UserPhoneNumber;
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory index from phone number to user id, for "is this phone number
+ * registered" and "find user by phone number" without a database query.
+ * <p>
+ * Phone numbers are digits only, so each one is encoded as a {@code long}
+ * (see {@link #encode}) and the index is a {@link LongLongHashMap}: loading
+ * millions of users creates no {@code String} or {@code Long} that outlives
+ * its row. When several users share a phone number the index keeps the one
+ * registered first (lowest id).
+ * </p>
+ * <p>
+ * The index is a {@link RebuildableIndex}, rebuilt every
+ * {@code users.phone-index.rebuild-interval}. Lookups take an optimistic
+ * read and only block while a registration is being written. Until the first
+ * load completes, and when the index is disabled, {@link #isReady()} is false
+ * and callers must ask the database.
+ * </p>
+ */
+@Component
+public class PhoneNumberIndex extends RebuildableIndex<LongLongHashMap> {
+
+    private static final long MISSING = -1;
+    private static final int MAX_DIGITS = 18;
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public PhoneNumberIndex(UserRepository userRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${users.phone-index.enabled:true}") boolean enabled) {
+        super("phone number index", "core.users.phone.index", userRepository, transactionManager, meterRegistry,
+                enabled);
+        this.userRepository = userRepository;
+
+        Gauge.builder("core.users.phone.index.size", this, PhoneNumberIndex::size)
+                .description("Distinct phone numbers in the index")
+                .register(meterRegistry);
+        Gauge.builder("core.users.phone.index.memory", this, PhoneNumberIndex::tableBytes)
+                .description("Memory taken by the index table")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the id of the first user registered with the given phone number.
+     * Only meaningful once {@link #isReady()}.
+     *
+     * @param phoneNumber the phone number, digits only
+     * @return the user id, or empty if no user has this phone number
+     */
+    public OptionalLong find(String phoneNumber) {
+        long key = encode(phoneNumber);
+        if (key == MISSING) {
+            return OptionalLong.empty();
+        }
+        long id = readOptimistic(key, PhoneNumberIndex::lookup, MISSING);
+        return id == MISSING ? OptionalLong.empty() : OptionalLong.of(id);
+    }
+
+    /**
+     * Tells whether a user is registered with the given phone number.
+     * Only meaningful once {@link #isReady()}.
+     *
+     * @param phoneNumber the phone number, digits only
+     * @return true if a user has this phone number
+     */
+    public boolean contains(String phoneNumber) {
+        return find(phoneNumber).isPresent();
+    }
+
+    /**
+     * Records a registered user.
+     *
+     * @param phoneNumber the phone number of the user
+     * @param userId      the id of the user
+     */
+    public void put(String phoneNumber, long userId) {
+        long key = encode(phoneNumber);
+        if (key == MISSING) {
+            return;
+        }
+        update(index -> putFirst(index, key, userId));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${users.phone-index.rebuild-interval:PT30M}",
+            initialDelayString = "${users.phone-index.rebuild-interval:PT30M}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    /**
+     * Encodes a phone number as a positive {@code long}. A leading {@code 1}
+     * is prepended before parsing, so numbers differing only by leading zeros
+     * get different keys.
+     *
+     * @param phoneNumber the phone number
+     * @return the key, or {@code -1} if the phone number is not 1 to 18 digits
+     */
+    static long encode(String phoneNumber) {
+        if (phoneNumber == null || phoneNumber.isEmpty() || phoneNumber.length() > MAX_DIGITS) {
+            return MISSING;
+        }
+        long key = 1;
+        for (int i = 0; i < phoneNumber.length(); i++) {
+            char digit = phoneNumber.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return MISSING;
+            }
+            key = key * 10 + (digit - '0');
+        }
+        return key;
+    }
+
+    @Override
+    protected LongLongHashMap create(long users) {
+        return new LongLongHashMap((int) Math.min(Integer.MAX_VALUE, users));
+    }
+
+    @Override
+    protected void load(LongLongHashMap rebuilt) {
+        try (Stream<UserPhoneNumber> phoneNumbers = userRepository.streamAllPhoneNumbers()) {
+            phoneNumbers.forEach(row -> {
+                long key = encode(row.phoneNumber());
+                if (key != MISSING) {
+                    synchronized (rebuilt) {
+                        putFirst(rebuilt, key, row.id());
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    protected String describe(LongLongHashMap rebuilt) {
+        return "with " + rebuilt.size() + " numbers (" + rebuilt.tableBytes() + " bytes)";
+    }
+
+    private static long lookup(LongLongHashMap index, long key) {
+        return index.get(key, MISSING);
+    }
+
+    /**
+     * Keeps the lowest id per number, which also makes adding a user twice harmless.
+     */
+    private static void putFirst(LongLongHashMap target, long key, long userId) {
+        long existing = target.get(key, MISSING);
+        if (existing == MISSING || userId < existing) {
+            target.put(key, userId);
+        }
+    }
+
+    private double size() {
+        return read(LongLongHashMap::size, 0);
+    }
+
+    private double tableBytes() {
+        return read(LongLongHashMap::tableBytes, 0L);
+    }
+}
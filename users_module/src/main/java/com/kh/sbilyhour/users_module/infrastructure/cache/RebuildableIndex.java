@@ -0,0 +1,271 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory structure over the {@code users} table, loaded once the
+ * application is ready, updated on every successful registration and
+ * rebuilt periodically, so it forgets deleted users and picks up rows
+ * written by other processes.
+ * <p>
+ * A rebuild fills a new structure from the table while the current one keeps
+ * answering, then swaps it in. Registrations made during the rebuild are
+ * added to both, so none is lost by the swap. A registration may therefore
+ * reach the new structure twice, once directly and once from the table:
+ * {@link #load} and {@link #update} must be idempotent for a given user.
+ * </p>
+ * <p>
+ * Updates and the swap take the write lock of a {@link StampedLock};
+ * subclasses read under the read lock or an optimistic read, or without the
+ * lock when the structure is thread-safe. Until the first load completes, and
+ * when the structure is disabled, {@link #isReady()} is false. Rebuild time
+ * and failures are exported as {@code <prefix>.rebuild} and
+ * {@code <prefix>.rebuild.failures}.
+ * </p>
+ *
+ * @param <T> the type of the structure
+ */
+public abstract class RebuildableIndex<T> {
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final String name;
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final StampedLock lock = new StampedLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * Structure answering lookups; null until the first load completes.
+     * Written under the write lock.
+     */
+    private volatile T index;
+
+    /**
+     * Structure being rebuilt. The field is guarded by {@link #lock}, the
+     * content by the monitor of the structure while it loads.
+     */
+    private T pendingIndex;
+
+    private final Counter rebuildFailures;
+    private final Timer rebuildTimer;
+
+    /**
+     * @param name               the name of the structure in log messages, e.g. "phone number index"
+     * @param meterPrefix        the prefix of the rebuild meters
+     * @param userRepository     the repository of the users, to size a new structure
+     * @param transactionManager the transaction manager, for the read-only load transaction
+     * @param meterRegistry      the registry of the rebuild meters
+     * @param enabled            false to never load the structure
+     */
+    protected RebuildableIndex(String name, String meterPrefix, UserRepository userRepository,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                               boolean enabled) {
+        this.name = name;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.rebuildFailures = Counter.builder(meterPrefix + ".rebuild.failures")
+                .register(meterRegistry);
+        this.rebuildTimer = Timer.builder(meterPrefix + ".rebuild")
+                .description("Time taken to reload the " + name + " from the users table")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tells whether the structure has been loaded and can answer lookups.
+     *
+     * @return true if lookups are answered by the structure
+     */
+    public boolean isReady() {
+        return index != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Reloads the structure from the {@code users} table and swaps it in.
+     * Lookups keep using the previous structure while the new one is being
+     * filled. Subclasses schedule it with their own interval.
+     */
+    public void rebuild() {
+        if (!enabled || !rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            rebuildTimer.record(this::reload);
+        } catch (RuntimeException exception) {
+            rebuildFailures.increment();
+            logger.error("Could not rebuild the {}", name, exception);
+        } finally {
+            long stamp = lock.writeLock();
+            pendingIndex = null;
+            lock.unlockWrite(stamp);
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Creates an empty structure.
+     *
+     * @param users the number of users in the table when the rebuild starts
+     * @return the structure to fill
+     */
+    protected abstract T create(long users);
+
+    /**
+     * Adds every row of the {@code users} table to the given structure. Runs
+     * in a read-only transaction; unless the structure is thread-safe, rows
+     * must be added while holding its monitor, as registrations are added
+     * concurrently.
+     *
+     * @param rebuilt the structure being rebuilt
+     */
+    protected abstract void load(T rebuilt);
+
+    /**
+     * Finishes a loaded structure before it is swapped in, e.g. by trimming
+     * spare capacity. Called while holding its monitor.
+     *
+     * @param rebuilt the loaded structure
+     */
+    protected void complete(T rebuilt) {
+    }
+
+    /**
+     * Describes a loaded structure for the log, e.g. "with 10 names (2048 bytes)".
+     *
+     * @param rebuilt the loaded structure, its monitor held
+     * @return the description
+     */
+    protected abstract String describe(T rebuilt);
+
+    /**
+     * Applies an update, e.g. a registration, to the current structure and to
+     * the one being rebuilt, if any.
+     *
+     * @param update the update, idempotent
+     */
+    protected final void update(Consumer<? super T> update) {
+        long stamp = lock.writeLock();
+        try {
+            T pending = pendingIndex;
+            if (pending != null) {
+                synchronized (pending) {
+                    update.accept(pending);
+                }
+            }
+            T current = index;
+            if (current != null && current != pending) {
+                update.accept(current);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the current structure, without locking; only for structures
+     * that are thread-safe themselves.
+     *
+     * @return the structure, or null before the first load
+     */
+    protected final T current() {
+        return index;
+    }
+
+    /**
+     * Reads the current structure under the read lock.
+     *
+     * @param reader       reads the structure
+     * @param missingValue the value returned before the first load
+     * @return the value read
+     */
+    protected final <R> R read(Function<? super T, R> reader, R missingValue) {
+        long stamp = lock.readLock();
+        try {
+            T current = index;
+            return current == null ? missingValue : reader.apply(current);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Looks a key up in the current structure with an optimistic read,
+     * falling back to the read lock when an update ran concurrently. The
+     * lookup must tolerate a structure being modified under it.
+     *
+     * @param key          the key
+     * @param lookup       looks the key up
+     * @param missingValue the value returned before the first load
+     * @return the value found
+     */
+    protected final long readOptimistic(long key, LongLookup<? super T> lookup, long missingValue) {
+        long stamp = lock.tryOptimisticRead();
+        T current = index;
+        long value = current == null ? missingValue : lookup.get(current, key);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            current = index;
+            return current == null ? missingValue : lookup.get(current, key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void reload() {
+        T rebuilt = create(userRepository.count());
+        long stamp = lock.writeLock();
+        pendingIndex = rebuilt;
+        lock.unlockWrite(stamp);
+
+        // Lookups do not read the pending structure yet, only registrations write to it
+        readOnlyTransaction.executeWithoutResult(status -> load(rebuilt));
+        String description;
+        synchronized (rebuilt) {
+            complete(rebuilt);
+            description = describe(rebuilt);
+        }
+
+        stamp = lock.writeLock();
+        index = rebuilt;
+        lock.unlockWrite(stamp);
+        logger.info("{} rebuilt {}", Character.toUpperCase(name.charAt(0)) + name.substring(1), description);
+    }
+
+    /**
+     * Looks a {@code long} key up in a structure.
+     *
+     * @param <T> the type of the structure
+     */
+    @FunctionalInterface
+    protected interface LongLookup<T> {
+
+        long get(T index, long key);
+    }
+}
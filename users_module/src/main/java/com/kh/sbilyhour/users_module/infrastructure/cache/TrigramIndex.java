@@ -0,0 +1,751 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import java.util.Arrays;
+
+/**
+ * Inverted index from character trigrams to the names containing them, for
+ * fuzzy and prefix name search.
+ * <p>
+ * Names are split into segments by their number of trigrams, one segment per
+ * count up to {@value #LAST_SEGMENT}, and one for all longer names. In its
+ * segment each name gets a dense ordinal, mapped back to its rank of addition
+ * and from there to the user id through {@code int[]} and {@code long[]}. The
+ * posting list of a trigram is an {@code int[]} of ordinals in increasing
+ * order or, once it holds more than one name of the segment in 32 and a bitmap
+ * gets smaller, a {@code long[]} bitmap. Trigrams are packed into a
+ * {@code long} and resolved to their list through a {@link LongLongHashMap}.
+ * Apart from one array per distinct trigram of a segment, nothing is allocated
+ * per name.
+ * </p>
+ * <p>
+ * Every word is padded with two boundary marks in front and one behind, so
+ * the leading trigrams of a word also match prefixes. Queries are split the
+ * same way, except that their last word gets no trailing mark and so matches
+ * as a prefix. A name matches when it holds at least the given share of the
+ * query trigrams. Matches are ranked by the Dice coefficient of both trigram
+ * sets, then by order of addition.
+ * </p>
+ * <p>
+ * A search visits the segments from the one whose names can score the most.
+ * Once the best {@code limit} names are known, the Dice coefficient of the
+ * lowest one tells how many of the query trigrams a name of a segment needs
+ * to enter them, so that longer and shorter names are soon skipped, whole
+ * segments at once. In a segment the ordinals are taken 32768 at a time, 64
+ * names per {@code long}, so that a bitmap list is handled 64 names at once
+ * and the state of a block fits in the CPU cache. A name holding enough of
+ * the trigrams is in one of the rarest lists: those are counted in full, into
+ * levels where level {@code k} holds the names found in more than {@code k}
+ * of them, the levels of 64 names sharing a cache line. Each longer list then
+ * moves the names it misses one level down, and is only read for the words
+ * where names are left; the names still on a level at the end are the
+ * matches.
+ * </p>
+ * <p>
+ * Not thread-safe. Names cannot be removed; a user is added once, later names
+ * for the same id, as added while the index is rebuilt, are ignored.
+ * </p>
+ */
+public class TrigramIndex {
+
+    private static final char BOUNDARY = '\u0001';
+    private static final long MISSING = -1;
+    private static final long[] NO_IDS = new long[0];
+    private static final int LAST_SEGMENT = 64;
+    private static final int INITIAL_GRAMS = 1 << 8;
+    private static final int INITIAL_SEGMENT_SIZE = 16;
+    private static final int INITIAL_POSTING_CAPACITY = 4;
+    private static final int MIN_BITMAP_SIZE = 1024;
+    private static final int BLOCK_WORDS = 512;
+    private static final int LEVELS = 5;
+    private static final int LEVEL_SHIFT = 3;
+
+    private final Segment[] segments = new Segment[LAST_SEGMENT + 1];
+
+    /**
+     * User ids, by rank of addition.
+     */
+    private long[] ids;
+    private final LongLongHashMap ranksById;
+    private int size;
+
+    /**
+     * Creates an index sized to hold the given number of names without
+     * resizing its table of users.
+     *
+     * @param expectedSize the expected number of names
+     */
+    public TrigramIndex(int expectedSize) {
+        ids = new long[Math.max(16, expectedSize)];
+        ranksById = new LongLongHashMap(expectedSize);
+    }
+
+    /**
+     * Adds a name, unless a name was already added for the user.
+     *
+     * @param id             the id of the user, greater than 0
+     * @param normalizedName the normalized full name of the user
+     */
+    public void add(long id, String normalizedName) {
+        if (ranksById.get(id, MISSING) != MISSING) {
+            return;
+        }
+        long[] grams = grams(normalizedName, false);
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, (int) Math.min(Integer.MAX_VALUE - 8, (long) size * 2));
+        }
+        int rank = size++;
+        ids[rank] = id;
+        ranksById.put(id, rank);
+
+        int segment = Math.min(grams.length, LAST_SEGMENT);
+        if (segments[segment] == null) {
+            segments[segment] = new Segment(segment, segment == LAST_SEGMENT);
+        }
+        segments[segment].add(rank, grams);
+    }
+
+    /**
+     * Returns the ids of the best matching names.
+     *
+     * @param normalizedQuery the normalized query
+     * @param limit           the maximum number of ids to return
+     * @param minSimilarity   the share of the query trigrams a name must contain, between 0 and 1
+     * @return the ids, best match first
+     */
+    public long[] search(String normalizedQuery, int limit, double minSimilarity) {
+        long[] grams = grams(normalizedQuery, true);
+        int queryGrams = grams.length;
+        if (queryGrams == 0 || size == 0 || limit <= 0) {
+            return NO_IDS;
+        }
+
+        Results results = new Results(queryGrams, Math.max(1, (int) Math.ceil(queryGrams * minSimilarity)), limit);
+        for (Segment segment : segmentsByBestScore(queryGrams)) {
+            // The next segments cannot score more either
+            if (results.isFull() && segment.bestScore(queryGrams) < results.lowestScore()) {
+                break;
+            }
+            segment.search(grams, results);
+        }
+        return results.ids(ids);
+    }
+
+    /**
+     * Returns the number of names.
+     *
+     * @return the number of names
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the memory taken by the index, arrays and hash tables included.
+     *
+     * @return the size of the index, in bytes
+     */
+    public long memoryBytes() {
+        long bytes = (long) ids.length * Long.BYTES + ranksById.tableBytes() + (long) segments.length * Integer.BYTES;
+        for (Segment segment : segments) {
+            if (segment != null) {
+                bytes += segment.memoryBytes();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Releases the spare capacity of the segments, once a bulk load is done,
+     * and turns each list into an array or a bitmap, whichever is smaller for
+     * the final number of names.
+     */
+    public void trim() {
+        for (Segment segment : segments) {
+            if (segment != null) {
+                segment.trim();
+            }
+        }
+    }
+
+    /**
+     * Returns the segments holding names, those whose names can score the most first.
+     */
+    private Segment[] segmentsByBestScore(int queryGrams) {
+        Segment[] sorted = new Segment[segments.length];
+        int count = 0;
+        for (Segment segment : segments) {
+            if (segment == null) {
+                continue;
+            }
+            int i = count++;
+            while (i > 0 && sorted[i - 1].bestScore(queryGrams) < segment.bestScore(queryGrams)) {
+                sorted[i] = sorted[i - 1];
+                i--;
+            }
+            sorted[i] = segment;
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    /**
+     * Returns the number of query trigrams a name must hold to score at least
+     * the given Dice coefficient, from the least number of trigrams it has:
+     * with {@code count} of the {@code queryGrams} trigrams, it has at least
+     * {@code count} trigrams of its own too, so it scores at most
+     * {@code 2 * count / (queryGrams + max(count, nameGrams))}.
+     */
+    private static int neededForScore(float score, int queryGrams, int nameGrams) {
+        // Rounded down a little, so that a name scoring exactly the same is not skipped by float error
+        return Math.max((int) Math.ceil(score * queryGrams / (2 - score) - 1e-4),
+                (int) Math.ceil(score * (queryGrams + nameGrams) / 2 - 1e-4));
+    }
+
+    /**
+     * Returns the distinct trigrams of the given normalized text, in increasing order.
+     *
+     * @param prefix true if the last word is a prefix and gets no trailing boundary mark
+     */
+    static long[] grams(String text, boolean prefix) {
+        if (text == null) {
+            return NO_IDS;
+        }
+        long[] grams = new long[text.length() * 2 + 1];
+        int count = 0;
+        int start = 0;
+        while (start < text.length()) {
+            int end = text.indexOf(' ', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            if (end > start) {
+                char first = BOUNDARY;
+                char second = BOUNDARY;
+                for (int i = start; i < end; i++) {
+                    char c = text.charAt(i);
+                    long gram = pack(first, second, c);
+                    if (gram != 0) {
+                        grams[count++] = gram;
+                    }
+                    first = second;
+                    second = c;
+                }
+                if (!prefix || end < text.length()) {
+                    grams[count++] = pack(first, second, BOUNDARY);
+                }
+            }
+            start = end + 1;
+        }
+
+        Arrays.sort(grams, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Packs three chars into a key. Only three NUL chars give 0, the empty
+     * key of {@link LongLongHashMap}, and those are skipped.
+     */
+    private static long pack(char first, char second, char third) {
+        return (long) first << 32 | (long) second << 16 | third;
+    }
+
+    /**
+     * The best matches of a search so far, in a bounded min-heap of keys
+     * ordering the higher score first, then the lower rank, and the buffers of
+     * the search.
+     */
+    private static final class Results {
+
+        private final int queryGrams;
+        private final int required;
+        private final long[] heap;
+        private int heapSize;
+
+        private final int[] slots;
+        private final int[] cursors;
+        private final long[] levels = new long[BLOCK_WORDS << LEVEL_SHIFT];
+        private final int[] aliveWords = new int[BLOCK_WORDS];
+
+        Results(int queryGrams, int required, int limit) {
+            this.queryGrams = queryGrams;
+            this.required = required;
+            this.heap = new long[limit];
+            this.slots = new int[queryGrams];
+            this.cursors = new int[queryGrams];
+        }
+
+        boolean isFull() {
+            return heapSize == heap.length;
+        }
+
+        float lowestScore() {
+            return Float.intBitsToFloat((int) (heap[0] >>> 32));
+        }
+
+        /**
+         * Returns the number of query trigrams a name with at least the given
+         * number of trigrams must hold to be a match and, once there are
+         * enough matches, to enter them.
+         */
+        int needed(int nameGrams) {
+            return isFull() ? Math.max(required, neededForScore(lowestScore(), queryGrams, nameGrams)) : required;
+        }
+
+        /**
+         * Adds the match to the heap, evicting the lowest key when full.
+         */
+        void offer(int count, int nameGrams, int rank) {
+            float score = 2f * count / (queryGrams + nameGrams);
+            long key = (long) Float.floatToIntBits(score) << 32 | (0xFFFFFFFFL - rank);
+            if (heapSize < heap.length) {
+                int child = heapSize++;
+                while (child > 0 && heap[(child - 1) / 2] > key) {
+                    heap[child] = heap[(child - 1) / 2];
+                    child = (child - 1) / 2;
+                }
+                heap[child] = key;
+                return;
+            }
+            if (key <= heap[0]) {
+                return;
+            }
+            int parent = 0;
+            while (true) {
+                int child = parent * 2 + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                    child++;
+                }
+                if (heap[child] >= key) {
+                    break;
+                }
+                heap[parent] = heap[child];
+                parent = child;
+            }
+            heap[parent] = key;
+        }
+
+        /**
+         * Returns the ids of the matches, best first.
+         */
+        long[] ids(long[] idsByRank) {
+            long[] keys = Arrays.copyOf(heap, heapSize);
+            Arrays.sort(keys);
+            long[] result = new long[heapSize];
+            for (int i = 0; i < heapSize; i++) {
+                result[i] = idsByRank[(int) (0xFFFFFFFFL - (keys[heapSize - 1 - i] & 0xFFFFFFFFL))];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The names with a given number of trigrams, or with at least
+     * {@value #LAST_SEGMENT} for the last segment, and their posting lists.
+     */
+    private static final class Segment {
+
+        /**
+         * The number of trigrams of the names, the least one for the last segment.
+         */
+        private final int nameGrams;
+
+        private final LongLongHashMap gramSlots = new LongLongHashMap(INITIAL_GRAMS);
+        private int[][] postings = new int[INITIAL_GRAMS][];
+        private long[][] bitmaps = new long[INITIAL_GRAMS][];
+        private int[] postingSizes = new int[INITIAL_GRAMS];
+        private int gramCount;
+
+        private int[] ranks = new int[INITIAL_SEGMENT_SIZE];
+
+        /**
+         * The number of trigrams of each name, only in the last segment.
+         */
+        private short[] nameGramCounts;
+        private int size;
+
+        Segment(int nameGrams, boolean last) {
+            this.nameGrams = nameGrams;
+            this.nameGramCounts = last ? new short[INITIAL_SEGMENT_SIZE] : null;
+        }
+
+        void add(int rank, long[] grams) {
+            if (size == ranks.length) {
+                ranks = Arrays.copyOf(ranks, size * 2);
+                if (nameGramCounts != null) {
+                    nameGramCounts = Arrays.copyOf(nameGramCounts, size * 2);
+                }
+            }
+            int ordinal = size++;
+            ranks[ordinal] = rank;
+            if (nameGramCounts != null) {
+                nameGramCounts[ordinal] = (short) Math.min(grams.length, Short.MAX_VALUE);
+            }
+
+            for (long gram : grams) {
+                long slot = gramSlots.get(gram, MISSING);
+                if (slot == MISSING) {
+                    slot = newSlot();
+                    gramSlots.put(gram, slot);
+                }
+                append((int) slot, ordinal);
+            }
+        }
+
+        /**
+         * Returns the highest Dice coefficient a name of the segment can reach
+         * against a query with the given number of trigrams.
+         */
+        float bestScore(int queryGrams) {
+            // Past the query, a longer name scores less; the last segment has names of any length from its own
+            int grams = nameGramCounts != null ? Math.max(nameGrams, queryGrams) : nameGrams;
+            return 2f * Math.min(queryGrams, grams) / (queryGrams + grams);
+        }
+
+        /**
+         * Offers the names of the segment matching the query to the results.
+         */
+        void search(long[] grams, Results results) {
+            int[] slots = results.slots;
+            int present = 0;
+            for (long gram : grams) {
+                long slot = gramSlots.get(gram, MISSING);
+                if (slot != MISSING) {
+                    slots[present++] = (int) slot;
+                }
+            }
+            // A name cannot hold more of the query trigrams than it has
+            int most = nameGramCounts != null ? present : Math.min(present, nameGrams);
+            int needed = results.needed(nameGrams);
+            if (needed > most) {
+                return;
+            }
+
+            sortByPostingSize(slots, present);
+
+            // Ordinals are taken by blocks. In each block the rarest lists are counted in full, every name holding
+            // enough of the trigrams is in one of them; the longer lists are only checked for names that can still
+            // match.
+            long[] levels = results.levels;
+            int[] aliveWords = results.aliveWords;
+            int[] cursors = results.cursors;
+            Arrays.fill(cursors, 0, present, 0);
+            int words = (size + 63) >>> 6;
+            for (int blockStart = 0; blockStart < words && needed <= most; blockStart += BLOCK_WORDS) {
+                int blockWords = Math.min(BLOCK_WORDS, words - blockStart);
+                Arrays.fill(levels, 0, blockWords << LEVEL_SHIFT, 0);
+                int blockNeeded = needed;
+                int counted = present - blockNeeded + 1;
+                for (int i = 0; i < counted; i++) {
+                    cursors[i] = countList(slots[i], cursors[i], levels, blockStart, blockWords);
+                }
+
+                // A name with c of the rarest trigrams must hold needed - c of the counted - 1 longer ones: it can
+                // miss c - 1 of them. Names that could miss more than the levels tell are counted exactly at the end.
+                int aliveCount = 0;
+                for (int word = 0; word < blockWords; word++) {
+                    int offset = word << LEVEL_SHIFT;
+                    long many = levels[offset + LEVELS];
+                    if (many != 0) {
+                        for (int level = 0; level < LEVELS; level++) {
+                            levels[offset + level] &= ~many;
+                        }
+                    }
+                    if ((levels[offset] | many) != 0) {
+                        aliveWords[aliveCount++] = word;
+                    }
+                }
+                for (int i = counted; i < present && aliveCount > 0; i++) {
+                    aliveCount = checkList(slots[i], cursors, i, levels, blockStart, aliveWords, aliveCount);
+                }
+
+                for (int k = 0; k < aliveCount; k++) {
+                    int word = aliveWords[k];
+                    int offset = word << LEVEL_SHIFT;
+                    for (long matches = levels[offset] | levels[offset + LEVELS]; matches != 0; matches &= matches - 1) {
+                        int bit = Long.numberOfTrailingZeros(matches);
+                        int ordinal = (blockStart + word) << 6 | bit;
+                        int count;
+                        if ((levels[offset + LEVELS] >>> bit & 1) != 0) {
+                            count = count(ordinal, slots, present);
+                            if (count < blockNeeded) {
+                                continue;
+                            }
+                        } else {
+                            // Each level left is one more trigram than the least a match holds
+                            count = blockNeeded - 1;
+                            for (int level = 0; level < LEVELS; level++) {
+                                count += (int) (levels[offset + level] >>> bit & 1);
+                            }
+                        }
+                        results.offer(count, nameGramCounts != null ? nameGramCounts[ordinal] : nameGrams,
+                                ranks[ordinal]);
+                        needed = results.needed(nameGrams);
+                    }
+                }
+            }
+        }
+
+        long memoryBytes() {
+            long bytes = (long) ranks.length * Integer.BYTES
+                    + (nameGramCounts != null ? (long) nameGramCounts.length * Short.BYTES : 0)
+                    + (long) postingSizes.length * Integer.BYTES + (long) postings.length * Integer.BYTES
+                    + (long) bitmaps.length * Integer.BYTES + gramSlots.tableBytes();
+            for (int slot = 0; slot < gramCount; slot++) {
+                // Array header plus content
+                bytes += 16 + (postings[slot] != null
+                        ? (long) postings[slot].length * Integer.BYTES
+                        : (long) bitmaps[slot].length * Long.BYTES);
+            }
+            return bytes;
+        }
+
+        void trim() {
+            ranks = Arrays.copyOf(ranks, Math.max(size, 1));
+            if (nameGramCounts != null) {
+                nameGramCounts = Arrays.copyOf(nameGramCounts, Math.max(size, 1));
+            }
+            int words = (size + 63) >>> 6;
+            for (int slot = 0; slot < gramCount; slot++) {
+                boolean dense = isDense(postingSizes[slot]);
+                if (bitmaps[slot] != null && !dense) {
+                    postings[slot] = ordinals(slot);
+                    bitmaps[slot] = null;
+                } else if (bitmaps[slot] == null && dense) {
+                    toBitmap(slot);
+                } else if (bitmaps[slot] != null && bitmaps[slot].length > words) {
+                    bitmaps[slot] = Arrays.copyOf(bitmaps[slot], words);
+                } else if (postings[slot] != null && postings[slot].length > postingSizes[slot]) {
+                    postings[slot] = Arrays.copyOf(postings[slot], postingSizes[slot]);
+                }
+            }
+        }
+
+        /**
+         * Counts the ordinals of a list that fall in a block: level {@code k}
+         * of a word holds the ordinals found in more than {@code k} of the
+         * lists counted so far, level {@link #LEVELS} those found in more than
+         * {@code LEVELS}.
+         *
+         * @param cursor the position in the list of the first ordinal of the block, for {@code int[]} lists
+         * @return the position of the first ordinal of the list past the block
+         */
+        private int countList(int slot, int cursor, long[] levels, int blockStart, int blockWords) {
+            long[] bitmap = bitmaps[slot];
+            if (bitmap != null) {
+                int end = Math.min(blockWords, bitmap.length - blockStart);
+                for (int word = 0; word < end; word++) {
+                    addToLevels(levels, word << LEVEL_SHIFT, bitmap[blockStart + word]);
+                }
+                return cursor;
+            }
+
+            int[] list = postings[slot];
+            int listSize = postingSizes[slot];
+            int blockEnd = blockStart + blockWords;
+            cursor = seek(list, cursor, listSize, blockStart);
+            for (; cursor < listSize && list[cursor] >>> 6 < blockEnd; cursor++) {
+                int ordinal = list[cursor];
+                addToLevels(levels, (ordinal >>> 6) - blockStart << LEVEL_SHIFT, 1L << ordinal);
+            }
+            return cursor;
+        }
+
+        /**
+         * Adds one to the levels of the ordinals set in the mask.
+         */
+        private static void addToLevels(long[] levels, int offset, long mask) {
+            // Most ordinals are found in one of the rarest lists at most, so the carry is usually empty at once
+            long first = levels[offset];
+            long carry = first & mask;
+            levels[offset] = first | mask;
+            long second = levels[offset + 1];
+            levels[offset + 1] = second | carry;
+            carry &= second;
+            for (int level = 2; carry != 0 && level <= LEVELS; level++) {
+                long next = levels[offset + level] & carry;
+                levels[offset + level] |= carry;
+                carry = next;
+            }
+        }
+
+        /**
+         * Checks the alive words of a block against a list: a name not in the
+         * list goes down one level, and is dropped below the lowest one. Names
+         * above every level are kept; they are counted exactly at the end.
+         *
+         * @param cursors the positions in the lists of the first ordinal not yet checked, for {@code int[]} lists
+         * @return the number of words still alive, compacted at the start of {@code aliveWords}
+         */
+        private int checkList(int slot, int[] cursors, int list, long[] levels, int blockStart, int[] aliveWords,
+                              int aliveCount) {
+            long[] bitmap = bitmaps[slot];
+            int[] ordinals = postings[slot];
+            int listSize = postingSizes[slot];
+            int position = bitmap != null ? 0 : seek(ordinals, cursors[list], listSize, blockStart);
+            int stillAlive = 0;
+            for (int k = 0; k < aliveCount; k++) {
+                int word = aliveWords[k];
+                long found = 0;
+                if (bitmap != null) {
+                    if (blockStart + word < bitmap.length) {
+                        found = bitmap[blockStart + word];
+                    }
+                } else {
+                    int target = blockStart + word;
+                    while (position < listSize && ordinals[position] >>> 6 < target) {
+                        position++;
+                    }
+                    for (; position < listSize && ordinals[position] >>> 6 == target; position++) {
+                        found |= 1L << ordinals[position];
+                    }
+                }
+
+                int offset = word << LEVEL_SHIFT;
+                long first = levels[offset];
+                long second = levels[offset + 1];
+                levels[offset] = first & found | second & ~found;
+                // Few names are in three of the rarest lists: the higher levels are usually empty
+                if (levels[offset + 2] == 0) {
+                    levels[offset + 1] = second & found;
+                } else {
+                    for (int level = 1; level < LEVELS - 1; level++) {
+                        levels[offset + level] = levels[offset + level] & found | levels[offset + level + 1] & ~found;
+                    }
+                    levels[offset + LEVELS - 1] &= found;
+                }
+                // Without a branch, that would be mispredicted as often as words die
+                aliveWords[stillAlive] = word;
+                long alive = levels[offset] | levels[offset + LEVELS];
+                stillAlive += (int) ((alive | -alive) >>> 63);
+            }
+            if (bitmap == null) {
+                cursors[list] = position;
+            }
+            return stillAlive;
+        }
+
+        /**
+         * Returns the number of query trigrams held by a name, looking it up
+         * in each list.
+         */
+        private int count(int ordinal, int[] slots, int present) {
+            int count = 0;
+            for (int i = 0; i < present; i++) {
+                int slot = slots[i];
+                long[] bitmap = bitmaps[slot];
+                if (bitmap != null) {
+                    if (ordinal >>> 6 < bitmap.length && (bitmap[ordinal >>> 6] >>> ordinal & 1) != 0) {
+                        count++;
+                    }
+                } else if (Arrays.binarySearch(postings[slot], 0, postingSizes[slot], ordinal) >= 0) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Returns the position of the first ordinal of the given word or later
+         * in a list, from a position not past it.
+         */
+        private static int seek(int[] list, int from, int to, int word) {
+            if (from < to && list[from] >>> 6 < word) {
+                // The list was not gone through in a previous block, in which no name could match any more
+                int position = Arrays.binarySearch(list, from, to, word << 6);
+                return position < 0 ? -position - 1 : position;
+            }
+            return from;
+        }
+
+        private int newSlot() {
+            if (gramCount == postings.length) {
+                postings = Arrays.copyOf(postings, gramCount * 2);
+                bitmaps = Arrays.copyOf(bitmaps, gramCount * 2);
+                postingSizes = Arrays.copyOf(postingSizes, gramCount * 2);
+            }
+            postings[gramCount] = new int[INITIAL_POSTING_CAPACITY];
+            return gramCount++;
+        }
+
+        private void append(int slot, int ordinal) {
+            int listSize = postingSizes[slot];
+            postingSizes[slot] = listSize + 1;
+            long[] bitmap = bitmaps[slot];
+            if (bitmap != null) {
+                if (ordinal >>> 6 >= bitmap.length) {
+                    bitmap = Arrays.copyOf(bitmap, Math.max((ordinal >>> 6) + 1, bitmap.length + (bitmap.length >> 1)));
+                    bitmaps[slot] = bitmap;
+                }
+                bitmap[ordinal >>> 6] |= 1L << ordinal;
+                return;
+            }
+
+            int[] list = postings[slot];
+            if (listSize == list.length) {
+                list = Arrays.copyOf(list, listSize + (listSize >> 1) + 1);
+                postings[slot] = list;
+            }
+            list[listSize] = ordinal;
+            if (isDense(listSize + 1)) {
+                toBitmap(slot);
+            }
+        }
+
+        /**
+         * Tells whether a list of the given size takes less memory as a bitmap
+         * over the ordinals of the segment than as an {@code int[]}.
+         */
+        private boolean isDense(int listSize) {
+            return listSize >= MIN_BITMAP_SIZE && (long) listSize * Integer.SIZE >= size;
+        }
+
+        private void toBitmap(int slot) {
+            long[] bitmap = new long[(size + 63) >>> 6];
+            int[] list = postings[slot];
+            for (int i = 0; i < postingSizes[slot]; i++) {
+                bitmap[list[i] >>> 6] |= 1L << list[i];
+            }
+            bitmaps[slot] = bitmap;
+            postings[slot] = null;
+        }
+
+        /**
+         * Returns the ordinals of a bitmap list, in increasing order.
+         */
+        private int[] ordinals(int slot) {
+            long[] bitmap = bitmaps[slot];
+            int[] list = new int[postingSizes[slot]];
+            int count = 0;
+            for (int word = 0; word < bitmap.length; word++) {
+                for (long bits = bitmap[word]; bits != 0; bits &= bits - 1) {
+                    list[count++] = word << 6 | Long.numberOfTrailingZeros(bits);
+                }
+            }
+            return list;
+        }
+
+        /**
+         * Insertion sort of the first {@code count} slots by posting list
+         * size; queries have a few dozen trigrams at most.
+         */
+        private void sortByPostingSize(int[] slots, int count) {
+            for (int i = 1; i < count; i++) {
+                int slot = slots[i];
+                int j = i - 1;
+                while (j >= 0 && postingSizes[slots[j]] > postingSizes[slot]) {
+                    slots[j + 1] = slots[j];
+                    j--;
+                }
+                slots[j + 1] = slot;
+            }
+        }
+    }
+}
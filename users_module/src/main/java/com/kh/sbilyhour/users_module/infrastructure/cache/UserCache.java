@@ -0,0 +1,168 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * In-process cache of registered users, looked up by id and by full name.
+ * <p>
+ * Both caches are bounded by {@code users.cache.maximum-size} and evict
+ * entries {@code users.cache.ttl} after they were written. Lookups that found
+ * no user are cached too, but only for {@code users.cache.negative-ttl}, so a
+ * user registered by another instance becomes visible quickly. Registrations
+ * write through with {@link #put}, which replaces any negative entry.
+ * </p>
+ * <p>
+ * Hits, misses, evictions and sizes are exported as the Micrometer
+ * {@code cache.*} meters, tagged {@code cache=users.by.id} and
+ * {@code cache=users.by.full.name}.
+ * </p>
+ */
+@Component
+public class UserCache {
+
+    private final Cache<Long, Optional<UserDTO>> usersById;
+    private final Cache<String, Optional<UserDTO>> usersByFullName;
+
+    @Autowired
+    public UserCache(MeterRegistry meterRegistry,
+                     @Value("${users.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${users.cache.ttl:PT10M}") Duration ttl,
+                     @Value("${users.cache.negative-ttl:PT5S}") Duration negativeTtl) {
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PresenceExpiry<Long>(ttl, negativeTtl))
+                .recordStats()
+                .build();
+        this.usersByFullName = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new PresenceExpiry<String>(ttl, negativeTtl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by.id");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByFullName, "users.by.full.name");
+    }
+
+    /**
+     * Returns the user with the given id, loading it on a miss. Concurrent
+     * misses for the same id share one load.
+     *
+     * @param id     the id of the user
+     * @param loader loads the user from the database
+     * @return the user, or empty if there is none
+     */
+    public Optional<UserDTO> getById(Long id, Function<Long, Optional<UserDTO>> loader) {
+        return usersById.get(id, loader);
+    }
+
+    /**
+     * Returns the user with the given full name, loading it on a miss.
+     * Concurrent misses for the same name share one load.
+     *
+     * @param fullName the full name of the user, as registered
+     * @param loader   loads the user from the database
+     * @return the user, or empty if there is none
+     */
+    public Optional<UserDTO> getByFullName(String fullName, Function<String, Optional<UserDTO>> loader) {
+        return usersByFullName.get(fullName, loader);
+    }
+
+    /**
+     * Non-blocking variant of {@link #getById(Long, Function)}. Concurrent
+     * misses for the same id may load more than once; a user cached while
+     * the load ran is kept over a missing result.
+     *
+     * @param id     the id of the user
+     * @param loader loads the user from the database, without blocking
+     * @return the user, or empty if there is none
+     */
+    public Mono<Optional<UserDTO>> getByIdReactive(Long id, Function<Long, Mono<Optional<UserDTO>>> loader) {
+        return getReactive(usersById, id, loader);
+    }
+
+    /**
+     * Non-blocking variant of {@link #getByFullName(String, Function)}.
+     * Concurrent misses for the same name may load more than once; a user
+     * cached while the load ran is kept over a missing result.
+     *
+     * @param fullName the full name of the user, as registered
+     * @param loader   loads the user from the database, without blocking
+     * @return the user, or empty if there is none
+     */
+    public Mono<Optional<UserDTO>> getByFullNameReactive(String fullName, Function<String, Mono<Optional<UserDTO>>> loader) {
+        return getReactive(usersByFullName, fullName, loader);
+    }
+
+    /**
+     * Caches a user that was just registered.
+     *
+     * @param user the registered user
+     */
+    public void put(UserDTO user) {
+        Optional<UserDTO> entry = Optional.of(user);
+        usersById.put(user.getId(), entry);
+        usersByFullName.put(user.getFullName(), entry);
+    }
+
+    private static <K> Mono<Optional<UserDTO>> getReactive(Cache<K, Optional<UserDTO>> cache, K key,
+                                                           Function<K, Mono<Optional<UserDTO>>> loader) {
+        return Mono.defer(() -> {
+            Optional<UserDTO> cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return loader.apply(key).map(user -> cache.asMap().merge(key, user, UserCache::keepPresent));
+        });
+    }
+
+    /**
+     * Resolves a loaded entry against the one written meanwhile: a user cached
+     * by a registration while the lookup ran is never replaced by the stale
+     * "missing" result of that lookup.
+     */
+    private static Optional<UserDTO> keepPresent(Optional<UserDTO> current, Optional<UserDTO> loaded) {
+        return current.isPresent() ? current : loaded;
+    }
+
+    /**
+     * Expires users after the TTL and missing users after the negative TTL,
+     * counted from the last write.
+     */
+    private static final class PresenceExpiry<K> implements Expiry<K, Optional<UserDTO>> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        PresenceExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(K key, Optional<UserDTO> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Optional<UserDTO> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Optional<UserDTO> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
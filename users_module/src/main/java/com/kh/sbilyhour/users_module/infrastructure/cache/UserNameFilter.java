@@ -0,0 +1,141 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+/**
+ * Negative cache in front of the duplicate-name lookups.
+ * <p>
+ * Holds a {@link BloomFilter} of all normalized full names, as a
+ * {@link RebuildableIndex} rebuilt every {@code users.name-filter.rebuild-interval}.
+ * The filter is thread-safe, so lookups take no lock. Until the first load
+ * completes, and when the filter is disabled, every name is reported as
+ * possibly present so callers always fall through to the database.
+ * </p>
+ */
+@Component
+public class UserNameFilter extends RebuildableIndex<BloomFilter> {
+
+    private final UserRepository userRepository;
+    private final long minExpectedInsertions;
+    private final double falsePositiveProbability;
+
+    private final Counter negativeLookups;
+    private final Counter positiveLookups;
+    private final Counter falsePositives;
+
+    @Autowired
+    public UserNameFilter(UserRepository userRepository,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${users.name-filter.enabled:true}") boolean enabled,
+                          @Value("${users.name-filter.expected-insertions:1000000}") long minExpectedInsertions,
+                          @Value("${users.name-filter.false-positive-probability:0.01}") double falsePositiveProbability) {
+        super("user name filter", "users.name.filter", userRepository, transactionManager, meterRegistry, enabled);
+        this.userRepository = userRepository;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+
+        this.negativeLookups = Counter.builder("users.name.filter.lookups").tag("result", "negative")
+                .description("Lookups answered as definitely absent, without a database query")
+                .register(meterRegistry);
+        this.positiveLookups = Counter.builder("users.name.filter.lookups").tag("result", "positive")
+                .description("Lookups answered as possibly present, falling through to the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("users.name.filter.false.positives")
+                .description("Positive lookups that the database did not confirm")
+                .register(meterRegistry);
+        Gauge.builder("users.name.filter.expected.fpp", this, UserNameFilter::expectedFalsePositiveRate)
+                .description("False-positive rate expected from the current fill of the filter")
+                .register(meterRegistry);
+        Gauge.builder("users.name.filter.observed.fpp", this, UserNameFilter::observedFalsePositiveRate)
+                .description("False positives over all lookups of names that were not registered")
+                .register(meterRegistry);
+        Gauge.builder("users.name.filter.insertions", this, UserNameFilter::insertions)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tells whether the given name may be registered.
+     *
+     * @param normalizedFullName the normalized full name to look up
+     * @return false if the name is definitely not registered, true if the database must be asked
+     */
+    public boolean mightContain(String normalizedFullName) {
+        BloomFilter current = current();
+        if (current == null) {
+            return true;
+        }
+        if (current.mightContain(normalizedFullName)) {
+            positiveLookups.increment();
+            return true;
+        }
+        negativeLookups.increment();
+        return false;
+    }
+
+    /**
+     * Records a registered name.
+     *
+     * @param normalizedFullName the normalized full name that was registered
+     */
+    public void put(String normalizedFullName) {
+        update(filter -> filter.put(normalizedFullName));
+    }
+
+    /**
+     * Records that a positive answer was not confirmed by the database.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${users.name-filter.rebuild-interval:PT30M}",
+            initialDelayString = "${users.name-filter.rebuild-interval:PT30M}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    @Override
+    protected BloomFilter create(long users) {
+        return new BloomFilter(Math.max(minExpectedInsertions, users * 2), falsePositiveProbability);
+    }
+
+    @Override
+    protected void load(BloomFilter rebuilt) {
+        // The filter is thread-safe, registrations need not be excluded
+        try (Stream<String> names = userRepository.streamAllNormalizedFullNames()) {
+            names.forEach(rebuilt::put);
+        }
+    }
+
+    @Override
+    protected String describe(BloomFilter rebuilt) {
+        return "with " + rebuilt.insertions() + " names (" + rebuilt.bitSize() + " bits)";
+    }
+
+    private double expectedFalsePositiveRate() {
+        BloomFilter current = current();
+        return current == null ? 0 : current.expectedFalsePositiveProbability();
+    }
+
+    private double observedFalsePositiveRate() {
+        double misses = falsePositives.count() + negativeLookups.count();
+        return misses == 0 ? 0 : falsePositives.count() / misses;
+    }
+
+    private double insertions() {
+        BloomFilter current = current();
+        return current == null ? 0 : current.insertions();
+    }
+}
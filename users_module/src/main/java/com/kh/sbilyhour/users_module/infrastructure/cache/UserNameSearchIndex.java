@@ -0,0 +1,185 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import com.kh.sbilyhour.users_module.domain.projection.UserNormalizedFullName;
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * In-memory search index over the normalized full names of all users, for
+ * "find users whose name looks like X" without a {@code LIKE '%x%'} scan of
+ * the {@code users} table.
+ * <p>
+ * Names are held in a {@link TrigramIndex}, with compact {@code int[]}
+ * posting lists. A query matches a name holding at least
+ * {@code users.name-search.min-similarity} of its trigrams, wherever they are
+ * in the name; the last word of the query also matches as a prefix.
+ * </p>
+ * <p>
+ * The index is a {@link RebuildableIndex}, rebuilt every
+ * {@code users.name-search.rebuild-interval}. A search holds the read lock
+ * for up to a millisecond, so registrations do not add their names
+ * themselves: {@link #put} queues the name and returns, and a single writer
+ * thread adds whatever is queued under one write lock. A registered user
+ * therefore shows up in searches shortly after the commit. Until the first
+ * load completes, and when the index is disabled, {@link #isReady()} is false
+ * and there is no search.
+ * </p>
+ */
+@Component
+public class UserNameSearchIndex extends RebuildableIndex<TrigramIndex> {
+
+    private static final long[] NO_IDS = new long[0];
+
+    private final UserRepository userRepository;
+    private final double minSimilarity;
+
+    /**
+     * Names registered but not added yet, drained by {@link #writer}.
+     */
+    private final Queue<RegisteredName> registered = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+            .name("user-name-index-writer")
+            .daemon()
+            .factory());
+
+    private final Timer searchTimer;
+
+    @Autowired
+    public UserNameSearchIndex(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${users.name-search.enabled:true}") boolean enabled,
+                               @Value("${users.name-search.min-similarity:0.5}") double minSimilarity) {
+        super("name search index", "core.users.name.search.index", userRepository, transactionManager, meterRegistry,
+                enabled);
+        this.userRepository = userRepository;
+        this.minSimilarity = minSimilarity;
+
+        this.searchTimer = Timer.builder("core.users.name.search")
+                .description("Time taken to match a query against the name search index")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("core.users.name.search.index.size", this, UserNameSearchIndex::size)
+                .description("Names in the search index")
+                .register(meterRegistry);
+        Gauge.builder("core.users.name.search.index.memory", this, UserNameSearchIndex::memoryBytes)
+                .description("Memory taken by the search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the ids of the users whose names best match the query. Only
+     * meaningful once {@link #isReady()}.
+     *
+     * @param query the query, normalized like full names before matching
+     * @param limit the maximum number of ids to return
+     * @return the ids, best match first
+     */
+    public long[] search(String query, int limit) {
+        String normalizedQuery = FullNameNormalizer.normalize(query);
+        return searchTimer.record(() -> read(index -> index.search(normalizedQuery, limit, minSimilarity), NO_IDS));
+    }
+
+    /**
+     * Records a registered user, without waiting for the writer to add it.
+     *
+     * @param normalizedFullName the normalized full name of the user
+     * @param userId             the id of the user
+     */
+    public void put(String normalizedFullName, long userId) {
+        if (normalizedFullName == null) {
+            return;
+        }
+        registered.add(new RegisteredName(userId, normalizedFullName));
+        if (draining.compareAndSet(false, true)) {
+            writer.execute(this::drain);
+        }
+    }
+
+    /**
+     * Waits until the names recorded so far have been added.
+     */
+    void awaitWriter() {
+        CompletableFuture.runAsync(() -> {
+        }, writer).join();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${users.name-search.rebuild-interval:PT30M}",
+            initialDelayString = "${users.name-search.rebuild-interval:PT30M}")
+    public void rebuild() {
+        super.rebuild();
+    }
+
+    @Override
+    protected TrigramIndex create(long users) {
+        return new TrigramIndex((int) Math.min(Integer.MAX_VALUE - 8, users));
+    }
+
+    @Override
+    protected void load(TrigramIndex rebuilt) {
+        try (Stream<UserNormalizedFullName> rows = userRepository.streamAllNormalizedFullNamesInIdOrder()) {
+            rows.forEach(row -> {
+                synchronized (rebuilt) {
+                    rebuilt.add(row.id(), row.normalizedFullName());
+                }
+            });
+        }
+    }
+
+    @Override
+    protected void complete(TrigramIndex rebuilt) {
+        rebuilt.trim();
+    }
+
+    @Override
+    protected String describe(TrigramIndex rebuilt) {
+        return "with " + rebuilt.size() + " names (" + rebuilt.memoryBytes() + " bytes)";
+    }
+
+    private void drain() {
+        do {
+            try {
+                List<RegisteredName> names = new ArrayList<>();
+                for (RegisteredName name; (name = registered.poll()) != null; ) {
+                    names.add(name);
+                }
+                update(index -> names.forEach(name -> index.add(name.userId(), name.normalizedFullName())));
+            } finally {
+                draining.set(false);
+            }
+            // A name queued after the poll, before draining was cleared, scheduled no drain
+        } while (!registered.isEmpty() && draining.compareAndSet(false, true));
+    }
+
+    private double size() {
+        return read(TrigramIndex::size, 0);
+    }
+
+    private double memoryBytes() {
+        return read(TrigramIndex::memoryBytes, 0L);
+    }
+
+    private record RegisteredName(long userId, String normalizedFullName) {
+    }
+}
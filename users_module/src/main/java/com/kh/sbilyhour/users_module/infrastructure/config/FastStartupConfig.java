@@ -0,0 +1,36 @@
+package com.kh.sbilyhour.users_module.infrastructure.config;
+
+import com.kh.sbilyhour.users_module.UsersModuleApplication;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Configuration of the {@code fast-startup} profile.
+ * <p>
+ * The profile turns on {@code spring.main.lazy-initialization}, so beans are
+ * only created when first used. The beans of users_module stay eager: they
+ * serve {@code createUser}, and creating them also creates what they depend
+ * on (data source, JPA, validator, object mapper), so the first request does
+ * not pay for it. Everything else, e.g. the actuator endpoints or
+ * {@code JsonUtils}, is created on first use.
+ * </p>
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    private static final String HOT_PATH_PACKAGE = UsersModuleApplication.class.getPackageName();
+
+    /**
+     * Keeps the beans of users_module out of lazy initialization.
+     *
+     * @return the filter
+     */
+    @Bean
+    static LazyInitializationExcludeFilter hotPathBeans() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null && beanType.getPackageName().startsWith(HOT_PATH_PACKAGE);
+    }
+}
@@ -0,0 +1,50 @@
+package com.kh.sbilyhour.users_module.infrastructure.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * R2DBC access to the users database, for the reactive stack.
+ * <p>
+ * The connection pool is deliberately not exposed as a
+ * {@code ConnectionFactory} bean: Spring Boot would then back off from
+ * creating the JDBC {@code DataSource} that JPA runs on. Only the
+ * {@link DatabaseClient} is a bean, and the R2DBC auto-configuration is
+ * excluded in {@code UsersModuleApplication}.
+ * </p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReactivePersistenceConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactivePersistenceConfig(@Value("${users.r2dbc.url}") String url,
+                                     @Value("${users.r2dbc.username}") String username,
+                                     @Value("${users.r2dbc.password}") String password,
+                                     @Value("${users.r2dbc.pool-size:20}") int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .maxSize(poolSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient usersDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,56 @@
+package com.kh.sbilyhour.users_module.infrastructure.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Analytics consumer of registrations: counts registered users by gender as
+ * {@code core.users.registered}. Counts are added up over a batch and
+ * applied to the counters once per batch.
+ */
+@Component
+public class RegistrationAnalyticsHandler implements UserRegisteredHandler {
+
+    private final Counter femaleRegistrations;
+    private final Counter maleRegistrations;
+
+    // Only used by the handler thread
+    private long female;
+    private long male;
+
+    @Autowired
+    public RegistrationAnalyticsHandler(MeterRegistry meterRegistry) {
+        this.femaleRegistrations = registrations(meterRegistry, "f");
+        this.maleRegistrations = registrations(meterRegistry, "m");
+    }
+
+    @Override
+    public String name() {
+        return "analytics";
+    }
+
+    @Override
+    public void onEvent(UserRegistered event, boolean endOfBatch) {
+        // Gender is validated as M or F on registration
+        if ("F".equals(event.getGender())) {
+            female++;
+        } else {
+            male++;
+        }
+        if (endOfBatch) {
+            femaleRegistrations.increment(female);
+            maleRegistrations.increment(male);
+            female = 0;
+            male = 0;
+        }
+    }
+
+    private static Counter registrations(MeterRegistry meterRegistry, String gender) {
+        return Counter.builder("core.users.registered")
+                .description("Registered users, as seen by the registration event handlers")
+                .tag("gender", gender)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.kh.sbilyhour.users_module.infrastructure.event;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Position in the ring buffer, written by one thread and read by others.
+ * <p>
+ * The value is padded with 56 bytes on each side, through superclasses since
+ * the JVM does not reorder fields across a class hierarchy, so that the
+ * sequences of the producer and of each consumer never share a cache line.
+ * </p>
+ */
+final class Sequence extends SequenceValue {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private long p11, p12, p13, p14, p15, p16, p17;
+
+    Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    long get() {
+        return (long) VALUE.getAcquire(this);
+    }
+
+    /**
+     * Publishes the value: writes made before are visible to any thread
+     * that reads it with {@link #get()}.
+     */
+    void set(long value) {
+        VALUE.setRelease(this, value);
+    }
+}
+
+abstract class SequenceLeftPadding {
+
+    @SuppressWarnings("unused")
+    private long p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class SequenceValue extends SequenceLeftPadding {
+
+    @SuppressWarnings("unused")
+    long value;
+}
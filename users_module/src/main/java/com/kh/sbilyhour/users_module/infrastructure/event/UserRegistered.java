@@ -0,0 +1,56 @@
+package com.kh.sbilyhour.users_module.infrastructure.event;
+
+/**
+ * Event of a user registration, handed to every {@link UserRegisteredHandler}.
+ * <p>
+ * Events are slots of the ring buffer, allocated once and overwritten for
+ * every registration: an event is only valid during the
+ * {@link UserRegisteredHandler#onEvent} call it is passed to, and handlers
+ * copy what they keep.
+ * </p>
+ */
+public final class UserRegistered {
+
+    private long outboxId;
+    private long userId;
+    private String fullName;
+    private String phoneNumber;
+    private String gender;
+    private String createDate;
+
+    UserRegistered() {
+    }
+
+    void set(long outboxId, long userId, String fullName, String phoneNumber, String gender, String createDate) {
+        this.outboxId = outboxId;
+        this.userId = userId;
+        this.fullName = fullName;
+        this.phoneNumber = phoneNumber;
+        this.gender = gender;
+        this.createDate = createDate;
+    }
+
+    long getOutboxId() {
+        return outboxId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+
+    public String getGender() {
+        return gender;
+    }
+
+    public String getCreateDate() {
+        return createDate;
+    }
+}
@@ -0,0 +1,359 @@
+package com.kh.sbilyhour.users_module.infrastructure.event;
+
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.entities.UserRegisteredOutbox;
+import com.kh.sbilyhour.users_module.infrastructure.persistence.repository.UserRegisteredOutboxJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pipeline of {@link UserRegistered} events, from the registration
+ * transaction to every {@link UserRegisteredHandler}.
+ * <p>
+ * {@link #record} adds one outbox row per registered user to the transaction
+ * of the registration, so an event exists if and only if the registration
+ * committed, and wakes the relay after the commit. The relay thread, the
+ * only producer of the {@link UserRegisteredRingBuffer}, reads the rows not
+ * published yet, {@code users.events.relay-batch-size} at a time, copies
+ * them into the preallocated events of the ring and publishes them. Each
+ * handler reads the ring on its own thread, in batches, so the registering
+ * thread only pays for the outbox insert, whatever the handlers do.
+ * </p>
+ * <p>
+ * Rows are deleted once every handler is past their event. On start, rows
+ * left behind, e.g. by a crash, are published again: delivery is at least
+ * once. On shutdown the relay stops and the handlers finish what was
+ * published, within {@code users.events.shutdown-timeout}. The pipeline is
+ * only active when {@code users.events.enabled} is true.
+ * </p>
+ */
+@Component
+public class UserRegisteredEvents implements SmartLifecycle {
+
+    /**
+     * Stops after the registration writer, whose registrations record events,
+     * and before the data source is closed.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 8192;
+
+    private final Logger logger = LoggerFactory.getLogger(UserRegisteredEvents.class);
+
+    private final UserRegisteredOutboxJpaRepository outboxRepository;
+    private final TransactionTemplate transaction;
+    private final List<UserRegisteredHandler> handlers;
+    private final boolean enabled;
+    private final int relayBatchSize;
+    private final long pollIntervalNanos;
+    private final Duration shutdownTimeout;
+    private final UserRegisteredRingBuffer ring;
+
+    // Relay state, only used by the relay thread, then by stop() once it ended
+    private final List<Long> handledOutboxIds = new ArrayList<>();
+    private long collectedUpTo = -1;
+
+    private volatile boolean relaying;
+    private volatile boolean consuming;
+    private volatile Thread relay;
+    private final List<Thread> consumers = new ArrayList<>();
+
+    private final Timer publishTimer;
+    private final Counter publishedEvents;
+    private final DistributionSummary[] batchSizes;
+    private final Counter[] handlerErrors;
+
+    @Autowired
+    public UserRegisteredEvents(UserRegisteredOutboxJpaRepository outboxRepository,
+                                PlatformTransactionManager transactionManager,
+                                List<UserRegisteredHandler> handlers, MeterRegistry meterRegistry,
+                                @Value("${users.events.enabled:false}") boolean enabled,
+                                @Value("${users.events.ring-size:1024}") int ringSize,
+                                @Value("${users.events.relay-batch-size:256}") int relayBatchSize,
+                                @Value("${users.events.poll-interval:PT1S}") Duration pollInterval,
+                                @Value("${users.events.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.outboxRepository = outboxRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.handlers = List.copyOf(handlers);
+        this.enabled = enabled;
+        this.relayBatchSize = relayBatchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.ring = new UserRegisteredRingBuffer(ringSize, this.handlers.size());
+
+        this.publishTimer = Timer.builder("core.users.events.publish")
+                .description("Time to publish one batch of outbox rows into the ring buffer, waiting for room included")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.publishedEvents = Counter.builder("core.users.events.published")
+                .description("Registration events published into the ring buffer")
+                .register(meterRegistry);
+        Gauge.builder("core.users.events.queue.depth", ring, buffer -> buffer.published() - buffer.minimumConsumed())
+                .description("Events published but not handled by every handler yet")
+                .register(meterRegistry);
+
+        this.batchSizes = new DistributionSummary[this.handlers.size()];
+        this.handlerErrors = new Counter[this.handlers.size()];
+        for (int i = 0; i < this.handlers.size(); i++) {
+            String consumer = this.handlers.get(i).name();
+            Sequence consumed = ring.consumed(i);
+            Gauge.builder("core.users.events.consumer.lag", ring, buffer -> buffer.published() - consumed.get())
+                    .description("Events published but not handled by the handler yet")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry);
+            batchSizes[i] = DistributionSummary.builder("core.users.events.consumer.batch.size")
+                    .description("Events handled per batch")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry);
+            handlerErrors[i] = Counter.builder("core.users.events.consumer.errors")
+                    .description("Events whose handler threw an exception")
+                    .tag("consumer", consumer)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Records the registration of the given users, in the current transaction
+     * if there is one. The events are published once it commits.
+     *
+     * @param users the registered users, with their ids
+     */
+    public void record(List<? extends User> users) {
+        if (!enabled || users.isEmpty()) {
+            return;
+        }
+        List<UserRegisteredOutbox> rows = new ArrayList<>(users.size());
+        for (User user : users) {
+            rows.add(UserRegisteredOutbox.builder()
+                    .userId(user.getId())
+                    .fullName(user.getFullName())
+                    .phoneNumber(user.getPhoneNumber())
+                    .gender(user.getGender())
+                    .createDate(user.getCreateDate())
+                    .build());
+        }
+        outboxRepository.saveAll(rows);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wakeRelay();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wakeRelay();
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || relay != null) {
+            return;
+        }
+        // Nothing is in the ring yet: whatever was relayed before a restart is published again
+        transaction.executeWithoutResult(status -> outboxRepository.resetRelayed());
+
+        relaying = true;
+        consuming = true;
+        for (int i = 0; i < handlers.size(); i++) {
+            UserRegisteredHandler handler = handlers.get(i);
+            int consumer = i;
+            consumers.add(Thread.ofPlatform()
+                    .name("user-registered-" + handler.name())
+                    .daemon(true)
+                    .start(() -> consume(handler, consumer)));
+        }
+        relay = Thread.ofPlatform()
+                .name("user-registered-relay")
+                .daemon(true)
+                .start(this::relay);
+    }
+
+    @Override
+    public void stop() {
+        Thread currentRelay = relay;
+        if (currentRelay == null) {
+            return;
+        }
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+
+        relaying = false;
+        LockSupport.unpark(currentRelay);
+        join(currentRelay, deadline);
+        // The handlers stop once they handled everything published
+        consuming = false;
+        for (Thread consumer : consumers) {
+            LockSupport.unpark(consumer);
+            join(consumer, deadline);
+        }
+
+        if (currentRelay.isAlive() || consumers.stream().anyMatch(Thread::isAlive)) {
+            logger.warn("Registration events not handled within {}, {} events are published again on the next start",
+                    shutdownTimeout, ring.published() - ring.minimumConsumed());
+        } else {
+            try {
+                deleteHandled();
+            } catch (RuntimeException exception) {
+                logger.warn("Failed to delete handled registration events, they are published again on the next start",
+                        exception);
+            }
+        }
+        relay = null;
+        consumers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return relay != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void wakeRelay() {
+        Thread current = relay;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    /**
+     * Relay loop: publishes outbox rows until stopped, then sleeps until
+     * woken by a commit or for {@code users.events.poll-interval}.
+     */
+    private void relay() {
+        while (relaying) {
+            try {
+                deleteHandled();
+                if (relayBatch() < relayBatchSize) {
+                    LockSupport.parkNanos(pollIntervalNanos);
+                }
+            } catch (RuntimeException exception) {
+                logger.error("Failed to relay registration events", exception);
+                LockSupport.parkNanos(pollIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * Publishes the next outbox rows into the ring.
+     *
+     * @return the number of events published
+     */
+    private int relayBatch() {
+        List<UserRegisteredOutbox> rows = transaction.execute(status -> {
+            List<UserRegisteredOutbox> unrelayed = outboxRepository.findByRelayedFalseOrderById(Limit.of(relayBatchSize));
+            if (!unrelayed.isEmpty()) {
+                outboxRepository.markRelayed(unrelayed.stream().map(UserRegisteredOutbox::getId).toList());
+            }
+            return unrelayed;
+        });
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        for (UserRegisteredOutbox row : rows) {
+            long sequence = ring.claim();
+            // Every handler is past the event this slot held: keep its row for deletion before overwriting it
+            collectHandled(sequence - ring.capacity());
+            ring.get(sequence).set(row.getId(), row.getUserId(), row.getFullName(), row.getPhoneNumber(),
+                    row.getGender(), row.getCreateDate());
+            ring.publish(sequence);
+        }
+        publishTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        publishedEvents.increment(rows.size());
+        // Idle handlers are parked: wake them once per batch rather than let them poll
+        consumers.forEach(LockSupport::unpark);
+        return rows.size();
+    }
+
+    /**
+     * Deletes the outbox rows of the events every handler is past.
+     */
+    private void deleteHandled() {
+        collectHandled(ring.minimumConsumed());
+        if (handledOutboxIds.isEmpty()) {
+            return;
+        }
+        outboxRepository.deleteAllByIdInBatch(handledOutboxIds);
+        handledOutboxIds.clear();
+    }
+
+    private void collectHandled(long upTo) {
+        for (long sequence = collectedUpTo + 1; sequence <= upTo; sequence++) {
+            handledOutboxIds.add(ring.get(sequence).getOutboxId());
+        }
+        collectedUpTo = Math.max(collectedUpTo, upTo);
+    }
+
+    /**
+     * Handler loop: hands over every published event, a batch at a time,
+     * until stopped and caught up.
+     */
+    private void consume(UserRegisteredHandler handler, int consumer) {
+        Sequence consumed = ring.consumed(consumer);
+        long handled = consumed.get();
+        int tries = 0;
+        while (true) {
+            // Read before the published sequence: once stopping, nothing is published anymore
+            boolean stopping = !consuming;
+            long available = ring.published();
+            if (available == handled) {
+                if (stopping) {
+                    return;
+                }
+                tries = UserRegisteredRingBuffer.idle(tries);
+                continue;
+            }
+
+            tries = 0;
+            for (long sequence = handled + 1; sequence <= available; sequence++) {
+                UserRegistered event = ring.get(sequence);
+                try {
+                    handler.onEvent(event, sequence == available);
+                } catch (Exception exception) {
+                    handlerErrors[consumer].increment();
+                    logger.error("{} failed to handle the registration of user {}", handler.name(), event.getUserId(),
+                            exception);
+                }
+            }
+            batchSizes[consumer].record(available - handled);
+            handled = available;
+            consumed.set(handled);
+        }
+    }
+
+    private static void join(Thread thread, long deadlineNanos) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (remainingMillis <= 0) {
+            return;
+        }
+        try {
+            thread.join(remainingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kh.sbilyhour.users_module.infrastructure.event;
+
+/**
+ * Consumer of {@link UserRegistered} events, e.g. welcome SMS or analytics.
+ * <p>
+ * Every handler bean receives every event, in publication order, on a thread
+ * of its own, so a slow handler delays neither registrations nor the other
+ * handlers. Events arrive in batches: all events published since the
+ * handler last caught up, the last one flagged with {@code endOfBatch}, which
+ * is when a handler buffering its work should flush it. Delivery is at least
+ * once: events not handled before a crash are handled again after restart.
+ * </p>
+ */
+public interface UserRegisteredHandler {
+
+    /**
+     * Returns the name of the handler, used as the name of its thread and as
+     * the {@code consumer} tag of its metrics.
+     *
+     * @return the name
+     */
+    String name();
+
+    /**
+     * Handles one event. An exception is logged and counted, and the handler
+     * goes on with the next event.
+     *
+     * @param event      the event, only valid during the call
+     * @param endOfBatch whether this is the last event available for now
+     * @throws Exception if the event cannot be handled
+     */
+    void onEvent(UserRegistered event, boolean endOfBatch) throws Exception;
+}
@@ -0,0 +1,141 @@
+package com.kh.sbilyhour.users_module.infrastructure.event;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded single-producer, multi-consumer ring buffer of preallocated
+ * {@link UserRegistered} events.
+ * <p>
+ * The producer claims the next sequence, fills the event of its slot and
+ * publishes the sequence; every consumer reads every event and records the
+ * last sequence it handled. A slot is only reused once all consumers are
+ * past it, so a full ring makes the producer wait for the slowest consumer.
+ * No lock is taken: the only shared state is one {@link Sequence} for the
+ * producer and one per consumer, each written by a single thread.
+ * </p>
+ */
+final class UserRegisteredRingBuffer {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 1_000_000;
+
+    private final UserRegistered[] events;
+    private final int mask;
+    private final Sequence published = new Sequence(-1);
+    private final Sequence[] consumed;
+
+    // Producer state, only used by the producer thread
+    private long claimed = -1;
+    private long cachedMinimumConsumed = -1;
+
+    UserRegisteredRingBuffer(int capacity, int consumers) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The ring size must be a power of two");
+        }
+        this.events = new UserRegistered[capacity];
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new UserRegistered();
+        }
+        this.mask = capacity - 1;
+        this.consumed = new Sequence[consumers];
+        for (int i = 0; i < consumers; i++) {
+            consumed[i] = new Sequence(-1);
+        }
+    }
+
+    int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Returns the event of the slot of the given sequence.
+     *
+     * @param sequence the sequence
+     * @return the event
+     */
+    UserRegistered get(long sequence) {
+        return events[(int) sequence & mask];
+    }
+
+    /**
+     * Claims the next sequence, waiting while its slot still holds an event
+     * that a consumer has not handled. Producer only.
+     *
+     * @return the claimed sequence, whose event can be filled in
+     */
+    long claim() {
+        long next = claimed + 1;
+        long wrapPoint = next - events.length;
+        if (wrapPoint > cachedMinimumConsumed) {
+            int tries = 0;
+            while (wrapPoint > (cachedMinimumConsumed = minimumConsumed())) {
+                tries = idle(tries);
+            }
+        }
+        claimed = next;
+        return next;
+    }
+
+    /**
+     * Makes the event of the given sequence, and all before it, visible to
+     * the consumers. Producer only.
+     *
+     * @param sequence the claimed sequence
+     */
+    void publish(long sequence) {
+        published.set(sequence);
+    }
+
+    /**
+     * Returns the last published sequence.
+     *
+     * @return the sequence, -1 before the first event
+     */
+    long published() {
+        return published.get();
+    }
+
+    /**
+     * Returns the sequence recording the progress of a consumer.
+     *
+     * @param consumer the index of the consumer
+     * @return the last sequence the consumer handled
+     */
+    Sequence consumed(int consumer) {
+        return consumed[consumer];
+    }
+
+    /**
+     * Returns the last sequence handled by every consumer.
+     *
+     * @return the lowest consumer sequence, or the published one without consumers
+     */
+    long minimumConsumed() {
+        long minimum = published.get();
+        for (Sequence sequence : consumed) {
+            minimum = Math.min(minimum, sequence.get());
+        }
+        return minimum;
+    }
+
+    /**
+     * Waits a little, spinning first, then yielding, then parking, so that a
+     * busy ring is served without delay and an idle one costs no CPU. A
+     * parked thread may be woken early with {@code LockSupport.unpark}.
+     *
+     * @param tries how many times the caller already waited
+     * @return the next value of {@code tries}
+     */
+    static int idle(int tries) {
+        if (tries < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+            return tries;
+        }
+        return tries + 1;
+    }
+}
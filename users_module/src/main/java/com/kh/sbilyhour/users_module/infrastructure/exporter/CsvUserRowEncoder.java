@@ -0,0 +1,70 @@
+package com.kh.sbilyhour.users_module.infrastructure.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes users as CSV (RFC 4180) with an {@code id,fullName,phoneNumber,gender}
+ * header, which the user import reads back.
+ */
+final class CsvUserRowEncoder extends UserRowEncoder {
+
+    private static final String HEADER = "id,fullName,phoneNumber,gender";
+
+    CsvUserRowEncoder(OutputStream output) {
+        super(output);
+    }
+
+    @Override
+    void writeHeader() throws IOException {
+        writeAscii(HEADER);
+        writeByte('\n');
+    }
+
+    @Override
+    void writeRow(long id, String fullName, String phoneNumber, String gender) throws IOException {
+        writeLong(id);
+        writeByte(',');
+        writeValue(fullName);
+        writeByte(',');
+        writeValue(phoneNumber);
+        writeByte(',');
+        writeValue(gender);
+        writeByte('\n');
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quoted = needsQuotes(value);
+        if (quoted) {
+            writeByte('"');
+        }
+        for (int i = 0; i < value.length(); ) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"') {
+                    writeByte('"');
+                }
+                writeByte(c);
+                i++;
+            } else {
+                i = writeUtf8(value, i);
+            }
+        }
+        if (quoted) {
+            writeByte('"');
+        }
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
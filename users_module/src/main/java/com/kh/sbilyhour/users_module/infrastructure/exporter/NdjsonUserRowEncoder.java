@@ -0,0 +1,64 @@
+package com.kh.sbilyhour.users_module.infrastructure.exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes users as NDJSON, one object per line, with the properties of
+ * {@code UserDTO}: the lines are the ones {@code /streamUsers} writes.
+ */
+final class NdjsonUserRowEncoder extends UserRowEncoder {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    NdjsonUserRowEncoder(OutputStream output) {
+        super(output);
+    }
+
+    @Override
+    void writeHeader() {
+        // No header
+    }
+
+    @Override
+    void writeRow(long id, String fullName, String phoneNumber, String gender) throws IOException {
+        writeAscii("{\"id\":");
+        writeLong(id);
+        writeAscii(",\"fullName\":");
+        writeValue(fullName);
+        writeAscii(",\"phoneNumber\":");
+        writeValue(phoneNumber);
+        writeAscii(",\"gender\":");
+        writeValue(gender);
+        writeByte('}');
+        writeByte('\n');
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null) {
+            writeAscii("null");
+            return;
+        }
+        writeByte('"');
+        for (int i = 0; i < value.length(); ) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                i = writeUtf8(value, i);
+                continue;
+            }
+            if (c == '"' || c == '\\') {
+                writeByte('\\');
+                writeByte(c);
+            } else if (c < 0x20) {
+                writeAscii("\\u00");
+                writeByte(HEX[c >> 4]);
+                writeByte(HEX[c & 0xF]);
+            } else {
+                writeByte(c);
+            }
+            i++;
+        }
+        writeByte('"');
+    }
+}
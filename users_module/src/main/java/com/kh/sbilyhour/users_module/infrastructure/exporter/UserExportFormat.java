@@ -0,0 +1,104 @@
+package com.kh.sbilyhour.users_module.infrastructure.exporter;
+
+import com.kh.sbilyhour.users_module.domain.exception.InvalidExportFormatException;
+
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formats of user exports.
+ */
+public enum UserExportFormat {
+
+    /**
+     * Comma-separated values with an {@code id,fullName,phoneNumber,gender} header.
+     */
+    CSV("text/csv", "csv") {
+        @Override
+        UserRowEncoder newEncoder(OutputStream output) {
+            return new CsvUserRowEncoder(output);
+        }
+    },
+
+    /**
+     * One JSON object per line, as written by {@code /streamUsers}.
+     */
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        UserRowEncoder newEncoder(OutputStream output) {
+            return new NdjsonUserRowEncoder(output);
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    UserExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the format with the given name, in any case.
+     *
+     * @param format the name of the format
+     * @return the format
+     * @throws InvalidExportFormatException if there is no such format
+     */
+    public static UserExportFormat of(String format) {
+        for (UserExportFormat value : values()) {
+            if (value.name().equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw InvalidExportFormatException.INSTANCE;
+    }
+
+    /**
+     * Returns the format named by {@code format} or, when it is blank, the
+     * one of the file extension ({@code .csv}, {@code .ndjson} or
+     * {@code .jsonl}, optionally followed by {@code .gz}).
+     *
+     * @param format the configured format, may be blank
+     * @param file   the export file
+     * @return the format
+     * @throws IllegalArgumentException if the format cannot be told
+     */
+    public static UserExportFormat resolve(String format, Path file) {
+        if (format != null && !format.isBlank()) {
+            return of(format.trim());
+        }
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".gz")) {
+            fileName = fileName.substring(0, fileName.length() - ".gz".length());
+        }
+        if (fileName.endsWith(".csv")) {
+            return CSV;
+        }
+        if (fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot tell the format of " + file + ", set users.export.format");
+    }
+
+    /**
+     * Returns the media type of the uncompressed format.
+     *
+     * @return the content type
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Returns the usual file extension of the format, without the dot.
+     *
+     * @return the file extension
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    abstract UserRowEncoder newEncoder(OutputStream output);
+}
@@ -0,0 +1,24 @@
+package com.kh.sbilyhour.users_module.infrastructure.exporter;
+
+import java.time.Duration;
+
+/**
+ * Outcome of an export.
+ *
+ * @param users   the users written
+ * @param lastId  the id of the last user written, the checkpoint to resume
+ *                after; the starting id if no user was written
+ * @param elapsed the time the export took
+ */
+public record UserExportResult(long users, long lastId, Duration elapsed) {
+
+    /**
+     * Returns the average throughput of the export.
+     *
+     * @return users written per second
+     */
+    public long usersPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return users * 1000 / millis;
+    }
+}
@@ -0,0 +1,167 @@
+package com.kh.sbilyhour.users_module.infrastructure.exporter;
+
+import com.kh.sbilyhour.users_module.domain.repository.UserExportRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes all users, or those after a checkpoint id, to an output stream as
+ * CSV or NDJSON, optionally gzip-compressed.
+ * <p>
+ * Users are read in id order from one forward-only cursor by
+ * {@link UserExportRepository} and encoded straight from the column values
+ * into a {@link UserRowEncoder} buffer: no entity, DTO or projection is
+ * created and nothing is kept per user, so memory use does not depend on the
+ * size of the table. Progress and throughput are logged every
+ * {@code users.export.progress-interval}. An interrupted export is resumed
+ * by exporting after the id of the last complete line of its output.
+ * </p>
+ */
+@Component
+public class UserExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExporter.class);
+
+    /**
+     * Users written between two looks at the clock.
+     */
+    private static final int PROGRESS_CHECK_INTERVAL = 4096;
+
+    private final UserExportRepository userExportRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long progressIntervalNanos;
+
+    private final Counter exportedUsers;
+    private final Timer exportTimer;
+
+    @Autowired
+    public UserExporter(UserExportRepository userExportRepository, PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${users.export.progress-interval:PT10S}") Duration progressInterval) {
+        this.userExportRepository = userExportRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.progressIntervalNanos = progressInterval.toNanos();
+
+        this.exportedUsers = Counter.builder("core.users.export.users")
+                .description("Users written by exports")
+                .register(meterRegistry);
+        this.exportTimer = Timer.builder("core.users.export")
+                .description("Time taken by whole exports")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Exports the users with an id greater than {@code afterId}. The output
+     * is flushed, and the gzip stream finished, but not closed.
+     *
+     * @param format  the format to write
+     * @param gzip    whether to compress the output
+     * @param afterId the id after which to start, 0 for all users
+     * @param output  where to write
+     * @return the outcome of the export
+     * @throws IOException if the output cannot be written
+     */
+    public UserExportResult export(UserExportFormat format, boolean gzip, long afterId, OutputStream output)
+            throws IOException {
+        long startNanos = System.nanoTime();
+        FastGzipOutputStream compressed = gzip ? new FastGzipOutputStream(output) : null;
+        Progress progress = new Progress(afterId, startNanos);
+        try {
+            UserRowEncoder encoder = format.newEncoder(gzip ? compressed : output);
+            encoder.writeHeader();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    userExportRepository.forEachUserAfter(afterId, (id, fullName, phoneNumber, gender) -> {
+                        encoder.writeRow(id, fullName, phoneNumber, gender);
+                        progress.written(id);
+                    });
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            encoder.flush();
+            if (compressed != null) {
+                compressed.finish();
+                output.flush();
+            }
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        } finally {
+            exportedUsers.increment(progress.users % PROGRESS_CHECK_INTERVAL);
+            if (compressed != null) {
+                compressed.release();
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        exportTimer.record(Duration.ofNanos(elapsedNanos));
+        return new UserExportResult(progress.users, progress.lastId, Duration.ofNanos(elapsedNanos));
+    }
+
+    /**
+     * Counts the users written and logs the progress now and then.
+     */
+    private final class Progress {
+
+        private final long startNanos;
+        private long nextReportNanos;
+        private long users;
+        private long lastId;
+
+        Progress(long afterId, long startNanos) {
+            this.startNanos = startNanos;
+            this.nextReportNanos = startNanos + progressIntervalNanos;
+            this.lastId = afterId;
+        }
+
+        void written(long id) {
+            lastId = id;
+            if (++users % PROGRESS_CHECK_INTERVAL != 0) {
+                return;
+            }
+            exportedUsers.increment(PROGRESS_CHECK_INTERVAL);
+            long now = System.nanoTime();
+            if (now >= nextReportNanos) {
+                nextReportNanos = now + progressIntervalNanos;
+                logger.info("Exported {} users, last id {}, {} users/s",
+                        users, lastId, Math.round(users / ((now - startNanos) / 1e9)));
+            }
+        }
+    }
+
+    /**
+     * Gzip stream favouring speed over size: exports are large and read
+     * once, so the fastest level is used.
+     */
+    private static final class FastGzipOutputStream extends GZIPOutputStream {
+
+        FastGzipOutputStream(OutputStream output) throws IOException {
+            super(output, UserRowEncoder.BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+
+        /**
+         * Frees the native memory of the deflater without closing the
+         * underlying stream, which belongs to the caller.
+         */
+        void release() {
+            def.end();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.kh.sbilyhour.users_module.infrastructure.exporter;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes users as UTF-8 lines into a reused buffer, which is written to the
+ * output whenever it is full. Values are encoded char by char, without an
+ * intermediate String, byte array or {@code CharsetEncoder} per row.
+ */
+abstract class UserRowEncoder implements Flushable {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream output;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    UserRowEncoder(OutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Writes what precedes the first user, if anything.
+     */
+    abstract void writeHeader() throws IOException;
+
+    /**
+     * Writes one user as one line.
+     */
+    abstract void writeRow(long id, String fullName, String phoneNumber, String gender) throws IOException;
+
+    /**
+     * Writes the buffered bytes to the output and flushes it.
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        output.flush();
+    }
+
+    final void writeByte(int b) throws IOException {
+        if (position == buffer.length) {
+            drain();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    final void writeAscii(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            writeByte(value.charAt(i));
+        }
+    }
+
+    final void writeLong(long value) throws IOException {
+        if (value < 0) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        if (position + 19 > buffer.length) {
+            drain();
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    /**
+     * Writes the non-ASCII char at {@code index} of the value as UTF-8,
+     * together with its low surrogate if it starts a pair. An unpaired
+     * surrogate is written as {@code ?}, as {@code String.getBytes} does.
+     *
+     * @return the index of the next char
+     */
+    final int writeUtf8(String value, int index) throws IOException {
+        char c = value.charAt(index);
+        if (c < 0x800) {
+            writeByte(0xC0 | (c >> 6));
+            writeByte(0x80 | (c & 0x3F));
+            return index + 1;
+        }
+        if (!Character.isSurrogate(c)) {
+            writeByte(0xE0 | (c >> 12));
+            writeByte(0x80 | ((c >> 6) & 0x3F));
+            writeByte(0x80 | (c & 0x3F));
+            return index + 1;
+        }
+        if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            writeByte(0xF0 | (codePoint >> 18));
+            writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+            writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+            writeByte(0x80 | (codePoint & 0x3F));
+            return index + 2;
+        }
+        writeByte('?');
+        return index + 1;
+    }
+
+    private void drain() throws IOException {
+        if (position > 0) {
+            output.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
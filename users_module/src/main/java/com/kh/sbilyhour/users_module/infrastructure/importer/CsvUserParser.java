@@ -0,0 +1,148 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Parser of CSV lines (RFC 4180 fields, without line breaks inside quotes).
+ * <p>
+ * The first line is the header; it names the {@code fullName},
+ * {@code phoneNumber} and {@code gender} columns, in any order and in camel
+ * or snake case ({@code full_name}). Other columns are skipped. Only the three
+ * values are decoded into Strings, straight from the line bytes.
+ * </p>
+ */
+final class CsvUserParser implements UserLineParser {
+
+    private static final int FULL_NAME = 0;
+    private static final int PHONE_NUMBER = 1;
+    private static final int GENDER = 2;
+    private static final String[] FIELD_NAMES = {"fullName", "phoneNumber", "gender"};
+
+    /**
+     * Field read from each column, -1 for skipped columns; null until the header is read.
+     */
+    private int[] columnFields;
+
+    private final String[] values = new String[FIELD_NAMES.length];
+    private byte[] unquoted = new byte[64];
+
+    @Override
+    public RegisterUserRequest parse(byte[] line, int length) throws MalformedLineException {
+        if (columnFields == null) {
+            readHeader(line, length);
+            return null;
+        }
+
+        int column = 0;
+        int position = 0;
+        while (true) {
+            if (column == columnFields.length) {
+                throw new MalformedLineException("Expected " + columnFields.length + " columns, found more");
+            }
+            int field = columnFields[column++];
+            position = readValue(line, length, position, field);
+            if (position == length) {
+                break;
+            }
+            position++;
+        }
+        if (column < columnFields.length) {
+            throw new MalformedLineException("Expected " + columnFields.length + " columns, found " + column);
+        }
+
+        return RegisterUserRequest.builder()
+                .fullName(values[FULL_NAME])
+                .phoneNumber(values[PHONE_NUMBER])
+                .gender(values[GENDER])
+                .build();
+    }
+
+    private void readHeader(byte[] line, int length) {
+        int columns = 1;
+        for (int i = 0; i < length; i++) {
+            if (line[i] == ',') {
+                columns++;
+            }
+        }
+        columnFields = new int[columns];
+        boolean[] found = new boolean[FIELD_NAMES.length];
+
+        int start = 0;
+        for (int column = 0; column < columns; column++) {
+            int end = start;
+            while (end < length && line[end] != ',') {
+                end++;
+            }
+            String name = new String(line, start, end - start, StandardCharsets.UTF_8)
+                    .replace("\"", "")
+                    .replace("_", "")
+                    .trim();
+            columnFields[column] = -1;
+            for (int field = 0; field < FIELD_NAMES.length; field++) {
+                if (FIELD_NAMES[field].equalsIgnoreCase(name)) {
+                    columnFields[column] = field;
+                    found[field] = true;
+                }
+            }
+            start = end + 1;
+        }
+
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            if (!found[field]) {
+                throw new IllegalArgumentException("The CSV header has no " + FIELD_NAMES[field] + " column");
+            }
+        }
+    }
+
+    /**
+     * Reads the value starting at {@code position} into {@link #values}, or
+     * skips it if {@code field} is -1.
+     *
+     * @return the position of the comma ending the value, or {@code length}
+     */
+    private int readValue(byte[] line, int length, int position, int field) throws MalformedLineException {
+        if (position == length || line[position] != '"') {
+            int end = position;
+            while (end < length && line[end] != ',') {
+                end++;
+            }
+            if (field >= 0) {
+                values[field] = new String(line, position, end - position, StandardCharsets.UTF_8);
+            }
+            return end;
+        }
+
+        // Quoted value: "" stands for one quote
+        int unquotedLength = 0;
+        int index = position + 1;
+        while (true) {
+            if (index == length) {
+                throw new MalformedLineException("Unterminated quoted value");
+            }
+            byte b = line[index++];
+            if (b == '"') {
+                if (index < length && line[index] == '"') {
+                    index++;
+                } else {
+                    break;
+                }
+            }
+            if (field >= 0) {
+                if (unquotedLength == unquoted.length) {
+                    unquoted = Arrays.copyOf(unquoted, unquoted.length * 2);
+                }
+                unquoted[unquotedLength++] = b;
+            }
+        }
+        if (index < length && line[index] != ',') {
+            throw new MalformedLineException("Unexpected character after a quoted value");
+        }
+        if (field >= 0) {
+            values[field] = new String(unquoted, 0, unquotedLength, StandardCharsets.UTF_8);
+        }
+        return index;
+    }
+}
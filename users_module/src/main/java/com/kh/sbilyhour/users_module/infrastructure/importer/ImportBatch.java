@@ -0,0 +1,82 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+
+import java.util.Arrays;
+
+/**
+ * Parsed and validated lines handed from the parser to a writer, committed
+ * together. The original lines are appended to one shared array, so that a
+ * line the writer rejects can still be written to the rejected file as read.
+ */
+final class ImportBatch {
+
+    private final long[] lineNumbers;
+    private final RegisterUserRequest[] requests;
+    private final String[] normalizedFullNames;
+    private final int[] lineEnds;
+    private byte[] lines;
+    private int size;
+
+    ImportBatch(int capacity) {
+        this.lineNumbers = new long[capacity];
+        this.requests = new RegisterUserRequest[capacity];
+        this.normalizedFullNames = new String[capacity];
+        this.lineEnds = new int[capacity];
+        this.lines = new byte[capacity * 64];
+    }
+
+    void add(long lineNumber, RegisterUserRequest request, String normalizedFullName, byte[] line, int length) {
+        int start = lineStart(size);
+        if (start + length > lines.length) {
+            lines = Arrays.copyOf(lines, Math.max(start + length, lines.length * 2));
+        }
+        System.arraycopy(line, 0, lines, start, length);
+
+        lineNumbers[size] = lineNumber;
+        requests[size] = request;
+        normalizedFullNames[size] = normalizedFullName;
+        lineEnds[size] = start + length;
+        size++;
+    }
+
+    boolean isFull() {
+        return size == requests.length;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long lineNumber(int index) {
+        return lineNumbers[index];
+    }
+
+    RegisterUserRequest request(int index) {
+        return requests[index];
+    }
+
+    String normalizedFullName(int index) {
+        return normalizedFullNames[index];
+    }
+
+    /**
+     * Writes the line at the given index to the rejected file.
+     *
+     * @param index    the index of the line in the batch
+     * @param reason   why the line was rejected
+     * @param rejected the rejected file
+     */
+    void reject(int index, String reason, RejectedLines rejected) {
+        int start = lineStart(index);
+        rejected.reject(lineNumbers[index], reason, lines, start, lineEnds[index] - start);
+    }
+
+    private int lineStart(int index) {
+        return index == 0 ? 0 : lineEnds[index - 1];
+    }
+}
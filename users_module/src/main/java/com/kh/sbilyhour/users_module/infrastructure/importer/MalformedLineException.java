@@ -0,0 +1,13 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+/**
+ * Thrown when a line of an import file cannot be parsed. The line is
+ * rejected, the import goes on; the message is the reason written to the
+ * rejected file, so no stack trace is captured.
+ */
+final class MalformedLineException extends Exception {
+
+    MalformedLineException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,158 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the lines of a file through memory-mapped windows.
+ * <p>
+ * The file is mapped {@link #WINDOW_SIZE} bytes at a time; line breaks are
+ * found eight bytes per step and each line is copied into one reused array,
+ * so reading allocates nothing per line. Lines end with {@code \n} or
+ * {@code \r\n}; a leading UTF-8 byte order mark is skipped.
+ * </p>
+ */
+final class MappedLineReader {
+
+    /**
+     * Bytes mapped at a time. A line must fit in one window.
+     */
+    static final int WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /**
+     * Receives the lines of the file.
+     */
+    interface LineHandler {
+
+        /**
+         * Handles one line. The array is reused for the next line.
+         *
+         * @param line       the bytes of the line, without the line break
+         * @param length     the number of bytes of the line
+         * @param lineNumber the 1-based number of the line
+         * @return false to stop reading
+         */
+        boolean line(byte[] line, int length, long lineNumber) throws InterruptedException;
+    }
+
+    private final Path file;
+    private final long size;
+
+    /**
+     * Offset of the next line to read; read by other threads to report progress.
+     */
+    private volatile long position;
+
+    MappedLineReader(Path file) throws IOException {
+        this.file = file;
+        this.size = Files.size(file);
+    }
+
+    /**
+     * Returns the size of the file.
+     *
+     * @return the size in bytes
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Returns how far the file has been read.
+     *
+     * @return the offset of the next line to read
+     */
+    long position() {
+        return position;
+    }
+
+    /**
+     * Hands every line of the file to the handler, in order.
+     *
+     * @param handler the line handler
+     * @throws IOException if the file cannot be read, or holds a line longer than a window
+     */
+    void read(LineHandler handler) throws IOException, InterruptedException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            byte[] line = new byte[256];
+            long lineNumber = 0;
+            long offset = 0;
+            while (offset < size) {
+                int length = (int) Math.min(WINDOW_SIZE, size - offset);
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                window.order(ByteOrder.LITTLE_ENDIAN);
+                boolean lastWindow = offset + length == size;
+
+                int start = offset == 0 ? byteOrderMarkLength(window, length) : 0;
+                while (start < length) {
+                    int end = indexOfNewline(window, start, length);
+                    if (end < 0) {
+                        if (!lastWindow) {
+                            break;
+                        }
+                        end = length;
+                    }
+
+                    int lineLength = end - start;
+                    if (lineLength > 0 && window.get(end - 1) == '\r') {
+                        lineLength--;
+                    }
+                    if (lineLength > line.length) {
+                        line = new byte[Math.max(lineLength, line.length * 2)];
+                    }
+                    window.get(start, line, 0, lineLength);
+                    start = end + 1;
+                    position = offset + Math.min(start, length);
+                    if (!handler.line(line, lineLength, ++lineNumber)) {
+                        return;
+                    }
+                }
+
+                if (start == 0) {
+                    throw new IOException("Line " + (lineNumber + 1) + " of " + file
+                            + " is longer than " + WINDOW_SIZE + " bytes");
+                }
+                // Map the next window from the start of the incomplete line
+                offset += Math.min(start, length);
+            }
+        }
+    }
+
+    private static int byteOrderMarkLength(MappedByteBuffer window, int length) {
+        if (length >= 3 && window.get(0) == (byte) 0xEF && window.get(1) == (byte) 0xBB && window.get(2) == (byte) 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * Finds the next {@code \n}, testing eight bytes per step: the high bit
+     * of a byte of {@code (x - 0x01..) & ~x & 0x80..} is set where {@code x}
+     * is zero, and the lowest such byte is always exact.
+     */
+    private static int indexOfNewline(MappedByteBuffer window, int from, int to) {
+        int index = from;
+        for (; index <= to - Long.BYTES; index += Long.BYTES) {
+            long word = window.getLong(index) ^ NEWLINES;
+            long found = (word - LOW_BITS) & ~word & HIGH_BITS;
+            if (found != 0) {
+                return index + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; index < to; index++) {
+            if (window.get(index) == '\n') {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,41 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Parser of NDJSON lines: each line is a JSON object with the properties of
+ * {@link RegisterUserRequest}; other properties are ignored. The request is
+ * read straight from the line bytes, without a String of the line.
+ */
+final class NdjsonUserParser implements UserLineParser {
+
+    private final ObjectReader reader;
+
+    NdjsonUserParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(RegisterUserRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public RegisterUserRequest parse(byte[] line, int length) throws MalformedLineException {
+        RegisterUserRequest request;
+        try {
+            request = reader.readValue(line, 0, length);
+        } catch (JsonProcessingException exception) {
+            throw new MalformedLineException("Malformed JSON: " + exception.getOriginalMessage());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        if (request == null) {
+            throw new MalformedLineException("Malformed JSON: expected an object");
+        }
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Side file of the lines an import rejected, one per line:
+ * {@code <line number> TAB <reason> TAB <original line>}.
+ * <p>
+ * The file is only created once a line is rejected; a file left by an
+ * earlier run is deleted when the import starts. Shared by the parser and the
+ * writers, so every line is written under the monitor of this object.
+ * </p>
+ */
+final class RejectedLines implements Closeable {
+
+    private final Path file;
+    private OutputStream output;
+    private long count;
+
+    RejectedLines(Path file) throws IOException {
+        this.file = file;
+        Files.deleteIfExists(file);
+    }
+
+    synchronized void reject(long lineNumber, String reason, byte[] line, int offset, int length) {
+        try {
+            if (output == null) {
+                output = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+            }
+            output.write(Long.toString(lineNumber).getBytes(StandardCharsets.US_ASCII));
+            output.write('\t');
+            // Reasons may quote database messages, which must not break the line
+            output.write(reason.replace('\t', ' ').replace('\r', ' ').replace('\n', ' ')
+                    .getBytes(StandardCharsets.UTF_8));
+            output.write('\t');
+            output.write(line, offset, length);
+            output.write('\n');
+            count++;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    synchronized long count() {
+        return count;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (output != null) {
+            output.close();
+        }
+    }
+}
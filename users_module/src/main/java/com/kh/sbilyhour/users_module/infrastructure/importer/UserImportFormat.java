@@ -0,0 +1,58 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formats of user import files.
+ */
+public enum UserImportFormat {
+
+    /**
+     * Comma-separated values, with a header row naming the {@code fullName},
+     * {@code phoneNumber} and {@code gender} columns.
+     */
+    CSV {
+        @Override
+        UserLineParser newParser(ObjectMapper objectMapper) {
+            return new CsvUserParser();
+        }
+    },
+
+    /**
+     * One JSON object per line, with the properties of a {@code createUser} request.
+     */
+    NDJSON {
+        @Override
+        UserLineParser newParser(ObjectMapper objectMapper) {
+            return new NdjsonUserParser(objectMapper);
+        }
+    };
+
+    /**
+     * Returns the format named by {@code format} or, when it is blank, the
+     * one of the file extension: {@code .csv}, {@code .ndjson} or {@code .jsonl}.
+     *
+     * @param format the configured format, may be blank
+     * @param file   the import file
+     * @return the format
+     * @throws IllegalArgumentException if the format is unknown
+     */
+    public static UserImportFormat resolve(String format, Path file) {
+        if (format != null && !format.isBlank()) {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        }
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".csv")) {
+            return CSV;
+        }
+        if (fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Cannot tell the format of " + file + ", set users.import.format");
+    }
+
+    abstract UserLineParser newParser(ObjectMapper objectMapper);
+}
@@ -0,0 +1,24 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+import java.time.Duration;
+
+/**
+ * Outcome of an import.
+ *
+ * @param lines    the lines read, header and blank lines included
+ * @param imported the users registered
+ * @param rejected the lines written to the rejected file
+ * @param elapsed  the time the import took
+ */
+public record UserImportResult(long lines, long imported, long rejected, Duration elapsed) {
+
+    /**
+     * Returns the average throughput of the import.
+     *
+     * @return lines read per second
+     */
+    public long linesPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return lines * 1000 / millis;
+    }
+}
@@ -0,0 +1,383 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kh.sbilyhour.common_module.infrastructure.validation.PrecompiledValidator;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import com.kh.sbilyhour.users_module.domain.exception.UserAlreadyExistsException;
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import com.kh.sbilyhour.users_module.infrastructure.service.RegisterUserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Offline bulk import of users from a CSV or NDJSON file.
+ * <p>
+ * The calling thread reads the file through a {@link MappedLineReader},
+ * parses each line, validates it with the rules of {@code createUser} and
+ * normalizes the name. Valid lines are grouped in batches of
+ * {@code users.import.commit-size} and put on a queue holding at most
+ * {@code users.import.queue-capacity} batches, so parsing runs ahead of the
+ * database by a bounded amount. {@code users.import.writers} writer threads
+ * take the batches, drop the names already registered with one query per
+ * thousand names, and insert the rest with
+ * {@link RegisterUserService#importUsers}: one transaction, and one commit,
+ * per batch.
+ * </p>
+ * <p>
+ * Rejected lines (unparseable, invalid or duplicate) go to a
+ * {@link RejectedLines} side file and the import goes on. Progress and
+ * throughput are logged every {@code users.import.progress-interval}. An
+ * unexpected error, e.g. the database going away, aborts the import; batches
+ * committed until then stay, and since names are unique the file can simply
+ * be imported again.
+ * </p>
+ */
+@Component
+@Profile("import")
+public class UserImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImporter.class);
+
+    private static final String DUPLICATE_IN_FILE = "User with the same name appears earlier in the file.";
+    private static final String PHONE_NUMBER_REQUIRED = "Phone number is required";
+
+    /**
+     * Names per existence query; some databases cap the size of IN lists.
+     */
+    private static final int NAMES_PER_QUERY = 1000;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    /**
+     * Tells a writer that the file has been read.
+     */
+    private static final ImportBatch END = new ImportBatch(0);
+
+    private final RegisterUserService registerUserService;
+    private final PrecompiledValidator validator;
+    private final ObjectMapper objectMapper;
+    private final int commitSize;
+    private final int writers;
+    private final int queueCapacity;
+    private final Duration progressInterval;
+
+    private final Counter importedLines;
+    private final Counter rejectedLines;
+    private final Timer batchTimer;
+
+    @Autowired
+    public UserImporter(RegisterUserService registerUserService, jakarta.validation.Validator validator,
+                        ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                        @Value("${users.import.commit-size:10000}") int commitSize,
+                        @Value("${users.import.writers:2}") int writers,
+                        @Value("${users.import.queue-capacity:4}") int queueCapacity,
+                        @Value("${users.import.progress-interval:PT10S}") Duration progressInterval) {
+        this.registerUserService = registerUserService;
+        this.validator = new PrecompiledValidator(validator);
+        this.objectMapper = objectMapper;
+        this.commitSize = commitSize;
+        this.writers = writers;
+        this.queueCapacity = queueCapacity;
+        this.progressInterval = progressInterval;
+
+        this.importedLines = Counter.builder("core.users.import.lines")
+                .tag("outcome", "imported")
+                .description("Lines of the import file registered as users")
+                .register(meterRegistry);
+        this.rejectedLines = Counter.builder("core.users.import.lines")
+                .tag("outcome", "rejected")
+                .description("Lines of the import file written to the rejected file")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("core.users.import.batch")
+                .description("Time to check and commit one batch of imported users")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Imports all users of the given file.
+     *
+     * @param file         the file to import
+     * @param format       the format of the file
+     * @param rejectedFile where to write the rejected lines
+     * @return the outcome of the import
+     * @throws IOException           if the file cannot be read, or the rejected file written
+     * @throws IllegalStateException if the import was aborted by an unexpected error
+     */
+    public UserImportResult importFile(Path file, UserImportFormat format, Path rejectedFile)
+            throws IOException, InterruptedException {
+        MappedLineReader reader = new MappedLineReader(file);
+        logger.info("Importing users from {} ({}, {} bytes): {} per commit, {} writers",
+                file, format, reader.size(), commitSize, writers);
+        try (RejectedLines rejected = new RejectedLines(rejectedFile)) {
+            return new Import(reader, format.newParser(objectMapper), rejected).run();
+        }
+    }
+
+    /**
+     * State of one import, shared by the parser and the writers.
+     */
+    private final class Import {
+
+        private final MappedLineReader reader;
+        private final UserLineParser parser;
+        private final RejectedLines rejected;
+        private final BlockingQueue<ImportBatch> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong nextReportNanos = new AtomicLong(startNanos + progressInterval.toNanos());
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        /**
+         * Set when the writers must stop without waiting for the end of the file.
+         */
+        private volatile boolean stopped;
+
+        // Only used by the parser
+        private ImportBatch batch = new ImportBatch(commitSize);
+        private final Set<String> batchNames = new HashSet<>();
+        private long lines;
+
+        Import(MappedLineReader reader, UserLineParser parser, RejectedLines rejected) {
+            this.reader = reader;
+            this.parser = parser;
+            this.rejected = rejected;
+        }
+
+        UserImportResult run() throws IOException, InterruptedException {
+            List<Thread> threads = new ArrayList<>(writers);
+            for (int i = 0; i < writers; i++) {
+                threads.add(Thread.ofPlatform()
+                        .name("user-import-writer-" + i)
+                        .start(this::write));
+            }
+
+            boolean completed = false;
+            try {
+                reader.read(this::parse);
+                completed = failure.get() == null && (batch.isEmpty() || enqueue(batch));
+                for (int i = 0; completed && i < writers; i++) {
+                    completed = enqueue(END);
+                }
+            } finally {
+                if (!completed) {
+                    stopped = true;
+                }
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+            }
+
+            Throwable cause = failure.get();
+            if (cause != null) {
+                throw new IllegalStateException("Import aborted after " + imported.get() + " users", cause);
+            }
+            return new UserImportResult(lines, imported.get(), rejected.count(),
+                    Duration.ofNanos(System.nanoTime() - startNanos));
+        }
+
+        private boolean parse(byte[] line, int length, long lineNumber) throws InterruptedException {
+            lines = lineNumber;
+            if (length == 0) {
+                return true;
+            }
+
+            RegisterUserRequest request;
+            try {
+                request = parser.parse(line, length);
+            } catch (MalformedLineException exception) {
+                reject(lineNumber, exception.getMessage(), line, length);
+                return true;
+            }
+            if (request == null) {
+                return true;
+            }
+
+            String violations = validate(request);
+            if (violations != null) {
+                reject(lineNumber, violations, line, length);
+                return true;
+            }
+            // Duplicates within a batch are caught here, across batches by the existence query
+            String normalizedFullName = FullNameNormalizer.normalize(request.getFullName());
+            if (!batchNames.add(normalizedFullName)) {
+                reject(lineNumber, DUPLICATE_IN_FILE, line, length);
+                return true;
+            }
+
+            batch.add(lineNumber, request, normalizedFullName, line, length);
+            if (!batch.isFull()) {
+                return true;
+            }
+            ImportBatch full = batch;
+            batch = new ImportBatch(commitSize);
+            batchNames.clear();
+            return enqueue(full);
+        }
+
+        /**
+         * Returns the validation messages of the request, or null if it is valid.
+         */
+        private String validate(RegisterUserRequest request) {
+            Errors errors = validator.validateObject(request);
+            if (errors.hasErrors()) {
+                StringJoiner messages = new StringJoiner("; ");
+                for (FieldError error : errors.getFieldErrors()) {
+                    messages.add(error.getDefaultMessage());
+                }
+                return messages.toString();
+            }
+            // The column is NOT NULL, which the request itself does not check
+            if (request.getPhoneNumber() == null) {
+                return PHONE_NUMBER_REQUIRED;
+            }
+            return null;
+        }
+
+        /**
+         * Puts a batch on the queue, waiting while it is full.
+         *
+         * @return false if a writer failed in the meantime
+         */
+        private boolean enqueue(ImportBatch next) throws InterruptedException {
+            while (!queue.offer(next, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Writer loop: runs until it takes {@link #END}, the import is
+         * stopped or a batch fails.
+         */
+        private void write() {
+            try {
+                while (true) {
+                    ImportBatch next = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (next == END || stopped) {
+                        return;
+                    }
+                    if (next != null) {
+                        write(next);
+                        reportProgress();
+                    }
+                }
+            } catch (InterruptedException exception) {
+                failure.compareAndSet(null, exception);
+            } catch (RuntimeException exception) {
+                failure.compareAndSet(null, exception);
+                stopped = true;
+            }
+        }
+
+        private void write(ImportBatch next) {
+            Timer.Sample sample = Timer.start();
+            try {
+                Set<String> existingNames = findExistingNames(next);
+                List<Integer> accepted = new ArrayList<>(next.size());
+                List<RegisterUserRequest> requests = new ArrayList<>(next.size());
+                for (int i = 0; i < next.size(); i++) {
+                    if (existingNames.contains(next.normalizedFullName(i))) {
+                        reject(next, i, UserAlreadyExistsException.INSTANCE.getMessage());
+                    } else {
+                        accepted.add(i);
+                        requests.add(next.request(i));
+                    }
+                }
+                if (requests.isEmpty()) {
+                    return;
+                }
+
+                try {
+                    registerUserService.importUsers(requests);
+                    imported.addAndGet(requests.size());
+                    importedLines.increment(requests.size());
+                } catch (DataIntegrityViolationException | ConcurrencyFailureException exception) {
+                    // Another writer took one of the names after the check: report the lines one by one
+                    for (Integer index : accepted) {
+                        writeOne(next, index);
+                    }
+                }
+            } finally {
+                sample.stop(batchTimer);
+            }
+        }
+
+        private void writeOne(ImportBatch next, int index) {
+            try {
+                registerUserService.registerUser(next.request(index));
+                imported.incrementAndGet();
+                importedLines.increment();
+            } catch (UserAlreadyExistsException exception) {
+                reject(next, index, exception.getMessage());
+            } catch (DataIntegrityViolationException exception) {
+                reject(next, index, "Rejected by the database: " + exception.getMostSpecificCause().getMessage());
+            }
+        }
+
+        private Set<String> findExistingNames(ImportBatch next) {
+            Set<String> existingNames = new HashSet<>();
+            for (int from = 0; from < next.size(); from += NAMES_PER_QUERY) {
+                int to = Math.min(next.size(), from + NAMES_PER_QUERY);
+                List<String> names = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    names.add(next.normalizedFullName(i));
+                }
+                existingNames.addAll(registerUserService.findExistingNormalizedFullNames(names));
+            }
+            return existingNames;
+        }
+
+        private void reject(long lineNumber, String reason, byte[] line, int length) {
+            rejected.reject(lineNumber, reason, line, 0, length);
+            rejectedLines.increment();
+        }
+
+        private void reject(ImportBatch next, int index, String reason) {
+            next.reject(index, reason, rejected);
+            rejectedLines.increment();
+        }
+
+        /**
+         * Logs the progress at most once per interval, from whichever writer
+         * finishes a batch first.
+         */
+        private void reportProgress() {
+            long now = System.nanoTime();
+            long next = nextReportNanos.get();
+            if (now < next || !nextReportNanos.compareAndSet(next, now + progressInterval.toNanos())) {
+                return;
+            }
+            long users = imported.get();
+            double seconds = Math.max(1, now - startNanos) / 1e9;
+            logger.info("Imported {} users, rejected {} lines, {}% of the file read, {} users/s",
+                    users, rejected.count(), reader.size() == 0 ? 100 : reader.position() * 100 / reader.size(),
+                    Math.round(users / seconds));
+        }
+    }
+}
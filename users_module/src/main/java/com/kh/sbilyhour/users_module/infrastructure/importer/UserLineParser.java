@@ -0,0 +1,21 @@
+package com.kh.sbilyhour.users_module.infrastructure.importer;
+
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+
+/**
+ * Turns one line of an import file into a registration request.
+ * A parser keeps state across lines, e.g. the CSV header, and is used by a
+ * single thread.
+ */
+interface UserLineParser {
+
+    /**
+     * Parses one line.
+     *
+     * @param line   the bytes of the line, UTF-8, without the line break
+     * @param length the number of bytes of the line
+     * @return the request, or null if the line holds no user, such as a header
+     * @throws MalformedLineException if the line cannot be parsed
+     */
+    RegisterUserRequest parse(byte[] line, int length) throws MalformedLineException;
+}
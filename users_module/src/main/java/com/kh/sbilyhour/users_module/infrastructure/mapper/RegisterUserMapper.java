@@ -4,6 +4,7 @@ import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserR
 import com.kh.sbilyhour.users_module.application.dto.UserDTO;
 import com.kh.sbilyhour.users_module.domain.entities.User;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 /**
  * Mapper interface for converting between User entity and User DTOs.
@@ -24,10 +25,15 @@ public interface RegisterUserMapper {
     UserDTO toDTO(User user);
 
     /**
-     * Converts a RegisterUserRequest to a User entity.
+     * Converts a RegisterUserRequest to a User entity. The id is assigned on
+     * insert, the creation date by the caller and the normalized full name by
+     * the entity itself.
      *
      * @param request the RegisterUserRequest containing user information
      * @return the corresponding User entity
      */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "normalizedFullName", ignore = true)
+    @Mapping(target = "createDate", ignore = true)
     User toEntity(RegisterUserRequest request);
 }
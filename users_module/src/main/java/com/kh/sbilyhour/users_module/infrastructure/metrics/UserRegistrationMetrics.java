@@ -0,0 +1,85 @@
+package com.kh.sbilyhour.users_module.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Counters of the user registration flow.
+ * <p>
+ * Duplicate-name rejections are counted as
+ * {@code core.users.duplicate.name.rejections}, tagged with where the
+ * duplicate was detected (see {@link DuplicateNameSource}). Requests that
+ * joined a concurrent registration of the same name instead of registering
+ * themselves are counted as {@code core.users.registration.coalesced}.
+ * </p>
+ */
+@Component
+public class UserRegistrationMetrics {
+
+    static final String DUPLICATE_NAME_REJECTIONS = "core.users.duplicate.name.rejections";
+    static final String COALESCED_REGISTRATIONS = "core.users.registration.coalesced";
+
+    /**
+     * Where a duplicate name was detected.
+     */
+    public enum DuplicateNameSource {
+
+        /**
+         * The name was found registered before inserting.
+         */
+        EXISTING,
+
+        /**
+         * A concurrent registration took the name; the unique index rejected the insert.
+         */
+        CONSTRAINT,
+
+        /**
+         * The name appears more than once in the same bulk request.
+         */
+        REQUEST,
+
+        /**
+         * The name is already queued for asynchronous registration.
+         */
+        PENDING
+    }
+
+    private final Map<DuplicateNameSource, Counter> duplicateNameRejections = new EnumMap<>(DuplicateNameSource.class);
+    private final Counter coalescedRegistrations;
+
+    @Autowired
+    public UserRegistrationMetrics(MeterRegistry meterRegistry) {
+        for (DuplicateNameSource source : DuplicateNameSource.values()) {
+            duplicateNameRejections.put(source, Counter.builder(DUPLICATE_NAME_REJECTIONS)
+                    .description("Registrations rejected because the full name is already taken")
+                    .tag("source", source.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.coalescedRegistrations = Counter.builder(COALESCED_REGISTRATIONS)
+                .description("Registrations that received the outcome of a concurrent registration of the same name")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a registration rejected because of a duplicate name.
+     *
+     * @param source where the duplicate was detected
+     */
+    public void recordDuplicateName(DuplicateNameSource source) {
+        duplicateNameRejections.get(source).increment();
+    }
+
+    /**
+     * Records a registration that joined a concurrent registration of the same name.
+     */
+    public void recordCoalesced() {
+        coalescedRegistrations.increment();
+    }
+}
@@ -0,0 +1,54 @@
+package com.kh.sbilyhour.users_module.infrastructure.persistence.repository;
+
+import com.kh.sbilyhour.users_module.domain.repository.UserExportRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * JDBC implementation of {@link UserExportRepository}.
+ * <p>
+ * The query runs on a forward-only, read-only result set fetching
+ * {@code users.export.fetch-size} rows per round trip, and goes through the
+ * JDBC connection of the current transaction.
+ * </p>
+ */
+@Repository
+public class UserExportJdbcRepository implements UserExportRepository {
+
+    private static final String SELECT_USERS_AFTER =
+            "select id, full_name, phone_number, gender from users where id > ? order by id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public UserExportJdbcRepository(DataSource dataSource,
+                                    @Value("${users.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Override
+    public long forEachUserAfter(long afterId, RowHandler handler) throws IOException {
+        long[] read = {0};
+        try {
+            jdbcTemplate.query(SELECT_USERS_AFTER, resultSet -> {
+                try {
+                    handler.row(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3),
+                            resultSet.getString(4));
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+                read[0]++;
+            }, afterId);
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        return read[0];
+    }
+}
@@ -1,10 +1,23 @@
 package com.kh.sbilyhour.users_module.infrastructure.persistence.repository;
 
 import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.projection.UserNormalizedFullName;
+import com.kh.sbilyhour.users_module.domain.projection.UserPhoneNumber;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
 import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for accessing User entities in the database.
  * <P>
@@ -13,4 +26,41 @@ import org.springframework.stereotype.Repository;
  * </P>
  */
 @Repository
-public interface UserJpaRepository extends JpaRepository<User, Long>, UserRepository { }
\ No newline at end of file
+public interface UserJpaRepository extends JpaRepository<User, Long>, UserRepository {
+
+    @Override
+    @Query("select u.normalizedFullName from User u where u.normalizedFullName in :normalizedFullNames")
+    List<String> findExistingNormalizedFullNames(@Param("normalizedFullNames") Collection<String> normalizedFullNames);
+
+    @Override
+    @Query("select u.normalizedFullName from User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllNormalizedFullNames();
+
+    @Override
+    @Query("select new com.kh.sbilyhour.users_module.domain.projection.UserNormalizedFullName(u.id, u.normalizedFullName)"
+            + " from User u order by u.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserNormalizedFullName> streamAllNormalizedFullNamesInIdOrder();
+
+    @Override
+    @Query("select new com.kh.sbilyhour.users_module.domain.projection.UserPhoneNumber(u.id, u.phoneNumber) from User u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserPhoneNumber> streamAllPhoneNumbers();
+
+    @Override
+    @Query("select new com.kh.sbilyhour.users_module.domain.projection.UserSummary(u.id, u.fullName, u.phoneNumber, u.gender)"
+            + " from User u where u.id > :afterId order by u.id")
+    List<UserSummary> findSummariesByIdGreaterThan(@Param("afterId") long afterId, Limit limit);
+
+    @Override
+    @Query("select new com.kh.sbilyhour.users_module.domain.projection.UserSummary(u.id, u.fullName, u.phoneNumber, u.gender)"
+            + " from User u where u.id in :ids")
+    List<UserSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Override
+    @Query("select new com.kh.sbilyhour.users_module.domain.projection.UserSummary(u.id, u.fullName, u.phoneNumber, u.gender)"
+            + " from User u where u.id > :afterId order by u.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<UserSummary> streamSummariesByIdGreaterThan(@Param("afterId") long afterId);
+}
@@ -0,0 +1,134 @@
+package com.kh.sbilyhour.users_module.infrastructure.persistence.repository;
+
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.domain.repository.ReactiveUserRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * R2DBC implementation of {@link ReactiveUserRepository} on the {@code users}
+ * table maintained by JPA.
+ * <p>
+ * New ids are taken from {@code users_seq}, the sequence JPA allocates from.
+ * Every {@code next value} reserves a whole allocation block for the caller,
+ * so the id used here can never be handed out by JPA as well.
+ * Constraint violations are reported as Spring's
+ * {@code DataIntegrityViolationException}, as with JPA.
+ * </p>
+ */
+@Repository
+public class UserR2dbcRepository implements ReactiveUserRepository {
+
+    private static final String SELECT_USER =
+            "select id, full_name, normalized_full_name, phone_number, gender, create_date from users";
+    private static final String SELECT_SUMMARY = "select id, full_name, phone_number, gender from users";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public UserR2dbcRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<User> findById(Long id) {
+        return databaseClient.sql(SELECT_USER + " where id = :id")
+                .bind("id", id)
+                .map(UserR2dbcRepository::toUser)
+                .one();
+    }
+
+    @Override
+    public Mono<User> findByFullName(String fullName) {
+        return databaseClient.sql(SELECT_USER + " where full_name = :fullName")
+                .bind("fullName", fullName)
+                .map(UserR2dbcRepository::toUser)
+                .first();
+    }
+
+    @Override
+    public Mono<User> findFirstByPhoneNumber(String phoneNumber) {
+        return databaseClient.sql(SELECT_USER + " where phone_number = :phoneNumber order by id limit 1")
+                .bind("phoneNumber", phoneNumber)
+                .map(UserR2dbcRepository::toUser)
+                .first();
+    }
+
+    @Override
+    public Mono<Boolean> existsByNormalizedFullName(String normalizedFullName) {
+        return databaseClient.sql("select 1 from users where normalized_full_name = :normalizedFullName")
+                .bind("normalizedFullName", normalizedFullName)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByIdGreaterThan(long afterId, int limit) {
+        return databaseClient.sql(SELECT_SUMMARY + " where id > :afterId order by id limit :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(UserR2dbcRepository::toSummary)
+                .all();
+    }
+
+    @Override
+    public Flux<UserSummary> findSummariesByIdIn(Collection<Long> ids) {
+        return databaseClient.sql(SELECT_SUMMARY + " where id in (:ids)")
+                .bind("ids", ids)
+                .map(UserR2dbcRepository::toSummary)
+                .all();
+    }
+
+    @Override
+    public Flux<UserSummary> streamSummariesByIdGreaterThan(long afterId) {
+        return databaseClient.sql(SELECT_SUMMARY + " where id > :afterId order by id")
+                .bind("afterId", afterId)
+                .map(UserR2dbcRepository::toSummary)
+                .all();
+    }
+
+    @Override
+    public Mono<User> insert(User user) {
+        return databaseClient.sql("insert into users (id, full_name, normalized_full_name, phone_number, gender, create_date)"
+                        + " values (next value for users_seq, :fullName, :normalizedFullName, :phoneNumber, :gender, :createDate)")
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("fullName", user.getFullName())
+                .bind("normalizedFullName", user.getNormalizedFullName())
+                .bind("phoneNumber", user.getPhoneNumber())
+                .bind("gender", user.getGender())
+                .bind("createDate", user.getCreateDate())
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    user.setId(id);
+                    return user;
+                });
+    }
+
+    private static User toUser(Readable row) {
+        return User.builder()
+                .id(row.get("id", Long.class))
+                .fullName(row.get("full_name", String.class))
+                .normalizedFullName(row.get("normalized_full_name", String.class))
+                .phoneNumber(row.get("phone_number", String.class))
+                .gender(row.get("gender", String.class))
+                .createDate(row.get("create_date", String.class))
+                .build();
+    }
+
+    private static UserSummary toSummary(Readable row) {
+        return new UserSummary(
+                row.get("id", Long.class),
+                row.get("full_name", String.class),
+                row.get("phone_number", String.class),
+                row.get("gender", String.class));
+    }
+}
@@ -0,0 +1,50 @@
+package com.kh.sbilyhour.users_module.infrastructure.persistence.repository;
+
+import com.kh.sbilyhour.users_module.domain.entities.UserRegisteredOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository of the {@code UserRegistered} outbox.
+ * <P>
+ * Rows are inserted with the registrations they describe, read by the relay
+ * of {@code UserRegisteredEvents} and deleted in batches once handled.
+ * </P>
+ */
+@Repository
+public interface UserRegisteredOutboxJpaRepository extends JpaRepository<UserRegisteredOutbox, Long> {
+
+    /**
+     * Returns the oldest rows not published into the ring buffer yet.
+     *
+     * @param limit the maximum number of rows to return
+     * @return the rows, in id order
+     */
+    List<UserRegisteredOutbox> findByRelayedFalseOrderById(Limit limit);
+
+    /**
+     * Marks the given rows as published into the ring buffer.
+     *
+     * @param ids the ids of the rows
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("update UserRegisteredOutbox o set o.relayed = true where o.id in :ids")
+    int markRelayed(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Marks all rows as not published, so that they are published again.
+     *
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("update UserRegisteredOutbox o set o.relayed = false where o.relayed = true")
+    int resetRelayed();
+}
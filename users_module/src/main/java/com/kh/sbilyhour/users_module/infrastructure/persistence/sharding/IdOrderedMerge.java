@@ -0,0 +1,129 @@
+package com.kh.sbilyhour.users_module.infrastructure.persistence.sharding;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Merges rows read in id order from every shard into one id-ordered stream.
+ * <p>
+ * Only the current row of each shard is held, and the next row is the one
+ * with the lowest id among them. With a handful of shards a linear scan of
+ * the current rows is cheaper than a heap.
+ * </p>
+ */
+final class IdOrderedMerge {
+
+    private IdOrderedMerge() {
+    }
+
+    /**
+     * Merges id-ordered streams. Closing the result closes all of them.
+     *
+     * @param streams the streams, each in id order
+     * @param id      the id of a row
+     * @param <T>     the type of the rows
+     * @return a stream of all rows, in id order
+     */
+    static <T> Stream<T> merge(List<Stream<T>> streams, ToLongFunction<T> id) {
+        if (streams.size() == 1) {
+            return streams.get(0);
+        }
+        Iterator<T> merged = new MergingIterator<>(streams, id);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> closeAll(streams));
+    }
+
+    /**
+     * Closes all given streams, even if closing one of them fails.
+     *
+     * @param streams the streams to close
+     */
+    static void closeAll(List<? extends Stream<?>> streams) {
+        RuntimeException failure = null;
+        for (Stream<?> stream : streams) {
+            try {
+                stream.close();
+            } catch (RuntimeException exception) {
+                if (failure == null) {
+                    failure = exception;
+                } else {
+                    failure.addSuppressed(exception);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static final class MergingIterator<T> implements Iterator<T> {
+
+        private final List<Iterator<T>> sources;
+        private final ToLongFunction<T> id;
+        private final Object[] heads;
+        private boolean started;
+
+        MergingIterator(List<Stream<T>> streams, ToLongFunction<T> id) {
+            this.sources = streams.stream().map(Stream::iterator).toList();
+            this.id = id;
+            this.heads = new Object[streams.size()];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return lowest() >= 0;
+        }
+
+        @Override
+        public T next() {
+            int source = lowest();
+            if (source < 0) {
+                throw new NoSuchElementException();
+            }
+            T row = head(source);
+            heads[source] = advance(source);
+            return row;
+        }
+
+        /**
+         * Returns the source whose current row has the lowest id, or -1 once
+         * all sources are exhausted.
+         */
+        private int lowest() {
+            if (!started) {
+                for (int source = 0; source < heads.length; source++) {
+                    heads[source] = advance(source);
+                }
+                started = true;
+            }
+            int lowest = -1;
+            long lowestId = Long.MAX_VALUE;
+            for (int source = 0; source < heads.length; source++) {
+                if (heads[source] != null) {
+                    long rowId = id.applyAsLong(head(source));
+                    if (lowest < 0 || rowId < lowestId) {
+                        lowest = source;
+                        lowestId = rowId;
+                    }
+                }
+            }
+            return lowest;
+        }
+
+        private T advance(int source) {
+            Iterator<T> iterator = sources.get(source);
+            return iterator.hasNext() ? iterator.next() : null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T head(int source) {
+            return (T) heads[source];
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.kh.sbilyhour.users_module.infrastructure.persistence.sharding;
+
+import com.kh.sbilyhour.users_module.domain.repository.UserExportRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * {@link UserExportRepository} over the databases of {@link UserShards}, used
+ * with the {@code sharded} profile.
+ * <p>
+ * Every shard is read through its own forward-only cursor, in id order, and
+ * the cursors are merged row by row on their current ids: like the
+ * single-database export, no object is created per user.
+ * </p>
+ */
+@Repository
+@Primary
+@Profile("sharded")
+public class ShardedUserExportRepository implements UserExportRepository {
+
+    private static final String SELECT_USERS_AFTER =
+            "select id, full_name, phone_number, gender from users where id > ? order by id";
+
+    /**
+     * Current id of an exhausted cursor; higher than any id.
+     */
+    private static final long EXHAUSTED = Long.MAX_VALUE;
+
+    private final UserShards shards;
+    private final int fetchSize;
+
+    @Autowired
+    public ShardedUserExportRepository(UserShards shards, @Value("${users.export.fetch-size:1000}") int fetchSize) {
+        this.shards = shards;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long forEachUserAfter(long afterId, RowHandler handler) throws IOException {
+        List<UserShard> all = shards.all();
+        ResultSet[] cursors = new ResultSet[all.size()];
+        long[] currentIds = new long[all.size()];
+        Deque<AutoCloseable> resources = new ArrayDeque<>();
+        UserShard failedShard = all.get(0);
+        try {
+            for (UserShard shard : all) {
+                failedShard = shard;
+                cursors[shard.index()] = openCursor(shard, afterId, resources);
+                currentIds[shard.index()] = nextId(cursors[shard.index()]);
+            }
+
+            long read = 0;
+            while (true) {
+                int lowest = 0;
+                for (int shard = 1; shard < currentIds.length; shard++) {
+                    if (currentIds[shard] < currentIds[lowest]) {
+                        lowest = shard;
+                    }
+                }
+                if (currentIds[lowest] == EXHAUSTED) {
+                    return read;
+                }
+                failedShard = all.get(lowest);
+                ResultSet cursor = cursors[lowest];
+                handler.row(currentIds[lowest], cursor.getString(2), cursor.getString(3), cursor.getString(4));
+                read++;
+                currentIds[lowest] = nextId(cursor);
+            }
+        } catch (SQLException exception) {
+            throw failedShard.jdbcTemplate().getExceptionTranslator().translate("Export users", SELECT_USERS_AFTER, exception);
+        } finally {
+            closeAll(resources);
+        }
+    }
+
+    private ResultSet openCursor(UserShard shard, long afterId, Deque<AutoCloseable> resources) throws SQLException {
+        Connection connection = shard.dataSource().getConnection();
+        resources.push(connection);
+        // Some drivers only stream with auto-commit off; the pool rolls back and resets it on close
+        connection.setReadOnly(true);
+        connection.setAutoCommit(false);
+        PreparedStatement statement = connection.prepareStatement(SELECT_USERS_AFTER,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        resources.push(statement);
+        statement.setFetchSize(fetchSize);
+        statement.setLong(1, afterId);
+        ResultSet cursor = statement.executeQuery();
+        resources.push(cursor);
+        return cursor;
+    }
+
+    private static long nextId(ResultSet cursor) throws SQLException {
+        return cursor.next() ? cursor.getLong(1) : EXHAUSTED;
+    }
+
+    private static void closeAll(Deque<AutoCloseable> resources) {
+        while (!resources.isEmpty()) {
+            try {
+                resources.pop().close();
+            } catch (Exception ignored) {
+                // Nothing left to do with a cursor or connection that fails to close
+            }
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.kh.sbilyhour.users_module.infrastructure.persistence.sharding;
+
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.projection.UserNormalizedFullName;
+import com.kh.sbilyhour.users_module.domain.projection.UserPhoneNumber;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * {@link UserRepository} spreading the users table over the databases of
+ * {@link UserShards}, used instead of {@code UserJpaRepository} with the
+ * {@code sharded} profile.
+ * <p>
+ * A user lives on the shard its normalized full name hashes to, so lookups
+ * and duplicate checks by name go to exactly one shard, and lookups by id
+ * to the shard tagged in the id. Phone number lookups and counts ask every
+ * shard; listings and id-ordered streams read every shard in id order and
+ * merge the rows ({@link IdOrderedMerge}), so keyset pagination works as
+ * with a single table. Rows are read and written with plain JDBC: users are
+ * never updated once registered, so there is nothing for a persistence
+ * context to track.
+ * </p>
+ * <p>
+ * Each shard has its own transactions, independent of the JPA transaction
+ * of the caller. {@link #saveAll} inserts into every shard involved before
+ * committing any of them, so a constraint violation rolls the whole batch
+ * back; only a failure between two shard commits can leave part of it.
+ * </p>
+ */
+@Repository
+@Primary
+@Profile("sharded")
+public class ShardedUserRepository implements UserRepository {
+
+    private static final String USER_COLUMNS =
+            "select id, full_name, normalized_full_name, phone_number, gender, create_date from users";
+    private static final String SUMMARY_COLUMNS = "select id, full_name, phone_number, gender from users";
+
+    private static final String SELECT_BY_ID = USER_COLUMNS + " where id = ?";
+    private static final String SELECT_BY_FULL_NAME = USER_COLUMNS + " where full_name = ?";
+    private static final String SELECT_FIRST_BY_PHONE_NUMBER =
+            USER_COLUMNS + " where phone_number = ? order by id fetch first 1 rows only";
+    private static final String EXISTS_BY_NORMALIZED_FULL_NAME = "select 1 from users where normalized_full_name = ?";
+    private static final String SELECT_EXISTING_NORMALIZED_FULL_NAMES =
+            "select normalized_full_name from users where normalized_full_name in (:normalizedFullNames)";
+    private static final String SELECT_NORMALIZED_FULL_NAMES = "select normalized_full_name from users";
+    private static final String SELECT_NORMALIZED_FULL_NAMES_IN_ID_ORDER =
+            "select id, normalized_full_name from users order by id";
+    private static final String SELECT_PHONE_NUMBERS = "select id, phone_number from users";
+    private static final String SELECT_SUMMARIES_AFTER = SUMMARY_COLUMNS + " where id > ? order by id";
+    private static final String SELECT_SUMMARIES_PAGE_AFTER = SELECT_SUMMARIES_AFTER + " fetch first ? rows only";
+    private static final String SELECT_SUMMARIES_BY_IDS = SUMMARY_COLUMNS + " where id in (:ids)";
+    private static final String COUNT = "select count(*) from users";
+    private static final String INSERT = "insert into users"
+            + " (id, full_name, normalized_full_name, phone_number, gender, create_date) values (?, ?, ?, ?, ?, ?)";
+
+    private static final RowMapper<User> USER = (resultSet, row) -> User.builder()
+            .id(resultSet.getLong(1))
+            .fullName(resultSet.getString(2))
+            .normalizedFullName(resultSet.getString(3))
+            .phoneNumber(resultSet.getString(4))
+            .gender(resultSet.getString(5))
+            .createDate(resultSet.getString(6))
+            .build();
+    private static final RowMapper<UserSummary> SUMMARY = (resultSet, row) ->
+            new UserSummary(resultSet.getLong(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4));
+    private static final RowMapper<UserNormalizedFullName> NORMALIZED_FULL_NAME = (resultSet, row) ->
+            new UserNormalizedFullName(resultSet.getLong(1), resultSet.getString(2));
+    private static final RowMapper<UserPhoneNumber> PHONE_NUMBER = (resultSet, row) ->
+            new UserPhoneNumber(resultSet.getLong(1), resultSet.getString(2));
+
+    private final UserShards shards;
+
+    @Autowired
+    public ShardedUserRepository(UserShards shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        UserShard shard = shards.forId(id);
+        if (shard == null) {
+            return Optional.empty();
+        }
+        return shard.jdbcTemplate().query(SELECT_BY_ID, USER, id).stream().findFirst();
+    }
+
+    @Override
+    public Optional<User> findByFullName(String fullName) {
+        UserShard shard = shards.forName(FullNameNormalizer.normalize(fullName));
+        return shard.jdbcTemplate().query(SELECT_BY_FULL_NAME, USER, fullName).stream().findFirst();
+    }
+
+    @Override
+    public boolean existsByNormalizedFullName(String normalizedFullName) {
+        UserShard shard = shards.forName(normalizedFullName);
+        return !shard.jdbcTemplate().queryForList(EXISTS_BY_NORMALIZED_FULL_NAME, Integer.class, normalizedFullName)
+                .isEmpty();
+    }
+
+    @Override
+    public List<String> findExistingNormalizedFullNames(Collection<String> normalizedFullNames) {
+        Map<UserShard, List<String>> namesByShard = new LinkedHashMap<>();
+        for (String normalizedFullName : normalizedFullNames) {
+            namesByShard.computeIfAbsent(shards.forName(normalizedFullName), shard -> new ArrayList<>())
+                    .add(normalizedFullName);
+        }
+
+        List<String> existing = new ArrayList<>();
+        namesByShard.forEach((shard, names) -> existing.addAll(shard.namedParameterJdbcTemplate()
+                .queryForList(SELECT_EXISTING_NORMALIZED_FULL_NAMES, Map.of("normalizedFullNames", names), String.class)));
+        return existing;
+    }
+
+    @Override
+    public Stream<String> streamAllNormalizedFullNames() {
+        // One shard after the other, each stream closed once read
+        return shards.all().stream()
+                .flatMap(shard -> shard.jdbcTemplate().queryForStream(SELECT_NORMALIZED_FULL_NAMES,
+                        (resultSet, row) -> resultSet.getString(1)));
+    }
+
+    @Override
+    public Stream<UserNormalizedFullName> streamAllNormalizedFullNamesInIdOrder() {
+        return IdOrderedMerge.merge(openOnAllShards(shard ->
+                shard.jdbcTemplate().queryForStream(SELECT_NORMALIZED_FULL_NAMES_IN_ID_ORDER, NORMALIZED_FULL_NAME)),
+                UserNormalizedFullName::id);
+    }
+
+    @Override
+    public Optional<User> findFirstByPhoneNumberOrderByIdAsc(String phoneNumber) {
+        return shards.all().stream()
+                .flatMap(shard -> shard.jdbcTemplate().query(SELECT_FIRST_BY_PHONE_NUMBER, USER, phoneNumber).stream())
+                .min(Comparator.comparing(User::getId));
+    }
+
+    @Override
+    public Stream<UserPhoneNumber> streamAllPhoneNumbers() {
+        return shards.all().stream()
+                .flatMap(shard -> shard.jdbcTemplate().queryForStream(SELECT_PHONE_NUMBERS, PHONE_NUMBER));
+    }
+
+    @Override
+    public List<UserSummary> findSummariesByIdGreaterThan(long afterId, Limit limit) {
+        if (limit.isUnlimited()) {
+            try (Stream<UserSummary> users = streamSummariesByIdGreaterThan(afterId)) {
+                return users.toList();
+            }
+        }
+        // Each shard returns at most a page, of which the merge keeps the lowest ids
+        List<Stream<UserSummary>> pages = new ArrayList<>(shards.all().size());
+        for (UserShard shard : shards.all()) {
+            pages.add(shard.jdbcTemplate().query(SELECT_SUMMARIES_PAGE_AFTER, SUMMARY, afterId, limit.max()).stream());
+        }
+        return IdOrderedMerge.merge(pages, UserSummary::id)
+                .limit(limit.max())
+                .toList();
+    }
+
+    @Override
+    public List<UserSummary> findSummariesByIdIn(Collection<Long> ids) {
+        Map<UserShard, List<Long>> idsByShard = new LinkedHashMap<>();
+        for (Long id : ids) {
+            UserShard shard = shards.forId(id);
+            if (shard != null) {
+                idsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(id);
+            }
+        }
+
+        List<UserSummary> users = new ArrayList<>(ids.size());
+        idsByShard.forEach((shard, shardIds) -> users.addAll(shard.namedParameterJdbcTemplate()
+                .query(SELECT_SUMMARIES_BY_IDS, Map.of("ids", shardIds), SUMMARY)));
+        return users;
+    }
+
+    @Override
+    public Stream<UserSummary> streamSummariesByIdGreaterThan(long afterId) {
+        return IdOrderedMerge.merge(openOnAllShards(shard ->
+                shard.jdbcTemplate().queryForStream(SELECT_SUMMARIES_AFTER, SUMMARY, afterId)), UserSummary::id);
+    }
+
+    @Override
+    public long count() {
+        long count = 0;
+        for (UserShard shard : shards.all()) {
+            count += shard.jdbcTemplate().queryForObject(COUNT, Long.class);
+        }
+        return count;
+    }
+
+    /**
+     * Inserts a new user into its shard, assigning its id. Users are never
+     * updated once registered: a renamed user would have to move to another
+     * shard.
+     *
+     * @throws UnsupportedOperationException if the user already has an id
+     */
+    @Override
+    public <S extends User> S save(S user) {
+        UserShard shard = assignShard(user);
+        insert(shard, List.of(user));
+        return user;
+    }
+
+    /**
+     * Same as {@link #save}: the insert is executed immediately.
+     */
+    @Override
+    public <S extends User> S saveAndFlush(S user) {
+        return save(user);
+    }
+
+    /**
+     * Inserts new users, one JDBC batch per shard, and commits once every
+     * batch is in.
+     *
+     * @throws UnsupportedOperationException if a user already has an id
+     */
+    @Override
+    public <S extends User> List<S> saveAll(Iterable<S> users) {
+        Map<UserShard, List<S>> usersByShard = new LinkedHashMap<>();
+        List<S> saved = new ArrayList<>();
+        for (S user : users) {
+            usersByShard.computeIfAbsent(assignShard(user), shard -> new ArrayList<>()).add(user);
+            saved.add(user);
+        }
+        insertInShardTransactions(new ArrayList<>(usersByShard.entrySet()), 0);
+        return saved;
+    }
+
+    /**
+     * Inserts the users of the given shard and of all following ones, each
+     * shard in its own transaction, nested so that none commits before all
+     * inserts succeeded.
+     */
+    private <S extends User> void insertInShardTransactions(List<Map.Entry<UserShard, List<S>>> batches, int from) {
+        if (from == batches.size()) {
+            return;
+        }
+        Map.Entry<UserShard, List<S>> batch = batches.get(from);
+        batch.getKey().transactionTemplate().executeWithoutResult(status -> {
+            insert(batch.getKey(), batch.getValue());
+            insertInShardTransactions(batches, from + 1);
+        });
+    }
+
+    private UserShard assignShard(User user) {
+        if (user.getId() != null) {
+            throw new UnsupportedOperationException("Registered users are not updated");
+        }
+        // What @PrePersist does for JPA
+        user.setNormalizedFullName(FullNameNormalizer.normalize(user.getFullName()));
+        UserShard shard = shards.forName(user.getNormalizedFullName());
+        user.setId(shard.nextId());
+        return shard;
+    }
+
+    private static void insert(UserShard shard, List<? extends User> users) {
+        shard.jdbcTemplate().batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                User user = users.get(index);
+                statement.setLong(1, user.getId());
+                statement.setString(2, user.getFullName());
+                statement.setString(3, user.getNormalizedFullName());
+                statement.setString(4, user.getPhoneNumber());
+                statement.setString(5, user.getGender());
+                statement.setString(6, user.getCreateDate());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return users.size();
+            }
+        });
+    }
+
+    /**
+     * Opens a stream on every shard, closing those already open if one fails.
+     */
+    private <T> List<Stream<T>> openOnAllShards(Function<UserShard, Stream<T>> query) {
+        List<Stream<T>> streams = new ArrayList<>(shards.all().size());
+        try {
+            for (UserShard shard : shards.all()) {
+                streams.add(query.apply(shard));
+            }
+        } catch (RuntimeException exception) {
+            try {
+                IdOrderedMerge.closeAll(streams);
+            } catch (RuntimeException closeException) {
+                exception.addSuppressed(closeException);
+            }
+            throw exception;
+        }
+        return streams;
+    }
+}
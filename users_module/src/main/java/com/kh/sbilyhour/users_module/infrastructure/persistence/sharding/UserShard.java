@@ -0,0 +1,94 @@
+package com.kh.sbilyhour.users_module.infrastructure.persistence.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One database of the sharded users table, with its connection pool and its
+ * id allocator.
+ * <p>
+ * Ids are allocated from the {@code users_seq} sequence of the shard in
+ * blocks of {@link #ID_BLOCK_SIZE}, and tagged with the shard number in
+ * their low {@link UserShards#SHARD_BITS} bits: they are unique across
+ * shards without any coordination, tell which shard holds a user, and ids of
+ * all shards interleave in registration order.
+ * </p>
+ */
+final class UserShard {
+
+    /**
+     * Ids taken from the sequence per round trip; the increment of {@code users_seq}.
+     */
+    static final int ID_BLOCK_SIZE = 50;
+
+    private static final String NEXT_ID_BLOCK = "select next value for users_seq";
+
+    private final int index;
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // A j.u.c lock, not synchronized: a virtual thread fetching a block must not pin its carrier
+    private final ReentrantLock idLock = new ReentrantLock();
+    private long nextLocalId;
+    private long idBlockEnd;
+
+    UserShard(int index, HikariDataSource dataSource, int fetchSize) {
+        this.index = index;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    int index() {
+        return index;
+    }
+
+    HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    NamedParameterJdbcTemplate namedParameterJdbcTemplate() {
+        return namedParameterJdbcTemplate;
+    }
+
+    /**
+     * Returns a template running work in a transaction of this shard only.
+     *
+     * @return the transaction template
+     */
+    TransactionTemplate transactionTemplate() {
+        return transactionTemplate;
+    }
+
+    /**
+     * Allocates the id of a new user of this shard.
+     *
+     * @return the id, tagged with the shard number
+     */
+    long nextId() {
+        idLock.lock();
+        try {
+            if (nextLocalId == idBlockEnd) {
+                Long blockStart = jdbcTemplate.queryForObject(NEXT_ID_BLOCK, Long.class);
+                nextLocalId = blockStart;
+                idBlockEnd = blockStart + ID_BLOCK_SIZE;
+            }
+            return nextLocalId++ << UserShards.SHARD_BITS | index;
+        } finally {
+            idLock.unlock();
+        }
+    }
+}
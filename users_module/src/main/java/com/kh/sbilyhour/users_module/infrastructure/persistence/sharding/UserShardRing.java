@@ -0,0 +1,78 @@
+package com.kh.sbilyhour.users_module.infrastructure.persistence.sharding;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Consistent hash ring mapping normalized full names to shards.
+ * <p>
+ * Each shard owns {@code virtualNodes} points of a 64-bit ring, placed by
+ * hashing the shard number and the point number; a name belongs to the
+ * shard of the first point at or after its own hash. Appending a shard only
+ * moves the names falling just before its points, about one name in
+ * {@code shards + 1}, and lookups are a binary search over a sorted
+ * {@code long[]}.
+ * </p>
+ */
+final class UserShardRing {
+
+    private final long[] points;
+    private final int[] owners;
+
+    UserShardRing(int shards, int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual nodes must be positive");
+        }
+        int size = shards * virtualNodes;
+        long[] hashes = new long[size];
+        Integer[] order = new Integer[size];
+        for (int shard = 0; shard < shards; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                int index = shard * virtualNodes + node;
+                hashes[index] = hash("shard-" + shard + "#" + node);
+                order[index] = index;
+            }
+        }
+        Arrays.sort(order, Comparator.comparingLong(index -> hashes[index]));
+
+        this.points = new long[size];
+        this.owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = hashes[order[i]];
+            owners[i] = order[i] / virtualNodes;
+        }
+    }
+
+    /**
+     * Returns the shard owning the given normalized full name.
+     *
+     * @param normalizedFullName the normalized full name
+     * @return the shard number
+     */
+    int shardOf(CharSequence normalizedFullName) {
+        int index = Arrays.binarySearch(points, hash(normalizedFullName));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units, finished with a murmur3 mix,
+     * like the hash of {@code BloomFilter}. It decides where registered users
+     * live, so it must never change.
+     */
+    static long hash(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
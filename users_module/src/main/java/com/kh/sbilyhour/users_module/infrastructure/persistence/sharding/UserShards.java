@@ -0,0 +1,111 @@
+package com.kh.sbilyhour.users_module.infrastructure.persistence.sharding;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The databases of the sharded users table, see {@link ShardedUserRepository}.
+ * <p>
+ * One shard is created per JDBC URL of {@code users.sharding.urls}, each
+ * with its own connection pool; the position of a URL is its shard number.
+ * The pools are not {@code DataSource} beans, so the JDBC {@code DataSource}
+ * that JPA runs on is still auto-configured. The schema of every shard is
+ * created at startup when missing.
+ * </p>
+ */
+@Component
+@Profile("sharded")
+public class UserShards implements DisposableBean {
+
+    /**
+     * Low bits of an id holding the number of its shard.
+     */
+    static final int SHARD_BITS = 8;
+
+    /**
+     * Largest number of shards, bounded by {@link #SHARD_BITS}.
+     */
+    static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final String SCHEMA = "sharding/users-shard-schema.sql";
+
+    private final List<UserShard> shards;
+    private final UserShardRing ring;
+
+    @Autowired
+    public UserShards(@Value("${users.sharding.urls}") List<String> urls,
+                      @Value("${users.sharding.username}") String username,
+                      @Value("${users.sharding.password}") String password,
+                      @Value("${users.sharding.pool-size:10}") int poolSize,
+                      @Value("${users.sharding.fetch-size:1000}") int fetchSize,
+                      @Value("${users.sharding.virtual-nodes:160}") int virtualNodes) {
+        if (urls.isEmpty() || urls.size() > MAX_SHARDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_SHARDS + " shard URLs are required");
+        }
+        this.ring = new UserShardRing(urls.size(), virtualNodes);
+        this.shards = new ArrayList<>(urls.size());
+        try {
+            ResourceDatabasePopulator schema = new ResourceDatabasePopulator(new ClassPathResource(SCHEMA));
+            for (String url : urls) {
+                HikariConfig config = new HikariConfig();
+                config.setPoolName("users-shard-" + shards.size());
+                config.setJdbcUrl(url);
+                config.setUsername(username);
+                config.setPassword(password);
+                config.setMaximumPoolSize(poolSize);
+                UserShard shard = new UserShard(shards.size(), new HikariDataSource(config), fetchSize);
+                shards.add(shard);
+                schema.execute(shard.dataSource());
+            }
+        } catch (RuntimeException exception) {
+            destroy();
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns all shards, by shard number.
+     *
+     * @return the shards
+     */
+    List<UserShard> all() {
+        return shards;
+    }
+
+    /**
+     * Returns the shard holding, or to hold, the user with the given
+     * normalized full name.
+     *
+     * @param normalizedFullName the normalized full name
+     * @return the shard
+     */
+    UserShard forName(String normalizedFullName) {
+        return shards.get(ring.shardOf(normalizedFullName));
+    }
+
+    /**
+     * Returns the shard that allocated the given id.
+     *
+     * @param id the id of a user
+     * @return the shard, or null if no shard allocates such an id
+     */
+    UserShard forId(long id) {
+        int shard = (int) (id & (MAX_SHARDS - 1));
+        return id > 0 && shard < shards.size() ? shards.get(shard) : null;
+    }
+
+    @Override
+    public void destroy() {
+        shards.forEach(shard -> shard.dataSource().close());
+    }
+}
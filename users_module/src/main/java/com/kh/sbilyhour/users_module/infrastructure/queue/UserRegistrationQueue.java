@@ -0,0 +1,348 @@
+package com.kh.sbilyhour.users_module.infrastructure.queue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kh.sbilyhour.common_module.domain.error.Error;
+import com.kh.sbilyhour.common_module.domain.error.HttpError;
+import com.kh.sbilyhour.common_module.domain.exception.DomainException;
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import com.kh.sbilyhour.users_module.application.dto.registration_status.RegistrationState;
+import com.kh.sbilyhour.users_module.application.dto.registration_status.RegistrationStatusResponse;
+import com.kh.sbilyhour.users_module.domain.exception.RegistrationQueueFullException;
+import com.kh.sbilyhour.users_module.domain.exception.UserAlreadyExistsException;
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import com.kh.sbilyhour.users_module.infrastructure.metrics.UserRegistrationMetrics;
+import com.kh.sbilyhour.users_module.infrastructure.metrics.UserRegistrationMetrics.DuplicateNameSource;
+import com.kh.sbilyhour.users_module.infrastructure.service.RegisterUserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind queue for asynchronous registrations.
+ * <p>
+ * {@link #submit} reserves the normalized name, puts the request on a
+ * bounded queue and returns a tracking token right away. A single writer
+ * thread takes whatever is queued, up to {@code users.write-behind.batch-size}
+ * requests, and inserts them with {@link RegisterUserService#registerUsers},
+ * i.e. one transaction and one commit per batch. Under load batches fill up
+ * by themselves; when idle a request is written as soon as it arrives.
+ * </p>
+ * <p>
+ * When the queue is full, or the application is shutting down, submissions
+ * are rejected with {@link RegistrationQueueFullException} (503) instead of
+ * blocking the caller. On shutdown the queue stops accepting and the writer
+ * drains everything already accepted before the data source is closed.
+ * </p>
+ * <p>
+ * The outcome of every request is kept for {@code users.write-behind.status-ttl}
+ * and can be looked up with {@link #getStatus}. The queue is only active when
+ * {@code users.write-behind.enabled} is true.
+ * </p>
+ */
+@Component
+public class UserRegistrationQueue implements SmartLifecycle {
+
+    /**
+     * Stops after the web server has stopped taking requests, and before the
+     * data source is closed.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(UserRegistrationQueue.class);
+
+    private final RegisterUserService registerUserService;
+    private final UserRegistrationMetrics registrationMetrics;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+
+    private final BlockingQueue<PendingRegistration> queue;
+    private final Set<String> reservedNames = ConcurrentHashMap.newKeySet();
+    private final Cache<String, RegistrationStatusResponse> statuses;
+
+    /**
+     * Submissions hold the read lock while they check {@link #accepting} and
+     * enqueue; {@link #stop()} takes the write lock to stop accepting, so no
+     * request can be queued after the writer started its final drain.
+     */
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private volatile boolean accepting;
+    private volatile Thread writer;
+
+    private final Counter rejections;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizes;
+
+    @Autowired
+    public UserRegistrationQueue(RegisterUserService registerUserService, UserRegistrationMetrics registrationMetrics,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${users.write-behind.enabled:false}") boolean enabled,
+                                 @Value("${users.write-behind.capacity:10000}") int capacity,
+                                 @Value("${users.write-behind.batch-size:200}") int batchSize,
+                                 @Value("${users.write-behind.status-ttl:PT10M}") Duration statusTtl,
+                                 @Value("${users.write-behind.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.registerUserService = registerUserService;
+        this.registrationMetrics = registrationMetrics;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(statusTtl)
+                .build();
+
+        Gauge.builder("core.users.write.behind.queue.size", queue, BlockingQueue::size)
+                .description("Registrations accepted but not written yet")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("core.users.write.behind.rejections")
+                .description("Registrations rejected because the queue was full or shutting down")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("core.users.write.behind.batch")
+                .description("Time to write and commit one batch of registrations")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("core.users.write.behind.batch.size")
+                .description("Registrations written per commit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether {@code createUser} should register asynchronously.
+     *
+     * @return true if write-behind is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Reserves the name of the user and queues the registration.
+     *
+     * @param request the validated registration request
+     * @return the PENDING status, holding the tracking token
+     * @throws UserAlreadyExistsException      if the name is already queued
+     * @throws RegistrationQueueFullException if the queue is full or shutting down
+     */
+    public RegistrationStatusResponse submit(RegisterUserRequest request) {
+        String normalizedName = FullNameNormalizer.normalize(request.getFullName());
+        if (!reservedNames.add(normalizedName)) {
+            registrationMetrics.recordDuplicateName(DuplicateNameSource.PENDING);
+            throw UserAlreadyExistsException.INSTANCE;
+        }
+
+        PendingRegistration registration = new PendingRegistration(UUID.randomUUID().toString(), normalizedName, request);
+        RegistrationStatusResponse pending = RegistrationStatusResponse.builder()
+                .token(registration.token())
+                .state(RegistrationState.PENDING)
+                .build();
+        statuses.put(registration.token(), pending);
+
+        boolean queued;
+        acceptLock.readLock().lock();
+        try {
+            queued = accepting && queue.offer(registration);
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        if (!queued) {
+            statuses.invalidate(registration.token());
+            reservedNames.remove(normalizedName);
+            rejections.increment();
+            throw RegistrationQueueFullException.INSTANCE;
+        }
+        return pending;
+    }
+
+    /**
+     * Returns the status of a registration.
+     *
+     * @param token the tracking token returned by {@link #submit}
+     * @return the status, or empty if the token is unknown or has expired
+     */
+    public Optional<RegistrationStatusResponse> getStatus(String token) {
+        return Optional.ofNullable(statuses.getIfPresent(token));
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || writer != null) {
+            return;
+        }
+        accepting = true;
+        writer = Thread.ofPlatform()
+                .name("user-registration-writer")
+                .start(this::drain);
+    }
+
+    @Override
+    public void stop() {
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+
+        try {
+            current.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (current.isAlive()) {
+            logger.warn("Registration writer did not finish within {}, {} registrations still queued",
+                    shutdownTimeout, queue.size());
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Writer loop: runs until the queue stopped accepting and is empty.
+     */
+    private void drain() {
+        List<PendingRegistration> batch = new ArrayList<>(batchSize);
+        while (true) {
+            PendingRegistration first;
+            try {
+                first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // Only stop early once nothing accepted is left behind
+                if (queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            if (first == null) {
+                if (!accepting) {
+                    return;
+                }
+                continue;
+            }
+
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                write(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Writes one batch in a single transaction. If a name was taken in the
+     * meantime, e.g. by a synchronous registration, the transaction is rolled
+     * back and the batch is retried one by one to report each outcome.
+     */
+    private void write(List<PendingRegistration> batch) {
+        List<RegisterUserRequest> requests = new ArrayList<>(batch.size());
+        for (PendingRegistration registration : batch) {
+            requests.add(registration.request());
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            List<UserDTO> users = registerUserService.registerUsers(requests);
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i), registered(batch.get(i), users.get(i)));
+            }
+        } catch (DataIntegrityViolationException exception) {
+            for (PendingRegistration registration : batch) {
+                complete(registration, writeOne(registration));
+            }
+        } catch (RuntimeException exception) {
+            logger.error("Failed to write {} registrations", batch.size(), exception);
+            for (PendingRegistration registration : batch) {
+                complete(registration, failed(registration, unexpectedError()));
+            }
+        } finally {
+            sample.stop(batchTimer);
+            batchSizes.record(batch.size());
+        }
+    }
+
+    private RegistrationStatusResponse writeOne(PendingRegistration registration) {
+        try {
+            return registered(registration, registerUserService.registerUser(registration.request()));
+        } catch (UserAlreadyExistsException exception) {
+            registrationMetrics.recordDuplicateName(DuplicateNameSource.CONSTRAINT);
+            return failed(registration, exception.getResponseBody().getError());
+        } catch (DomainException exception) {
+            return failed(registration, exception.getResponseBody().getError());
+        } catch (RuntimeException exception) {
+            logger.error("Failed to write registration {}", registration.token(), exception);
+            return failed(registration, unexpectedError());
+        }
+    }
+
+    private void complete(PendingRegistration registration, RegistrationStatusResponse status) {
+        statuses.put(registration.token(), status);
+        reservedNames.remove(registration.normalizedName());
+    }
+
+    private RegistrationStatusResponse registered(PendingRegistration registration, UserDTO user) {
+        return RegistrationStatusResponse.builder()
+                .token(registration.token())
+                .state(RegistrationState.REGISTERED)
+                .user(user)
+                .build();
+    }
+
+    private RegistrationStatusResponse failed(PendingRegistration registration, HttpError error) {
+        return RegistrationStatusResponse.builder()
+                .token(registration.token())
+                .state(RegistrationState.FAILED)
+                .error(error)
+                .build();
+    }
+
+    private HttpError unexpectedError() {
+        return HttpError.builder()
+                .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .errors(List.of(new Error("An unexpected error occurred. Please try again later.")))
+                .build();
+    }
+
+    private record PendingRegistration(String token, String normalizedName, RegisterUserRequest request) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.kh.sbilyhour.users_module.infrastructure.service;
+
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.domain.exception.UserSearchUnavailableException;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import com.kh.sbilyhour.users_module.infrastructure.cache.PhoneNumberIndex;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserCache;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserNameSearchIndex;
+import com.kh.sbilyhour.users_module.infrastructure.mapper.RegisterUserMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Service class responsible for reading registered users.
+ * <p>
+ * Lookups go through the {@link UserCache}; only misses reach the database.
+ * Phone numbers are resolved to ids by the {@link PhoneNumberIndex}, name
+ * searches by the {@link UserNameSearchIndex}.
+ * </p>
+ */
+@Service
+public class FindUserService {
+
+    private final UserRepository userRepository;
+    private final RegisterUserMapper userMapper;
+    private final UserCache userCache;
+    private final PhoneNumberIndex phoneNumberIndex;
+    private final UserNameSearchIndex userNameSearchIndex;
+
+    @Autowired
+    public FindUserService(UserRepository userRepository, RegisterUserMapper userMapper, UserCache userCache,
+                           PhoneNumberIndex phoneNumberIndex, UserNameSearchIndex userNameSearchIndex) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.userCache = userCache;
+        this.phoneNumberIndex = phoneNumberIndex;
+        this.userNameSearchIndex = userNameSearchIndex;
+    }
+
+    /**
+     * Finds a user by id.
+     *
+     * @param id the id of the user
+     * @return the user, or empty if there is none
+     */
+    public Optional<UserDTO> findById(Long id) {
+        return userCache.getById(id, key -> userRepository.findById(key).map(userMapper::toDTO));
+    }
+
+    /**
+     * Finds a user by full name, as registered.
+     *
+     * @param fullName the full name of the user
+     * @return the user, or empty if there is none
+     */
+    public Optional<UserDTO> findByFullName(String fullName) {
+        return userCache.getByFullName(fullName, key -> userRepository.findByFullName(key).map(userMapper::toDTO));
+    }
+
+    /**
+     * Finds the first user registered with the given phone number. Unknown
+     * numbers are answered by the index alone; until the index is loaded the
+     * database is asked instead.
+     *
+     * @param phoneNumber the phone number
+     * @return the user, or empty if there is none
+     */
+    public Optional<UserDTO> findByPhoneNumber(String phoneNumber) {
+        if (!phoneNumberIndex.isReady()) {
+            return userRepository.findFirstByPhoneNumberOrderByIdAsc(phoneNumber).map(userMapper::toDTO);
+        }
+        OptionalLong id = phoneNumberIndex.find(phoneNumber);
+        return id.isPresent() ? findById(id.getAsLong()) : Optional.empty();
+    }
+
+    /**
+     * Finds the users whose full names best match the query. The matching is
+     * done by the index; only the matched users are read from the database,
+     * by primary key.
+     *
+     * @param query the query
+     * @param limit the maximum number of users to return
+     * @return the users, best match first
+     * @throws UserSearchUnavailableException if the index is not loaded
+     */
+    public List<UserSummary> searchByName(String query, int limit) {
+        if (!userNameSearchIndex.isReady()) {
+            throw UserSearchUnavailableException.INSTANCE;
+        }
+        long[] ids = userNameSearchIndex.search(query, limit);
+        if (ids.length == 0) {
+            return List.of();
+        }
+        return inRankOrder(ids, userRepository.findSummariesByIdIn(toList(ids)));
+    }
+
+    static List<Long> toList(long[] ids) {
+        List<Long> list = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            list.add(id);
+        }
+        return list;
+    }
+
+    /**
+     * Puts the users back in the order of the given ids, leaving out ids
+     * whose user no longer exists.
+     */
+    static List<UserSummary> inRankOrder(long[] ids, List<UserSummary> users) {
+        Map<Long, UserSummary> usersById = new HashMap<>();
+        for (UserSummary user : users) {
+            usersById.put(user.id(), user);
+        }
+        List<UserSummary> ranked = new ArrayList<>(users.size());
+        for (long id : ids) {
+            UserSummary user = usersById.get(id);
+            if (user != null) {
+                ranked.add(user);
+            }
+        }
+        return ranked;
+    }
+}
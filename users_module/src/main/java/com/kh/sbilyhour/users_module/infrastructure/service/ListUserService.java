@@ -0,0 +1,68 @@
+package com.kh.sbilyhour.users_module.infrastructure.service;
+
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service class responsible for walking the users table.
+ * <p>
+ * Users are read as {@link UserSummary} projections in id order, either one
+ * keyset page at a time or from a single forward-only cursor. No entity is
+ * managed, so memory use does not grow with the number of users read.
+ * </p>
+ */
+@Service
+public class ListUserService {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public ListUserService(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Returns the users after the given id, in id order.
+     *
+     * @param afterId the id after which to start, 0 for the first page
+     * @param limit   the maximum number of users to return
+     * @return the users
+     */
+    public List<UserSummary> findPage(long afterId, int limit) {
+        return userRepository.findSummariesByIdGreaterThan(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Passes every user after the given id, in id order, to the given action
+     * as it is read from the database.
+     *
+     * @param afterId the id after which to start, 0 for all users
+     * @param action  the action to perform on each user
+     * @return the number of users read
+     */
+    public long forEachAfter(long afterId, Consumer<UserSummary> action) {
+        Long count = readOnlyTransaction.execute(status -> {
+            long read = 0;
+            try (Stream<UserSummary> users = userRepository.streamSummariesByIdGreaterThan(afterId)) {
+                for (UserSummary user : (Iterable<UserSummary>) users::iterator) {
+                    action.accept(user);
+                    read++;
+                }
+            }
+            return read;
+        });
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,139 @@
+package com.kh.sbilyhour.users_module.infrastructure.service;
+
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.exception.UserSearchUnavailableException;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.domain.repository.ReactiveUserRepository;
+import com.kh.sbilyhour.users_module.infrastructure.cache.PhoneNumberIndex;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserCache;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserNameSearchIndex;
+import com.kh.sbilyhour.users_module.infrastructure.mapper.RegisterUserMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Non-blocking counterpart of {@link FindUserService} and
+ * {@link ListUserService}, on the {@link ReactiveUserRepository}.
+ * <p>
+ * Lookups go through the same {@link UserCache} as the blocking service.
+ * </p>
+ */
+@Service
+public class ReactiveFindUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final RegisterUserMapper userMapper;
+    private final UserCache userCache;
+    private final PhoneNumberIndex phoneNumberIndex;
+    private final UserNameSearchIndex userNameSearchIndex;
+
+    @Autowired
+    public ReactiveFindUserService(ReactiveUserRepository userRepository, RegisterUserMapper userMapper,
+                                   UserCache userCache, PhoneNumberIndex phoneNumberIndex,
+                                   UserNameSearchIndex userNameSearchIndex) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.userCache = userCache;
+        this.phoneNumberIndex = phoneNumberIndex;
+        this.userNameSearchIndex = userNameSearchIndex;
+    }
+
+    /**
+     * Finds a user by id.
+     *
+     * @param id the id of the user
+     * @return the user, or empty if there is none
+     */
+    public Mono<UserDTO> findById(Long id) {
+        return userCache.getByIdReactive(id, key -> load(userRepository.findById(key)))
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Finds a user by full name, as registered.
+     *
+     * @param fullName the full name of the user
+     * @return the user, or empty if there is none
+     */
+    public Mono<UserDTO> findByFullName(String fullName) {
+        return userCache.getByFullNameReactive(fullName, key -> load(userRepository.findByFullName(key)))
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    /**
+     * Finds the first user registered with the given phone number.
+     *
+     * @param phoneNumber the phone number
+     * @return the user, or empty if there is none
+     * @see FindUserService#findByPhoneNumber
+     */
+    public Mono<UserDTO> findByPhoneNumber(String phoneNumber) {
+        return Mono.defer(() -> {
+            if (!phoneNumberIndex.isReady()) {
+                return userRepository.findFirstByPhoneNumber(phoneNumber).map(userMapper::toDTO);
+            }
+            OptionalLong id = phoneNumberIndex.find(phoneNumber);
+            return id.isPresent() ? findById(id.getAsLong()) : Mono.empty();
+        });
+    }
+
+    /**
+     * Finds the users whose full names best match the query. The matching
+     * takes up to a millisecond over millions of names, so it runs on the
+     * bounded elastic scheduler rather than on the event loop.
+     *
+     * @param query the query
+     * @param limit the maximum number of users to return
+     * @return the users, best match first, or a {@link UserSearchUnavailableException} error
+     * @see FindUserService#searchByName
+     */
+    public Mono<List<UserSummary>> searchByName(String query, int limit) {
+        return Mono.<List<UserSummary>>defer(() -> {
+            if (!userNameSearchIndex.isReady()) {
+                return Mono.error(UserSearchUnavailableException.INSTANCE);
+            }
+            long[] ids = userNameSearchIndex.search(query, limit);
+            if (ids.length == 0) {
+                return Mono.just(List.of());
+            }
+            return userRepository.findSummariesByIdIn(FindUserService.toList(ids))
+                    .collectList()
+                    .map(users -> FindUserService.inRankOrder(ids, users));
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Returns the users after the given id, in id order.
+     *
+     * @param afterId the id after which to start, 0 for the first page
+     * @param limit   the maximum number of users to return
+     * @return the users
+     */
+    public Flux<UserSummary> findPage(long afterId, int limit) {
+        return userRepository.findSummariesByIdGreaterThan(afterId, limit);
+    }
+
+    /**
+     * Streams every user after the given id, in id order.
+     *
+     * @param afterId the id after which to start, 0 for all users
+     * @return the users
+     */
+    public Flux<UserSummary> streamAfter(long afterId) {
+        return userRepository.streamSummariesByIdGreaterThan(afterId);
+    }
+
+    private Mono<Optional<UserDTO>> load(Mono<User> user) {
+        return user.map(userMapper::toDTO)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+    }
+}
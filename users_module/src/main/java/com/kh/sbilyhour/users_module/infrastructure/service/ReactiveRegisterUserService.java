@@ -0,0 +1,103 @@
+package com.kh.sbilyhour.users_module.infrastructure.service;
+
+import com.kh.sbilyhour.common_module.domain.utils.ClockService;
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.exception.UserAlreadyExistsException;
+import com.kh.sbilyhour.users_module.domain.repository.ReactiveUserRepository;
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import com.kh.sbilyhour.users_module.infrastructure.cache.PhoneNumberIndex;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserCache;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserNameFilter;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserNameSearchIndex;
+import com.kh.sbilyhour.users_module.infrastructure.mapper.RegisterUserMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link RegisterUserService}, on the
+ * {@link ReactiveUserRepository}.
+ * <p>
+ * Shares the {@link UserNameFilter}, the {@link UserCache}, the
+ * {@link PhoneNumberIndex} and the {@link UserNameSearchIndex} with the
+ * blocking service, so users registered through either stack are seen by
+ * both.
+ * </p>
+ */
+@Service
+public class ReactiveRegisterUserService {
+
+    private final ReactiveUserRepository userRepository;
+    private final RegisterUserMapper userMapper;
+    private final ClockService clockService;
+    private final UserNameFilter userNameFilter;
+    private final UserCache userCache;
+    private final PhoneNumberIndex phoneNumberIndex;
+    private final UserNameSearchIndex userNameSearchIndex;
+
+    @Autowired
+    public ReactiveRegisterUserService(ReactiveUserRepository userRepository, RegisterUserMapper userMapper,
+                                       ClockService clockService, UserNameFilter userNameFilter, UserCache userCache,
+                                       PhoneNumberIndex phoneNumberIndex, UserNameSearchIndex userNameSearchIndex) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.clockService = clockService;
+        this.userNameFilter = userNameFilter;
+        this.userCache = userCache;
+        this.phoneNumberIndex = phoneNumberIndex;
+        this.userNameSearchIndex = userNameSearchIndex;
+    }
+
+    /**
+     * Registers a new user. As with {@link RegisterUserService#registerUser},
+     * the unique index on the normalized full name is the authoritative
+     * duplicate check.
+     *
+     * @param request the registration request containing user details
+     * @return the registered user, or a {@link UserAlreadyExistsException} error
+     */
+    public Mono<UserDTO> registerUser(RegisterUserRequest request) {
+        return Mono.defer(() -> {
+            User user = userMapper.toEntity(request);
+            user.setNormalizedFullName(FullNameNormalizer.normalize(user.getFullName()));
+            user.setCreateDate(clockService.currentFormattedDate());
+            return userRepository.insert(user);
+        }).onErrorMap(DataIntegrityViolationException.class, exception -> {
+            if (RegisterUserService.isDuplicateNameViolation(exception)) {
+                userNameFilter.put(FullNameNormalizer.normalize(request.getFullName()));
+                return UserAlreadyExistsException.INSTANCE;
+            }
+            return exception;
+        }).map(savedUser -> {
+            userNameFilter.put(savedUser.getNormalizedFullName());
+            UserDTO registeredUser = userMapper.toDTO(savedUser);
+            userCache.put(registeredUser);
+            phoneNumberIndex.put(registeredUser.getPhoneNumber(), registeredUser.getId());
+            userNameSearchIndex.put(savedUser.getNormalizedFullName(), savedUser.getId());
+            return registeredUser;
+        });
+    }
+
+    /**
+     * Checks if a user with the given full name already exists, asking the
+     * database only for names the {@link UserNameFilter} cannot rule out.
+     *
+     * @param fullName the full name of the user to check
+     * @return true if the user exists, false otherwise
+     */
+    public Mono<Boolean> isExitingUser(String fullName) {
+        String normalizedFullName = FullNameNormalizer.normalize(fullName);
+        if (!userNameFilter.mightContain(normalizedFullName)) {
+            return Mono.just(Boolean.FALSE);
+        }
+        return userRepository.existsByNormalizedFullName(normalizedFullName)
+                .doOnNext(exists -> {
+                    if (!exists) {
+                        userNameFilter.recordFalsePositive();
+                    }
+                });
+    }
+}
@@ -1,13 +1,31 @@
 package com.kh.sbilyhour.users_module.infrastructure.service;
 
-import com.kh.sbilyhour.common_module.infrastructure.config.DateTimeConfig;
+import com.kh.sbilyhour.common_module.domain.utils.ClockService;
 import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
 import com.kh.sbilyhour.users_module.application.dto.UserDTO;
 import com.kh.sbilyhour.users_module.domain.entities.User;
+import com.kh.sbilyhour.users_module.domain.exception.UserAlreadyExistsException;
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import com.kh.sbilyhour.users_module.infrastructure.cache.PhoneNumberIndex;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserCache;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserNameFilter;
+import com.kh.sbilyhour.users_module.infrastructure.cache.UserNameSearchIndex;
+import com.kh.sbilyhour.users_module.infrastructure.event.UserRegisteredEvents;
 import com.kh.sbilyhour.users_module.infrastructure.mapper.RegisterUserMapper;
-import com.kh.sbilyhour.users_module.infrastructure.persistence.repository.UserJpaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Service class responsible for user registration.
@@ -19,49 +37,198 @@ import org.springframework.stereotype.Service;
 @Service
 public class RegisterUserService {
 
-    private final UserJpaRepository userJpaRepository;
+    private final UserRepository userRepository;
     private final RegisterUserMapper userMapper;
-    private final DateTimeConfig dateTimeConfig;
+    private final ClockService clockService;
+    private final UserNameFilter userNameFilter;
+    private final UserCache userCache;
+    private final PhoneNumberIndex phoneNumberIndex;
+    private final UserNameSearchIndex userNameSearchIndex;
+    private final UserRegisteredEvents userRegisteredEvents;
 
     @Autowired
-    public RegisterUserService(UserJpaRepository userJpaRepository, RegisterUserMapper userMapper, DateTimeConfig dateTimeConfig) {
-        this.userJpaRepository = userJpaRepository;
+    public RegisterUserService(UserRepository userRepository, RegisterUserMapper userMapper, ClockService clockService,
+                               UserNameFilter userNameFilter, UserCache userCache, PhoneNumberIndex phoneNumberIndex,
+                               UserNameSearchIndex userNameSearchIndex, UserRegisteredEvents userRegisteredEvents) {
+        this.userRepository = userRepository;
         this.userMapper = userMapper;
-        this.dateTimeConfig = dateTimeConfig;
+        this.clockService = clockService;
+        this.userNameFilter = userNameFilter;
+        this.userCache = userCache;
+        this.phoneNumberIndex = phoneNumberIndex;
+        this.userNameSearchIndex = userNameSearchIndex;
+        this.userRegisteredEvents = userRegisteredEvents;
     }
 
     /**
      * Registers a new user based on the provided registration request.
+     * <p>
+     * The unique index on the normalized full name is the authoritative
+     * duplicate check: a pre-check done by the caller only avoids the insert in
+     * the common case, while concurrent registrations of the same name are
+     * caught here when the insert violates the constraint. The
+     * {@code UserRegistered} event is recorded in the same transaction.
+     * </p>
      *
      * @param request the registration request containing user details
      * @return the DTO representation of the registered user
-     * @throws RuntimeException if a user with the same full name already exists
+     * @throws UserAlreadyExistsException if a user with the same full name already exists
      */
+    @Transactional
     public UserDTO registerUser(RegisterUserRequest request) {
-        // Check if the user already exists
-        if (isExitingUser(request.getFullName())) {
-            throw new RuntimeException("User with full name " + request.getFullName() + " already exists.");
-        }
-
         // Convert request to User entity
         User user = userMapper.toEntity(request);
-        user.setCreateDate(dateTimeConfig.currentFormattedDate()); // Set creation date
+        user.setCreateDate(clockService.currentFormattedDate()); // Set creation date
 
-        // Save the user entity
-        User savedUser = userJpaRepository.save(user);
+        // Save the user entity, flushing so a duplicate surfaces here
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException exception) {
+            if (isDuplicateNameViolation(exception)) {
+                userNameFilter.put(FullNameNormalizer.normalize(request.getFullName()));
+                throw UserAlreadyExistsException.INSTANCE;
+            }
+            throw exception;
+        }
+        userNameFilter.put(savedUser.getNormalizedFullName());
+        userRegisteredEvents.record(List.of(savedUser));
 
-        // Convert saved User entity back to UserDTO and return
-        return userMapper.toDTO(savedUser);
+        // Convert saved User entity back to UserDTO, cache and index it once committed, and return
+        UserDTO registeredUser = userMapper.toDTO(savedUser);
+        cacheAfterCommit(List.of(registeredUser));
+        return registeredUser;
+    }
+
+    /**
+     * Registers all given users in a single transaction. The inserts are sent
+     * to the database as JDBC batches; callers are expected to have filtered
+     * out existing names beforehand (see {@link #findExistingNormalizedFullNames}).
+     * The {@code UserRegistered} events are recorded in the same transaction.
+     *
+     * @param requests the registration requests, already validated
+     * @return the registered users, in the same order as the requests
+     */
+    @Transactional
+    public List<UserDTO> registerUsers(List<RegisterUserRequest> requests) {
+        String createDate = clockService.currentFormattedDate();
+        List<User> users = new ArrayList<>(requests.size());
+        for (RegisterUserRequest request : requests) {
+            User user = userMapper.toEntity(request);
+            user.setCreateDate(createDate);
+            users.add(user);
+        }
+
+        List<User> savedUsers = userRepository.saveAll(users);
+        userRegisteredEvents.record(savedUsers);
+
+        // A rollback only leaves extra names in the filter, i.e. false positives
+        List<UserDTO> registeredUsers = new ArrayList<>(savedUsers.size());
+        for (User savedUser : savedUsers) {
+            userNameFilter.put(savedUser.getNormalizedFullName());
+            registeredUsers.add(userMapper.toDTO(savedUser));
+        }
+        cacheAfterCommit(registeredUsers);
+        return registeredUsers;
+    }
+
+    /**
+     * Inserts all given users in a single transaction, like {@link #registerUsers},
+     * but neither builds DTOs, caches or indexes the users, nor records
+     * {@code UserRegistered} events. Meant for the offline import, whose
+     * process serves no reads.
+     *
+     * @param requests the registration requests, already validated and checked
+     *                 against existing names
+     */
+    @Transactional
+    public void importUsers(List<RegisterUserRequest> requests) {
+        String createDate = clockService.currentFormattedDate();
+        List<User> users = new ArrayList<>(requests.size());
+        for (RegisterUserRequest request : requests) {
+            User user = userMapper.toEntity(request);
+            user.setCreateDate(createDate);
+            users.add(user);
+        }
+        userRepository.saveAll(users);
     }
 
     /**
      * Checks if a user with the given full name already exists.
+     * The name is normalized and first looked up in the {@link UserNameFilter};
+     * only names the filter cannot rule out are probed against the unique
+     * index, without loading the entity.
      *
      * @param fullName the full name of the user to check
      * @return true if the user exists, false otherwise
      */
     public Boolean isExitingUser(String fullName) {
-       return userJpaRepository.findByFullName(fullName).isPresent();
+        String normalizedFullName = FullNameNormalizer.normalize(fullName);
+        if (!userNameFilter.mightContain(normalizedFullName)) {
+            return false;
+        }
+
+        boolean exists = userRepository.existsByNormalizedFullName(normalizedFullName);
+        if (!exists) {
+            userNameFilter.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    /**
+     * Returns the normalized full names among the given ones that are already
+     * registered, using a single set-based query.
+     *
+     * @param normalizedFullNames the normalized full names to check
+     * @return the already registered normalized full names
+     */
+    public Set<String> findExistingNormalizedFullNames(Collection<String> normalizedFullNames) {
+        if (normalizedFullNames.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(userRepository.findExistingNormalizedFullNames(normalizedFullNames));
+    }
+
+    /**
+     * Caches and indexes the given users once the current transaction has
+     * committed, so a rolled-back batch never becomes visible to readers.
+     *
+     * @param users the registered users
+     */
+    private void cacheAfterCommit(List<UserDTO> users) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            users.forEach(this::cache);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                users.forEach(RegisterUserService.this::cache);
+            }
+        });
+    }
+
+    private void cache(UserDTO user) {
+        userCache.put(user);
+        phoneNumberIndex.put(user.getPhoneNumber(), user.getId());
+        userNameSearchIndex.put(FullNameNormalizer.normalize(user.getFullName()), user.getId());
+    }
+
+    /**
+     * Tells whether the given violation comes from the unique constraint on the
+     * normalized full name rather than from another integrity rule.
+     *
+     * @param exception the caught DataIntegrityViolationException
+     * @return true if the violation is a duplicate full name
+     */
+    static boolean isDuplicateNameViolation(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(User.UNIQUE_NORMALIZED_FULL_NAME)) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
@@ -0,0 +1,57 @@
+package com.kh.sbilyhour.users_module.interface_adapter.command;
+
+import com.kh.sbilyhour.users_module.application.use_case.ExportUsersUseCase;
+import com.kh.sbilyhour.users_module.infrastructure.exporter.UserExportFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Command line entry point of the user export.
+ * <p>
+ * Started with the {@code export} profile, the application runs without a
+ * web server, writes all users, or those after {@code users.export.after-id},
+ * to {@code users.export.file} and exits. See users_module/README.md.
+ * </p>
+ */
+@Component
+@Profile("export")
+public class ExportUsersCommand implements ApplicationRunner {
+
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final Path file;
+    private final UserExportFormat format;
+    private final boolean gzip;
+    private final long afterId;
+
+    @Autowired
+    public ExportUsersCommand(ExportUsersUseCase exportUsersUseCase,
+                              @Value("${users.export.file}") String file,
+                              @Value("${users.export.format:}") String format,
+                              @Value("${users.export.gzip:false}") boolean gzip,
+                              @Value("${users.export.after-id:0}") long afterId) {
+        this.exportUsersUseCase = exportUsersUseCase;
+        this.file = Path.of(file);
+        this.format = UserExportFormat.resolve(format, this.file);
+        this.gzip = gzip || this.file.getFileName().toString().endsWith(".gz");
+        this.afterId = afterId;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        // An unbuffered channel stream: the encoder already writes in large blocks
+        try (OutputStream output = Channels.newOutputStream(FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE))) {
+            exportUsersUseCase.execute(format, gzip, afterId, output);
+        }
+    }
+}
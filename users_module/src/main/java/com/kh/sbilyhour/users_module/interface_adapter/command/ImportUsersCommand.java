@@ -0,0 +1,58 @@
+package com.kh.sbilyhour.users_module.interface_adapter.command;
+
+import com.kh.sbilyhour.users_module.infrastructure.importer.UserImportFormat;
+import com.kh.sbilyhour.users_module.infrastructure.importer.UserImportResult;
+import com.kh.sbilyhour.users_module.infrastructure.importer.UserImporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Command line entry point of the user import.
+ * <p>
+ * Started with the {@code import} profile, the application runs without a
+ * web server, imports {@code users.import.file} and exits; a failed import
+ * makes the process exit with a non-zero status. See users_module/README.md.
+ * </p>
+ */
+@Component
+@Profile("import")
+public class ImportUsersCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportUsersCommand.class);
+
+    private final UserImporter userImporter;
+    private final Path file;
+    private final UserImportFormat format;
+    private final Path rejectedFile;
+
+    @Autowired
+    public ImportUsersCommand(UserImporter userImporter,
+                              @Value("${users.import.file}") String file,
+                              @Value("${users.import.format:}") String format,
+                              @Value("${users.import.rejected-file:}") String rejectedFile) {
+        this.userImporter = userImporter;
+        this.file = Path.of(file);
+        this.format = UserImportFormat.resolve(format, this.file);
+        this.rejectedFile = rejectedFile.isBlank()
+                ? this.file.resolveSibling(this.file.getFileName() + ".rejected")
+                : Path.of(rejectedFile);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        UserImportResult result = userImporter.importFile(file, format, rejectedFile);
+        logger.info("Imported {} users from {} lines in {} ({} lines/s)",
+                result.imported(), result.lines(), result.elapsed(), result.linesPerSecond());
+        if (result.rejected() > 0) {
+            logger.warn("Rejected {} lines, see {}", result.rejected(), rejectedFile);
+        }
+    }
+}
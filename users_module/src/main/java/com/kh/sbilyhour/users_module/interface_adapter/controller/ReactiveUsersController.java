@@ -0,0 +1,270 @@
+package com.kh.sbilyhour.users_module.interface_adapter.controller;
+
+import com.kh.sbilyhour.common_module.domain.model.ResponseWrapper;
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.application.dto.get_user.GetUserResponse;
+import com.kh.sbilyhour.users_module.application.dto.list_users.ListUsersResponse;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
+import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserResponse;
+import com.kh.sbilyhour.users_module.application.dto.register_users.RegisterUsersRequest;
+import com.kh.sbilyhour.users_module.application.dto.register_users.RegisterUsersResponse;
+import com.kh.sbilyhour.users_module.application.dto.registration_status.RegistrationStatusResponse;
+import com.kh.sbilyhour.users_module.application.dto.search_users.SearchUsersResponse;
+import com.kh.sbilyhour.users_module.application.use_case.CreateUserUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.CreateUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.ExportUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.GetRegistrationStatusUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.GetUserByFullNameUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.GetUserByIdUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.GetUserByPhoneNumberUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.ListUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.SearchUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.StreamUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.SubmitUserUseCase;
+import com.kh.sbilyhour.users_module.domain.projection.UserSummary;
+import com.kh.sbilyhour.users_module.domain.utils.UserCursor;
+import com.kh.sbilyhour.users_module.infrastructure.exporter.UserExportFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import jakarta.validation.Valid;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Non-blocking counterpart of {@link UsersController}, serving the same
+ * routes with the same envelopes when the application runs on the reactive
+ * stack ({@code spring.main.web-application-type=reactive}).
+ * <p>
+ * Lookups, listings and single registrations go through R2DBC and never block
+ * an event-loop thread. Bulk and write-behind registrations have no
+ * non-blocking path yet, so they are offloaded to the bounded elastic
+ * scheduler instead.
+ * </p>
+ */
+@RestController
+@RequestMapping("/core/auth/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Validated  // Ensure that validation is applied at the controller level
+public class ReactiveUsersController {
+
+    private final CreateUserUseCase createUserUseCase;
+    private final CreateUsersUseCase createUsersUseCase;
+    private final GetUserByIdUseCase getUserByIdUseCase;
+    private final GetUserByFullNameUseCase getUserByFullNameUseCase;
+    private final GetUserByPhoneNumberUseCase getUserByPhoneNumberUseCase;
+    private final ListUsersUseCase listUsersUseCase;
+    private final SearchUsersUseCase searchUsersUseCase;
+    private final StreamUsersUseCase streamUsersUseCase;
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final SubmitUserUseCase submitUserUseCase;
+    private final GetRegistrationStatusUseCase getRegistrationStatusUseCase;
+
+    @Autowired
+    public ReactiveUsersController(CreateUserUseCase createUserUseCase, CreateUsersUseCase createUsersUseCase,
+                                   GetUserByIdUseCase getUserByIdUseCase, GetUserByFullNameUseCase getUserByFullNameUseCase,
+                                   GetUserByPhoneNumberUseCase getUserByPhoneNumberUseCase,
+                                   ListUsersUseCase listUsersUseCase, SearchUsersUseCase searchUsersUseCase,
+                                   StreamUsersUseCase streamUsersUseCase, ExportUsersUseCase exportUsersUseCase,
+                                   SubmitUserUseCase submitUserUseCase, GetRegistrationStatusUseCase getRegistrationStatusUseCase) {
+        this.createUserUseCase = createUserUseCase;
+        this.createUsersUseCase = createUsersUseCase;
+        this.getUserByIdUseCase = getUserByIdUseCase;
+        this.getUserByFullNameUseCase = getUserByFullNameUseCase;
+        this.getUserByPhoneNumberUseCase = getUserByPhoneNumberUseCase;
+        this.listUsersUseCase = listUsersUseCase;
+        this.searchUsersUseCase = searchUsersUseCase;
+        this.streamUsersUseCase = streamUsersUseCase;
+        this.exportUsersUseCase = exportUsersUseCase;
+        this.submitUserUseCase = submitUserUseCase;
+        this.getRegistrationStatusUseCase = getRegistrationStatusUseCase;
+    }
+
+    /**
+     * Handles the creation of a new user.
+     *
+     * @param request the request object containing user details
+     * @return the response wrapper with user details, or with the registration status if write-behind is enabled
+     * @see UsersController#createUser
+     */
+    @PostMapping("/createUser")
+    public Mono<ResponseEntity<? extends ResponseWrapper<?>>> createUser(@Valid @RequestBody RegisterUserRequest request) {
+        if (submitUserUseCase.isEnabled()) {
+            return Mono.fromCallable(() -> submitUserUseCase.execute(request))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(status -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                            .body(ResponseWrapper.<RegistrationStatusResponse>builder().data(status).build()));
+        }
+
+        return createUserUseCase.executeReactive(request)
+                .map(registeredUser -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ResponseWrapper.<RegisterUserResponse>builder()
+                                .data(RegisterUserResponse.builder().user(registeredUser).build())
+                                .build()));
+    }
+
+    /**
+     * Handles the creation of many users in one request.
+     *
+     * @param request the request object containing the users to create
+     * @return the per-user results
+     * @see UsersController#createUsers
+     */
+    @PostMapping("/createUsers")
+    public Mono<ResponseEntity<ResponseWrapper<RegisterUsersResponse>>> createUsers(@Valid @RequestBody RegisterUsersRequest request) {
+        return Mono.fromCallable(() -> createUsersUseCase.execute(request.getUsers()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(results -> ResponseEntity.ok(ResponseWrapper.<RegisterUsersResponse>builder()
+                        .data(RegisterUsersResponse.builder().results(results).build())
+                        .build()));
+    }
+
+    /**
+     * Returns the user with the given id.
+     *
+     * @param id the id of the user
+     * @return the user, or a 404 error if there is none
+     */
+    @GetMapping("/getUserById/{id}")
+    public Mono<ResponseEntity<ResponseWrapper<GetUserResponse>>> getUserById(@PathVariable("id") Long id) {
+        return getUserByIdUseCase.executeReactive(id).map(this::createUserResponse);
+    }
+
+    /**
+     * Returns the user with the given full name, as registered.
+     *
+     * @param fullName the full name of the user
+     * @return the user, or a 404 error if there is none
+     */
+    @GetMapping("/getUserByFullName")
+    public Mono<ResponseEntity<ResponseWrapper<GetUserResponse>>> getUserByFullName(@RequestParam("fullName") String fullName) {
+        return getUserByFullNameUseCase.executeReactive(fullName).map(this::createUserResponse);
+    }
+
+    /**
+     * Returns the first user registered with the given phone number.
+     *
+     * @param phoneNumber the phone number of the user
+     * @return the user, or a 404 error if there is none
+     */
+    @GetMapping("/getUserByPhoneNumber")
+    public Mono<ResponseEntity<ResponseWrapper<GetUserResponse>>> getUserByPhoneNumber(@RequestParam("phoneNumber") String phoneNumber) {
+        return getUserByPhoneNumberUseCase.executeReactive(phoneNumber).map(this::createUserResponse);
+    }
+
+    /**
+     * Returns the status of an asynchronous registration. The status is held
+     * in memory, so it is read directly on the event loop.
+     *
+     * @param token the tracking token returned by {@code /createUser}
+     * @return the status, or a 404 error if the token is unknown or has expired
+     */
+    @GetMapping("/getRegistrationStatus/{token}")
+    public ResponseEntity<ResponseWrapper<RegistrationStatusResponse>> getRegistrationStatus(@PathVariable("token") String token) {
+        ResponseWrapper<RegistrationStatusResponse> response = ResponseWrapper.<RegistrationStatusResponse>builder()
+                .data(getRegistrationStatusUseCase.execute(token))
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Returns one page of users in id order.
+     *
+     * @param cursor the cursor of the page, as returned with the previous page; absent for the first page
+     * @param limit  the maximum number of users in the page
+     * @return the users and the cursor of the next page, if any
+     */
+    @GetMapping("/listUsers")
+    public Mono<ResponseEntity<ResponseWrapper<ListUsersResponse>>> listUsers(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "" + ListUsersUseCase.DEFAULT_LIMIT) int limit) {
+        return listUsersUseCase.executeReactive(cursor, limit)
+                .map(page -> ResponseEntity.ok(ResponseWrapper.<ListUsersResponse>builder().data(page).build()));
+    }
+
+    /**
+     * Returns the users whose full name looks like the query.
+     *
+     * @param query the name to look for
+     * @param limit the maximum number of users to return
+     * @return the users, best match first
+     * @see UsersController#searchUsers
+     */
+    @GetMapping("/searchUsers")
+    public Mono<ResponseEntity<ResponseWrapper<SearchUsersResponse>>> searchUsers(
+            @RequestParam("query") String query,
+            @RequestParam(value = "limit", defaultValue = "" + SearchUsersUseCase.DEFAULT_LIMIT) int limit) {
+        return searchUsersUseCase.executeReactive(query, limit)
+                .map(users -> ResponseEntity.ok(ResponseWrapper.<SearchUsersResponse>builder().data(users).build()));
+    }
+
+    /**
+     * Streams all users in id order as newline-delimited JSON, one user per
+     * line, without the response envelope. Users are read from the database
+     * only as fast as the client consumes them.
+     *
+     * @param cursor a cursor from {@code /listUsers} to resume after; absent to stream all users
+     * @return the users
+     */
+    @GetMapping(value = "/streamUsers", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserSummary> streamUsers(@RequestParam(value = "cursor", required = false) String cursor) {
+        // Decoded before the body starts streaming, so a bad cursor still gets an error response
+        long afterId = UserCursor.decode(cursor);
+        return streamUsersUseCase.executeReactive(afterId);
+    }
+
+    /**
+     * Exports all users in id order as a CSV or NDJSON file, optionally
+     * gzip-compressed. The export reads through JDBC on the bounded elastic
+     * scheduler, and only as fast as the client consumes the file.
+     *
+     * @param format  {@code csv} or {@code ndjson}
+     * @param gzip    whether to compress the file
+     * @param afterId the id of the last user already received, to resume an interrupted export
+     * @return the file
+     * @see UsersController#exportUsers
+     */
+    @GetMapping("/exportUsers")
+    public ResponseEntity<Flux<DataBuffer>> exportUsers(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+            @RequestParam(value = "afterId", defaultValue = "0") long afterId) {
+        // Resolved before the body starts streaming, so a bad format still gets an error response
+        UserExportFormat exportFormat = UserExportFormat.of(format);
+        Flux<DataBuffer> body = Flux.from(DataBufferUtils.outputStreamPublisher(outputStream -> {
+            try {
+                exportUsersUseCase.execute(exportFormat, gzip, afterId, outputStream);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }, DefaultDataBufferFactory.sharedInstance, Schedulers.boundedElastic()::schedule));
+        return ResponseEntity.ok()
+                .headers(UsersController.exportHeaders(exportFormat, gzip))
+                .body(body);
+    }
+
+    private ResponseEntity<ResponseWrapper<GetUserResponse>> createUserResponse(UserDTO user) {
+        ResponseWrapper<GetUserResponse> response = ResponseWrapper.<GetUserResponse>builder()
+                .data(GetUserResponse.builder().user(user).build())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+}
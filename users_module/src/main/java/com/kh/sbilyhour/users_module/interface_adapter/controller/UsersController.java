@@ -1,48 +1,129 @@
 package com.kh.sbilyhour.users_module.interface_adapter.controller;
 
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.kh.sbilyhour.common_module.domain.model.ResponseWrapper;
+import com.kh.sbilyhour.common_module.domain.utils.JsonUtils;
+import com.kh.sbilyhour.users_module.application.dto.get_user.GetUserResponse;
+import com.kh.sbilyhour.users_module.application.dto.list_users.ListUsersResponse;
 import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserRequest;
 import com.kh.sbilyhour.users_module.application.dto.register_user.RegisterUserResponse;
+import com.kh.sbilyhour.users_module.application.dto.register_users.RegisterUserResult;
+import com.kh.sbilyhour.users_module.application.dto.register_users.RegisterUsersRequest;
+import com.kh.sbilyhour.users_module.application.dto.register_users.RegisterUsersResponse;
+import com.kh.sbilyhour.users_module.application.dto.registration_status.RegistrationStatusResponse;
+import com.kh.sbilyhour.users_module.application.dto.search_users.SearchUsersResponse;
 import com.kh.sbilyhour.users_module.application.use_case.CreateUserUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.CreateUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.ExportUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.GetRegistrationStatusUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.GetUserByFullNameUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.GetUserByIdUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.GetUserByPhoneNumberUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.ListUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.SearchUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.StreamUsersUseCase;
+import com.kh.sbilyhour.users_module.application.use_case.SubmitUserUseCase;
 import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import com.kh.sbilyhour.users_module.domain.utils.UserCursor;
+import com.kh.sbilyhour.users_module.infrastructure.exporter.UserExportFormat;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
 /**
  * Controller for managing user-related operations.
  * <p>
- * This class handles incoming requests for user creation and delegates
- * the business logic to the appropriate use case.
+ * This class handles incoming requests for user creation and lookup and
+ * delegates the business logic to the appropriate use case.
  * </p>
  */
 @RestController
 @RequestMapping("/core/auth/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Validated  // Ensure that validation is applied at the controller level
 public class UsersController {
 
+    /**
+     * Number of users written to a stream between two flushes to the client.
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 500;
+
     private final CreateUserUseCase createUserUseCase;
+    private final CreateUsersUseCase createUsersUseCase;
+    private final GetUserByIdUseCase getUserByIdUseCase;
+    private final GetUserByFullNameUseCase getUserByFullNameUseCase;
+    private final GetUserByPhoneNumberUseCase getUserByPhoneNumberUseCase;
+    private final ListUsersUseCase listUsersUseCase;
+    private final SearchUsersUseCase searchUsersUseCase;
+    private final StreamUsersUseCase streamUsersUseCase;
+    private final ExportUsersUseCase exportUsersUseCase;
+    private final SubmitUserUseCase submitUserUseCase;
+    private final GetRegistrationStatusUseCase getRegistrationStatusUseCase;
+    // Only used by streamUsers; injected as a lazy proxy to keep it out of startup
+    private final JsonUtils jsonUtils;
 
     @Autowired
-    public UsersController(CreateUserUseCase createUserUseCase) {
+    public UsersController(CreateUserUseCase createUserUseCase, CreateUsersUseCase createUsersUseCase,
+                           GetUserByIdUseCase getUserByIdUseCase, GetUserByFullNameUseCase getUserByFullNameUseCase,
+                           GetUserByPhoneNumberUseCase getUserByPhoneNumberUseCase,
+                           ListUsersUseCase listUsersUseCase, SearchUsersUseCase searchUsersUseCase,
+                           StreamUsersUseCase streamUsersUseCase, ExportUsersUseCase exportUsersUseCase,
+                           SubmitUserUseCase submitUserUseCase, GetRegistrationStatusUseCase getRegistrationStatusUseCase,
+                           @Lazy JsonUtils jsonUtils) {
         this.createUserUseCase = createUserUseCase;
+        this.createUsersUseCase = createUsersUseCase;
+        this.getUserByIdUseCase = getUserByIdUseCase;
+        this.getUserByFullNameUseCase = getUserByFullNameUseCase;
+        this.getUserByPhoneNumberUseCase = getUserByPhoneNumberUseCase;
+        this.listUsersUseCase = listUsersUseCase;
+        this.searchUsersUseCase = searchUsersUseCase;
+        this.streamUsersUseCase = streamUsersUseCase;
+        this.exportUsersUseCase = exportUsersUseCase;
+        this.submitUserUseCase = submitUserUseCase;
+        this.getRegistrationStatusUseCase = getRegistrationStatusUseCase;
+        this.jsonUtils = jsonUtils;
     }
 
     /**
      * Handles the creation of a new user.
+     * <p>
+     * With write-behind enabled the user is only queued: the response is
+     * 202 Accepted with a tracking token for {@code /getRegistrationStatus},
+     * or 503 if too many registrations are pending.
+     * </p>
      *
      * @param request the request object containing user details
-     * @return a ResponseEntity containing the response wrapper with user details
+     * @return a ResponseEntity containing the response wrapper with user details, or with the registration status
      */
     @PostMapping("/createUser")
-    public ResponseEntity<ResponseWrapper<RegisterUserResponse>> createUser(@Valid @RequestBody RegisterUserRequest request) {
+    public ResponseEntity<? extends ResponseWrapper<?>> createUser(@Valid @RequestBody RegisterUserRequest request) {
+        if (submitUserUseCase.isEnabled()) {
+            ResponseWrapper<RegistrationStatusResponse> response = ResponseWrapper.<RegistrationStatusResponse>builder()
+                    .data(submitUserUseCase.execute(request))
+                    .build();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+        }
+
         // Create the user
         UserDTO registeredUser = createUserUseCase.execute(request);
 
@@ -60,4 +141,185 @@ public class UsersController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Handles the creation of many users in one request.
+     * <p>
+     * Each user is validated and registered independently; the response holds
+     * one result per requested user, in request order.
+     * </p>
+     *
+     * @param request the request object containing the users to create
+     * @return a ResponseEntity containing the per-user results
+     */
+    @PostMapping("/createUsers")
+    public ResponseEntity<ResponseWrapper<RegisterUsersResponse>> createUsers(@Valid @RequestBody RegisterUsersRequest request) {
+        // Create the users
+        List<RegisterUserResult> results = createUsersUseCase.execute(request.getUsers());
+
+        // Wrap the response
+        ResponseWrapper<RegisterUsersResponse> response = ResponseWrapper.<RegisterUsersResponse>builder()
+                .data(RegisterUsersResponse.builder().results(results).build())
+                .build();
+
+        // Return the response entity
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Returns the user with the given id.
+     *
+     * @param id the id of the user
+     * @return a ResponseEntity containing the user, or a 404 error if there is none
+     */
+    @GetMapping("/getUserById/{id}")
+    public ResponseEntity<ResponseWrapper<GetUserResponse>> getUserById(@PathVariable("id") Long id) {
+        return createUserResponse(getUserByIdUseCase.execute(id));
+    }
+
+    /**
+     * Returns the user with the given full name, as registered.
+     *
+     * @param fullName the full name of the user
+     * @return a ResponseEntity containing the user, or a 404 error if there is none
+     */
+    @GetMapping("/getUserByFullName")
+    public ResponseEntity<ResponseWrapper<GetUserResponse>> getUserByFullName(@RequestParam("fullName") String fullName) {
+        return createUserResponse(getUserByFullNameUseCase.execute(fullName));
+    }
+
+    /**
+     * Returns the first user registered with the given phone number.
+     *
+     * @param phoneNumber the phone number of the user
+     * @return a ResponseEntity containing the user, or a 404 error if there is none
+     */
+    @GetMapping("/getUserByPhoneNumber")
+    public ResponseEntity<ResponseWrapper<GetUserResponse>> getUserByPhoneNumber(@RequestParam("phoneNumber") String phoneNumber) {
+        return createUserResponse(getUserByPhoneNumberUseCase.execute(phoneNumber));
+    }
+
+    /**
+     * Returns the status of an asynchronous registration.
+     *
+     * @param token the tracking token returned by {@code /createUser}
+     * @return a ResponseEntity containing the status, or a 404 error if the token is unknown or has expired
+     */
+    @GetMapping("/getRegistrationStatus/{token}")
+    public ResponseEntity<ResponseWrapper<RegistrationStatusResponse>> getRegistrationStatus(@PathVariable("token") String token) {
+        ResponseWrapper<RegistrationStatusResponse> response = ResponseWrapper.<RegistrationStatusResponse>builder()
+                .data(getRegistrationStatusUseCase.execute(token))
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Returns one page of users in id order.
+     *
+     * @param cursor the cursor of the page, as returned with the previous page; absent for the first page
+     * @param limit  the maximum number of users in the page
+     * @return a ResponseEntity containing the users and the cursor of the next page, if any
+     */
+    @GetMapping("/listUsers")
+    public ResponseEntity<ResponseWrapper<ListUsersResponse>> listUsers(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", defaultValue = "" + ListUsersUseCase.DEFAULT_LIMIT) int limit) {
+        ResponseWrapper<ListUsersResponse> response = ResponseWrapper.<ListUsersResponse>builder()
+                .data(listUsersUseCase.execute(cursor, limit))
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Returns the users whose full name looks like the query: misspelt, partial
+     * or only the beginning of it. Answered from an in-memory index.
+     *
+     * @param query the name to look for
+     * @param limit the maximum number of users to return
+     * @return a ResponseEntity containing the users, best match first
+     */
+    @GetMapping("/searchUsers")
+    public ResponseEntity<ResponseWrapper<SearchUsersResponse>> searchUsers(
+            @RequestParam("query") String query,
+            @RequestParam(value = "limit", defaultValue = "" + SearchUsersUseCase.DEFAULT_LIMIT) int limit) {
+        ResponseWrapper<SearchUsersResponse> response = ResponseWrapper.<SearchUsersResponse>builder()
+                .data(searchUsersUseCase.execute(query, limit))
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Streams all users in id order as newline-delimited JSON, one user per
+     * line, without the response envelope. Users are written as they are read
+     * from the database and flushed to the client every
+     * {@value #STREAM_FLUSH_INTERVAL} users.
+     *
+     * @param cursor a cursor from {@code /listUsers} to resume after; absent to stream all users
+     * @return a ResponseEntity streaming the users
+     */
+    @GetMapping("/streamUsers")
+    public ResponseEntity<StreamingResponseBody> streamUsers(@RequestParam(value = "cursor", required = false) String cursor) {
+        // Decoded before the body starts streaming, so a bad cursor still gets an error response
+        long afterId = UserCursor.decode(cursor);
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = jsonUtils.writeValues(outputStream)) {
+                long[] written = {0};
+                streamUsersUseCase.execute(afterId, user -> {
+                    try {
+                        writer.write(user);
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            writer.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            outputStream.write('\n');
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Exports all users in id order as a CSV or NDJSON file, optionally
+     * gzip-compressed, e.g. for analytics handoffs. Users are encoded as they
+     * are read from a forward-only cursor, so the export takes the same
+     * memory whatever the size of the table.
+     *
+     * @param format  {@code csv} or {@code ndjson}
+     * @param gzip    whether to compress the file
+     * @param afterId the id of the last user already received, to resume an interrupted export
+     * @return a ResponseEntity streaming the file
+     */
+    @GetMapping("/exportUsers")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip,
+            @RequestParam(value = "afterId", defaultValue = "0") long afterId) {
+        // Resolved before the body starts streaming, so a bad format still gets an error response
+        UserExportFormat exportFormat = UserExportFormat.of(format);
+        StreamingResponseBody body = outputStream -> exportUsersUseCase.execute(exportFormat, gzip, afterId, outputStream);
+        return ResponseEntity.ok()
+                .headers(exportHeaders(exportFormat, gzip))
+                .body(body);
+    }
+
+    /**
+     * Returns the content type and file name of an export.
+     */
+    static HttpHeaders exportHeaders(UserExportFormat format, boolean gzip) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()));
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("users." + format.getExtension() + (gzip ? ".gz" : ""))
+                .build());
+        return headers;
+    }
+
+    private ResponseEntity<ResponseWrapper<GetUserResponse>> createUserResponse(UserDTO user) {
+        ResponseWrapper<GetUserResponse> response = ResponseWrapper.<GetUserResponse>builder()
+                .data(GetUserResponse.builder().user(user).build())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
 }
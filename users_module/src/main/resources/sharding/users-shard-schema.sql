@@ -0,0 +1,16 @@
+-- Users table of one shard, the same as the one Hibernate creates for User,
+-- except that ids are allocated by UserShard rather than by Hibernate.
+create table if not exists users (
+    id                   bigint       not null primary key,
+    full_name            varchar(255) not null,
+    normalized_full_name varchar(255) not null,
+    phone_number         varchar(255) not null,
+    gender               varchar(255) not null,
+    create_date          varchar(255) not null,
+    constraint uk_users_normalized_full_name unique (normalized_full_name)
+);
+
+create index if not exists idx_users_full_name on users (full_name);
+
+-- Increment of UserShard.ID_BLOCK_SIZE
+create sequence if not exists users_seq start with 1 increment by 50;
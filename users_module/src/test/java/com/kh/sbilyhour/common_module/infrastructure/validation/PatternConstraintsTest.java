@@ -0,0 +1,91 @@
+package com.kh.sbilyhour.common_module.infrastructure.validation;
+
+import jakarta.validation.constraints.Pattern;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Runs every {@code @Pattern} expression of the application through both
+ * {@link CharacterPattern} and {@code java.util.regex}, so that a constraint
+ * added later cannot be validated differently by {@link PrecompiledValidator}.
+ */
+class PatternConstraintsTest {
+
+    @Test
+    void everyPatternConstraintMatchesLikeJavaUtilRegex() throws Exception {
+        Set<String> regexps = patternRegexps();
+        assertFalse(regexps.isEmpty());
+
+        Random random = new Random(42);
+        for (String regexp : regexps) {
+            CharacterPattern characterPattern = CharacterPattern.compile(regexp);
+            if (characterPattern == null) {
+                continue;
+            }
+            java.util.regex.Pattern pattern = java.util.regex.Pattern.compile(regexp);
+            String alphabet = alphabet(regexp);
+            for (int n = 0; n < 100_000; n++) {
+                StringBuilder input = new StringBuilder();
+                int length = random.nextInt(16);
+                for (int i = 0; i < length; i++) {
+                    input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                assertEquals(pattern.matcher(input).matches(), characterPattern.matches(input),
+                        "'" + regexp + "' on '" + input + "'");
+            }
+        }
+    }
+
+    @Test
+    void requestPatternsArePrecompiled() {
+        assertNotNull(CharacterPattern.compile("^[0-9]{8,9}$"));
+        assertNotNull(CharacterPattern.compile("^[MF]$"));
+    }
+
+    private static Set<String> patternRegexps() throws ClassNotFoundException {
+        // Every class, interfaces and nested classes included
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+        Set<String> regexps = new TreeSet<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents("com.kh.sbilyhour")) {
+            Class<?> type = Class.forName(candidate.getBeanClassName());
+            List<AnnotatedElement> elements = new ArrayList<>(List.of(type.getDeclaredFields()));
+            elements.addAll(List.of(type.getDeclaredMethods()));
+            for (AnnotatedElement element : elements) {
+                for (Pattern annotation : element.getAnnotationsByType(Pattern.class)) {
+                    regexps.add(annotation.regexp());
+                }
+            }
+        }
+        return regexps;
+    }
+
+    /**
+     * The characters of the expression and their neighbours, so that range
+     * bounds are crossed, plus a surrogate pair.
+     */
+    private static String alphabet(String regexp) {
+        StringBuilder alphabet = new StringBuilder("😀 ");
+        regexp.chars().distinct().forEach(c -> alphabet.append((char) (c - 1)).append((char) c).append((char) (c + 1)));
+        return alphabet.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package com.kh.sbilyhour.users_module;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the time from launching the application with the
+ * {@code fast-startup} profile until its first successful {@code createUser}.
+ * <p>
+ * Only runs with {@code -Dstartuptest=true}. The application runs in a fresh
+ * JVM, so no class loaded by other tests skews the result. The limit is
+ * {@code startup.max-time-to-first-request}, PT10S by default; CI should pin
+ * a value measured on its own hardware. The measured time is written to
+ * {@code target/startup-time-test.txt}. With {@code -Dstartup.aot=true}, set
+ * by the fast-startup Maven profile, the AOT initializers are used; extra
+ * JVM options can be passed in {@code startup.jvm-args}.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "startuptest", matches = "true")
+class StartupTimeTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    @Test
+    void firstCreateUserSucceedsWithinLimit() throws Exception {
+        Duration limit = Duration.parse(System.getProperty("startup.max-time-to-first-request", "PT10S"));
+        int port = freePort();
+        Path target = Files.createDirectories(Path.of("target"));
+        Path log = target.resolve("startup-time-test.log");
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/core/auth/v1/createUser"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"fullName\":\"First User\",\"phoneNumber\":\"012345678\",\"gender\":\"M\"}"))
+                .build();
+
+        long start = System.nanoTime();
+        Process application = new ProcessBuilder(command(port))
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            // Give up well after the limit, so a slow start is reported with its actual time
+            long deadline = start + limit.multipliedBy(3).toNanos();
+            int status = -1;
+            while (status != 201 && application.isAlive() && System.nanoTime() < deadline) {
+                status = post(httpClient, request);
+                if (status != 201) {
+                    Thread.sleep(POLL_INTERVAL);
+                }
+            }
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            Files.writeString(target.resolve("startup-time-test.txt"), String.format(
+                    "Time to first createUser: %d ms (limit %d ms), status %d%n", elapsed.toMillis(), limit.toMillis(), status));
+
+            assertEquals(201, status, "The application did not register a user, see " + log.toAbsolutePath());
+            assertTrue(elapsed.compareTo(limit) <= 0,
+                    "Time to first createUser was " + elapsed.toMillis() + " ms, limit is " + limit.toMillis() + " ms");
+        } finally {
+            application.destroy();
+            application.waitFor();
+        }
+    }
+
+    private List<String> command(int port) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        String jvmArgs = System.getProperty("startup.jvm-args", "").trim();
+        if (!jvmArgs.isEmpty()) {
+            command.addAll(Arrays.asList(jvmArgs.split("\\s+")));
+        }
+        if (Boolean.getBoolean("startup.aot")) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(UsersModuleApplication.class.getName());
+        command.add("--spring.profiles.active=fast-startup");
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:h2:mem:startup");
+        return command;
+    }
+
+    private static int post(HttpClient httpClient, HttpRequest request) throws IOException, InterruptedException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (ConnectException e) {
+            // Not listening yet
+            return -1;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
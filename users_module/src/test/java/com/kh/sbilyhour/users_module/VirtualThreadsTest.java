@@ -0,0 +1,226 @@
+package com.kh.sbilyhour.users_module;
+
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import com.kh.sbilyhour.users_module.infrastructure.persistence.repository.UserJpaRepository;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks what {@code spring.threads.virtual.enabled} changes for the
+ * application: the Tomcat executor, the task executor, and how many
+ * {@code createUser} requests can block on the repository at once.
+ * <p>
+ * The duplicate-name check of every registration is held in the repository
+ * until the test releases it, standing in for a slow database. On virtual
+ * threads more requests than Tomcat has platform workers are blocked
+ * together; on platform threads they queue behind {@code server.tomcat.threads.max}.
+ * The name filter is disabled so that every registration reaches the check.
+ * </p>
+ */
+class VirtualThreadsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    @Nested
+    @Import(GatedRepositoryConfig.class)
+    @SpringBootTest(classes = UsersModuleApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=true", "users.name-filter.enabled=false",
+                    "spring.datasource.url=jdbc:h2:mem:virtual-threads"})
+    class VirtualThreads {
+
+        /**
+         * More than Tomcat's default of 200 platform workers.
+         */
+        private static final int REQUESTS = 300;
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private ServletWebServerApplicationContext context;
+
+        @Autowired
+        private GatedRepositoryConfig gate;
+
+        @Autowired
+        @Qualifier("applicationTaskExecutor")
+        private AsyncTaskExecutor taskExecutor;
+
+        @Test
+        void tomcatAndTaskExecutorUseVirtualThreads() throws Exception {
+            TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+            assertInstanceOf(VirtualThreadExecutor.class,
+                    webServer.getTomcat().getConnector().getProtocolHandler().getExecutor());
+            assertTrue(taskExecutor.submit(() -> Thread.currentThread().isVirtual()).get());
+        }
+
+        @Test
+        void blockedRegistrationsAreNotBoundedByAWorkerPool() throws Exception {
+            CountDownLatch allBlocked = gate.expect(REQUESTS);
+            List<CompletableFuture<HttpResponse<Void>>> responses = createUsers(port, "virtual", REQUESTS);
+            try {
+                assertTrue(allBlocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS),
+                        "Only " + gate.blocked() + " of " + REQUESTS + " registrations were running at once");
+                assertEquals(REQUESTS, gate.blockedOnVirtualThreads());
+            } finally {
+                gate.release();
+            }
+            assertAllCreated(responses);
+        }
+    }
+
+    @Nested
+    @Import(GatedRepositoryConfig.class)
+    @SpringBootTest(classes = UsersModuleApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+            properties = {"spring.threads.virtual.enabled=false", "users.name-filter.enabled=false",
+                    "server.tomcat.threads.max=" + PlatformThreads.WORKERS,
+                    "spring.datasource.url=jdbc:h2:mem:platform-threads"})
+    class PlatformThreads {
+
+        static final int WORKERS = 20;
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private ServletWebServerApplicationContext context;
+
+        @Autowired
+        private GatedRepositoryConfig gate;
+
+        @Test
+        void blockedRegistrationsAreBoundedByTomcatWorkers() throws Exception {
+            TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+            assertFalse(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor()
+                    instanceof VirtualThreadExecutor);
+
+            CountDownLatch workersBlocked = gate.expect(WORKERS);
+            List<CompletableFuture<HttpResponse<Void>>> responses = createUsers(port, "platform", WORKERS * 2);
+            try {
+                assertTrue(workersBlocked.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+                // The other requests wait for a worker however long the repository blocks
+                Thread.sleep(500);
+                assertEquals(WORKERS, gate.blocked());
+                assertEquals(0, gate.blockedOnVirtualThreads());
+            } finally {
+                gate.release();
+            }
+            assertAllCreated(responses);
+        }
+    }
+
+    private static List<CompletableFuture<HttpResponse<Void>>> createUsers(int port, String prefix, int count) {
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        URI uri = URI.create("http://localhost:" + port + "/core/auth/v1/createUser");
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .timeout(TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"fullName\":\"" + prefix + " user " + i + "\",\"phoneNumber\":\"012345678\",\"gender\":\"M\"}"))
+                    .build();
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        return responses;
+    }
+
+    private static void assertAllCreated(List<CompletableFuture<HttpResponse<Void>>> responses) throws Exception {
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            assertEquals(201, response.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).statusCode());
+        }
+    }
+
+    /**
+     * Puts the JPA repository behind a proxy whose duplicate-name check
+     * blocks, while armed, until {@link #release()}.
+     */
+    @TestConfiguration
+    static class GatedRepositoryConfig {
+
+        private final AtomicInteger blocked = new AtomicInteger();
+        private final AtomicInteger blockedOnVirtualThreads = new AtomicInteger();
+        private volatile CountDownLatch arrived = new CountDownLatch(0);
+        private volatile CountDownLatch released = new CountDownLatch(0);
+
+        @Bean
+        @Primary
+        UserRepository gatedUserRepository(UserJpaRepository delegate) {
+            return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                    new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("existsByNormalizedFullName")) {
+                            block();
+                        }
+                        try {
+                            return method.invoke(delegate, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        CountDownLatch expect(int calls) {
+            blocked.set(0);
+            blockedOnVirtualThreads.set(0);
+            released = new CountDownLatch(1);
+            arrived = new CountDownLatch(calls);
+            return arrived;
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        int blocked() {
+            return blocked.get();
+        }
+
+        int blockedOnVirtualThreads() {
+            return blockedOnVirtualThreads.get();
+        }
+
+        private void block() throws InterruptedException {
+            CountDownLatch gate = released;
+            if (gate.getCount() == 0) {
+                return;
+            }
+            blocked.incrementAndGet();
+            if (Thread.currentThread().isVirtual()) {
+                blockedOnVirtualThreads.incrementAndGet();
+            }
+            arrived.countDown();
+            gate.await();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+
+    @Test
+    void everyAddedValueIsReported() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user " + i);
+        }
+
+        for (int i = 0; i < INSERTIONS; i++) {
+            assertTrue(filter.mightContain("user " + i), "False negative for user " + i);
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTarget() {
+        double target = 0.01;
+        BloomFilter filter = new BloomFilter(INSERTIONS, target);
+        for (int i = 0; i < INSERTIONS; i++) {
+            filter.put("user " + i);
+        }
+
+        int falsePositives = 0;
+        int lookups = 200_000;
+        for (int i = 0; i < lookups; i++) {
+            if (filter.mightContain("other " + i)) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / lookups;
+        // Deterministic hashes: the bound only guards against a broken filter, not against bad luck
+        assertTrue(rate < target * 2, "False-positive rate " + rate + " for a target of " + target);
+        assertTrue(filter.expectedFalsePositiveProbability() < target * 1.5);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        assertFalse(filter.mightContain("anyone"));
+        assertFalse(filter.mightContain(""));
+    }
+
+    @Test
+    void rejectsInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1000, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1000, 1));
+    }
+}
@@ -0,0 +1,84 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongLongHashMapTest {
+
+    private static final long MISSING = -1;
+
+    @Test
+    void missingKeyReturnsMissingValue() {
+        LongLongHashMap map = new LongLongHashMap(0);
+        assertEquals(MISSING, map.get(42, MISSING));
+
+        map.put(42, 7);
+        assertEquals(7, map.get(42, MISSING));
+        assertEquals(MISSING, map.get(43, MISSING));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void putReplacesTheValueOfAnExistingKey() {
+        LongLongHashMap map = new LongLongHashMap(16);
+        map.put(1, 10);
+        map.put(1, 11);
+
+        assertEquals(11, map.get(1, MISSING));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void growsPastItsExpectedSize() {
+        LongLongHashMap map = new LongLongHashMap(1);
+        long initialBytes = map.tableBytes();
+        for (long key = 1; key <= 100_000; key++) {
+            map.put(key, key * 3);
+        }
+
+        assertEquals(100_000, map.size());
+        assertTrue(map.tableBytes() > initialBytes);
+        for (long key = 1; key <= 100_000; key++) {
+            assertEquals(key * 3, map.get(key, MISSING));
+        }
+        assertEquals(MISSING, map.get(100_001, MISSING));
+    }
+
+    @Test
+    void keysCollidingInTheTableAreKeptApart() {
+        // A map for 16 entries has 32 slots; take keys hashing to the last one, so their probe chain wraps around
+        LongLongHashMap map = new LongLongHashMap(16);
+        int mask = 31;
+        long[] keys = new long[8];
+        int found = 0;
+        for (long key = 1; found < keys.length; key++) {
+            if (LongLongHashMap.slot(key, mask) == mask) {
+                keys[found++] = key;
+            }
+        }
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], i);
+        }
+
+        assertEquals(keys.length, map.size());
+        assertEquals(32 * 2 * Long.BYTES, map.tableBytes());
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, map.get(keys[i], MISSING));
+        }
+        long absent = keys[keys.length - 1] + 1;
+        while (LongLongHashMap.slot(absent, mask) != mask) {
+            absent++;
+        }
+        assertEquals(MISSING, map.get(absent, MISSING));
+    }
+
+    @Test
+    void rejectsKeysThatAreNotPositive() {
+        LongLongHashMap map = new LongLongHashMap(16);
+        assertThrows(IllegalArgumentException.class, () -> map.put(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> map.put(-5, 1));
+    }
+}
@@ -0,0 +1,114 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import com.kh.sbilyhour.users_module.domain.utils.FullNameNormalizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrigramIndexTest {
+
+    private static final String[] SYLLABLES = {"ka", "so", "ri", "tha", "vy", "mo", "na", "da", "chan", "li", "sok", "ra"};
+
+    @Test
+    void ranksLikeABruteForceDiceScan() {
+        Random random = new Random(7);
+        for (int users : new int[]{10, 1_000, 20_000, 100_000}) {
+            TrigramIndex index = new TrigramIndex(16);
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                String name = FullNameNormalizer.normalize(word(random) + (random.nextInt(5) == 0 ? "" : " " + word(random)));
+                names.add(name);
+                index.add(i + 1, name);
+                // Names added after a trim go to lists already turned into arrays or bitmaps
+                if (i == users / 2) {
+                    index.trim();
+                }
+            }
+            index.trim();
+
+            for (int n = 0; n < 200; n++) {
+                String name = names.get(random.nextInt(users));
+                String query = switch (n % 4) {
+                    case 0 -> name;
+                    case 1 -> {
+                        int dropped = random.nextInt(name.length());
+                        yield name.substring(0, dropped) + name.substring(dropped + 1);
+                    }
+                    case 2 -> name.substring(0, 1 + random.nextInt(name.length()));
+                    default -> word(random) + " " + word(random).substring(0, 2);
+                };
+                query = FullNameNormalizer.normalize(query);
+                int limit = new int[]{1, 3, 10, 50}[random.nextInt(4)];
+                double minSimilarity = new double[]{0.3, 0.5, 0.7, 1.0}[random.nextInt(4)];
+
+                assertArrayEquals(bruteForce(names, query, limit, minSimilarity), index.search(query, limit, minSimilarity),
+                        "'" + query + "' in " + users + " names, limit " + limit + ", similarity " + minSimilarity);
+            }
+        }
+    }
+
+    @Test
+    void keepsTheFirstNameOfAUser() {
+        TrigramIndex index = new TrigramIndex(16);
+        index.add(1, "sok dara");
+        index.add(2, "chan vy");
+        index.add(1, "sok dara");
+        index.add(1, "chan vy");
+
+        assertEquals(2, index.size());
+        assertArrayEquals(new long[]{1}, index.search("sok dara", 10, 0.5));
+        assertArrayEquals(new long[]{2}, index.search("chan vy", 10, 0.5));
+    }
+
+    @Test
+    void findsNothingForAnEmptyQueryOrIndex() {
+        TrigramIndex index = new TrigramIndex(16);
+        assertEquals(0, index.search("sok", 10, 0.5).length);
+
+        index.add(1, "sok dara");
+        assertEquals(0, index.search("", 10, 0.5).length);
+        assertEquals(0, index.search("sok", 0, 0.5).length);
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int syllables = 1 + random.nextInt(3); syllables > 0; syllables--) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    /**
+     * Scores every name, ranks by Dice coefficient then by order of addition,
+     * ids being the positions plus one.
+     */
+    private static long[] bruteForce(List<String> names, String query, int limit, double minSimilarity) {
+        long[] queryGrams = TrigramIndex.grams(query, true);
+        if (queryGrams.length == 0) {
+            return new long[0];
+        }
+        int required = Math.max(1, (int) Math.ceil(queryGrams.length * minSimilarity));
+        List<float[]> matches = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            long[] nameGrams = TrigramIndex.grams(names.get(i), false);
+            int count = 0;
+            for (long gram : queryGrams) {
+                if (Arrays.binarySearch(nameGrams, gram) >= 0) {
+                    count++;
+                }
+            }
+            if (count >= required) {
+                matches.add(new float[]{2f * count / (queryGrams.length + nameGrams.length), i});
+            }
+        }
+        matches.sort(Comparator.<float[]>comparingDouble(match -> -match[0]).thenComparingDouble(match -> match[1]));
+        return matches.stream().limit(limit).mapToLong(match -> (long) match[1] + 1).toArray();
+    }
+}
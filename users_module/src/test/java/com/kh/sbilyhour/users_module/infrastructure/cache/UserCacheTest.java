@@ -0,0 +1,45 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import com.kh.sbilyhour.users_module.application.dto.UserDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class UserCacheTest {
+
+    private final UserCache userCache = new UserCache(new SimpleMeterRegistry(), 100,
+            Duration.ofMinutes(10), Duration.ofMinutes(10));
+
+    private final UserDTO user = new UserDTO(1L, "Alice", "012345678", "F");
+
+    @Test
+    void reactiveMissDoesNotOverwriteUserRegisteredDuringTheLookup() {
+        // The lookup misses in the database, then the registration commits and caches the user
+        Optional<UserDTO> byId = userCache.getByIdReactive(1L, id -> Mono.fromSupplier(() -> {
+            userCache.put(user);
+            return Optional.<UserDTO>empty();
+        })).block();
+        Optional<UserDTO> byFullName = userCache.getByFullNameReactive("Alice", fullName -> Mono.fromSupplier(() -> {
+            userCache.put(user);
+            return Optional.<UserDTO>empty();
+        })).block();
+
+        assertEquals(Optional.of(user), byId);
+        assertEquals(Optional.of(user), byFullName);
+        assertEquals(Optional.of(user), userCache.getById(1L, id -> fail("The user should be cached")));
+        assertEquals(Optional.of(user), userCache.getByFullName("Alice", fullName -> fail("The user should be cached")));
+    }
+
+    @Test
+    void reactiveMissIsCachedWhenNothingWasWritten() {
+        assertTrue(userCache.getByIdReactive(2L, id -> Mono.just(Optional.empty())).block().isEmpty());
+        assertTrue(userCache.getById(2L, id -> fail("The missing user should be cached")).isEmpty());
+    }
+}
@@ -0,0 +1,54 @@
+package com.kh.sbilyhour.users_module.infrastructure.cache;
+
+import com.kh.sbilyhour.users_module.domain.projection.UserNormalizedFullName;
+import com.kh.sbilyhour.users_module.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserNameSearchIndexTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final UserNameSearchIndex index = new UserNameSearchIndex(userRepository,
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), true, 0.5);
+
+    @Test
+    void userRegisteredDuringARebuildIsFoundOnce() {
+        UserNormalizedFullName dara = new UserNormalizedFullName(1, "sok dara");
+        UserNormalizedFullName vy = new UserNormalizedFullName(2, "chan vy");
+        when(userRepository.count()).thenReturn(1L, 2L);
+        when(userRepository.streamAllNormalizedFullNamesInIdOrder()).thenReturn(Stream.of(dara));
+        index.rebuild();
+
+        // The user commits while the rebuild reads the table, so it reaches the new index twice
+        when(userRepository.streamAllNormalizedFullNamesInIdOrder()).thenReturn(Stream.of(dara, vy).peek(row -> {
+            if (row == vy) {
+                index.put(vy.normalizedFullName(), vy.id());
+                index.awaitWriter();
+            }
+        }));
+        index.rebuild();
+
+        assertArrayEquals(new long[]{2}, index.search("chan vy", 10));
+        assertArrayEquals(new long[]{1}, index.search("sok dara", 10));
+    }
+
+    @Test
+    void registeredUserIsFoundOnceTheWriterHasAddedIt() {
+        when(userRepository.count()).thenReturn(0L);
+        when(userRepository.streamAllNormalizedFullNamesInIdOrder()).thenReturn(Stream.empty());
+        index.rebuild();
+
+        index.put("chan vy", 2);
+        index.awaitWriter();
+
+        assertArrayEquals(new long[]{2}, index.search("chan vy", 10));
+    }
+}